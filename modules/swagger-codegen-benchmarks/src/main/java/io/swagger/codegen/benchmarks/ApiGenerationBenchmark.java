@@ -0,0 +1,96 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Info;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import io.swagger.models.Tag;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the API generation of the Java client generator for a spec with one operation per tag, without rendering any
+ * file, to show how the per-tag bookkeeping scales with the number of tags. Since generating modifies the spec, a new
+ * spec is created before every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ApiGenerationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int tags;
+
+    private File outputDirectory;
+    private ClientOptInput input;
+
+    @Setup(Level.Trial)
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("codegen-api-generation-benchmark").toFile();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        final Swagger swagger = new Swagger().info(new Info().title("Tags").version("1.0.0"));
+        final List<Tag> specTags = new ArrayList<Tag>();
+        for (int i = 0; i < tags; i++) {
+            final String tag = "tag" + i;
+            specTags.add(new Tag().name(tag).description("Tag number " + i));
+            final Operation operation = new Operation().operationId("operation" + i).tag(tag)
+                    .response(200, new Response().description("OK"));
+            swagger.path("/resource" + i, new Path().get(operation));
+        }
+        swagger.setTags(specTags);
+
+        final CodegenConfig config = new JavaClientCodegen();
+        config.setOutputDir(outputDirectory.getAbsolutePath());
+        config.apiTemplateFiles().clear();
+        config.apiTestTemplateFiles().clear();
+        config.apiDocTemplateFiles().clear();
+        input = new ClientOptInput()
+                .opts(new ClientOpts())
+                .swagger(swagger)
+                .config(config);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutputDirectory() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Benchmark
+    public List<File> generateApis() {
+        final DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.APIS, "true");
+        return generator.opts(input).generate();
+    }
+}
@@ -0,0 +1,90 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ignore.CodegenIgnoreProcessor;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CodegenIgnoreProcessor#allowsFile(File)} for the files a Java client generated from a spec of the given
+ * size consists of, against an ignore file using all kinds of rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CodegenIgnoreProcessorBenchmark {
+
+    private static final List<String> RULES = Arrays.asList(
+            "# Synthetic ignore file",
+            "build.gradle",
+            "*.sbt",
+            "docs/",
+            "**/test/**",
+            "src/main/java/io/swagger/client/api/Tag1*.java",
+            "src/main/java/io/swagger/client/model/Model1?.java",
+            "**/*Address.java",
+            "!src/main/java/io/swagger/client/model/Model10Address.java",
+            "src/main/java/io/swagger/client/auth/*");
+
+    @Param({"10", "100", "1000", "10000"})
+    public int definitions;
+
+    private File outputDirectory;
+    private CodegenIgnoreProcessor processor;
+    private List<File> files;
+
+    @Setup
+    public void setUp() throws IOException {
+        outputDirectory = Files.createTempDirectory("codegen-ignore-benchmark").toFile();
+        FileUtils.writeLines(new File(outputDirectory, ".swagger-codegen-ignore"), StandardCharsets.UTF_8.name(), RULES);
+        processor = new CodegenIgnoreProcessor(outputDirectory.getAbsolutePath());
+
+        files = new ArrayList<>();
+        for (String supportingFile : Arrays.asList("README.md", "build.gradle", "build.sbt", "pom.xml",
+                "src/main/java/io/swagger/client/ApiClient.java", "src/main/java/io/swagger/client/auth/OAuth.java")) {
+            files.add(new File(outputDirectory, supportingFile));
+        }
+        for (int i = 0; i < definitions; i++) {
+            final String model = SyntheticSpecs.modelName(i);
+            files.add(new File(outputDirectory, "src/main/java/io/swagger/client/model/" + model + ".java"));
+            files.add(new File(outputDirectory, "src/main/java/io/swagger/client/model/" + model + "Address.java"));
+            files.add(new File(outputDirectory, "src/test/java/io/swagger/client/model/" + model + "Test.java"));
+            files.add(new File(outputDirectory, "docs/" + model + ".md"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Benchmark
+    public void allowsFile(Blackhole blackhole) {
+        for (File file : files) {
+            blackhole.consume(processor.allowsFile(file));
+        }
+    }
+}
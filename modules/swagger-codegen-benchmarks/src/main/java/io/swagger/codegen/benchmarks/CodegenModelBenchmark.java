@@ -0,0 +1,78 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.TypeResolutionCache;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of all definitions and operations of a spec into {@link io.swagger.codegen.CodegenModel}s and
+ * {@link io.swagger.codegen.CodegenOperation}s, using the Java client generator, with and without the types resolved
+ * during a generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CodegenModelBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int definitions;
+
+    @Param({"true", "false"})
+    public boolean typeResolutionCache;
+
+    private Swagger swagger;
+    private CodegenConfig config;
+
+    @Setup
+    public void setUp() {
+        swagger = SyntheticSpecs.create(definitions);
+        new InlineModelResolver().flatten(swagger);
+        config = new JavaClientCodegen();
+        config.processOpts();
+        config.preprocessSwagger(swagger);
+        config.setTypeResolutionCache(typeResolutionCache ? new TypeResolutionCache() : null);
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        final Map<String, Model> allDefinitions = swagger.getDefinitions();
+        for (Map.Entry<String, Model> definition : allDefinitions.entrySet()) {
+            blackhole.consume(config.fromModel(definition.getKey(), definition.getValue(), allDefinitions));
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole blackhole) {
+        final Map<String, Model> allDefinitions = swagger.getDefinitions();
+        for (Map.Entry<String, Path> path : swagger.getPaths().entrySet()) {
+            for (Map.Entry<HttpMethod, Operation> operation : path.getValue().getOperationMap().entrySet()) {
+                final String method = operation.getKey().name().toLowerCase();
+                blackhole.consume(config.fromOperation(path.getKey(), method, operation.getValue(), allDefinitions, swagger));
+            }
+        }
+    }
+}
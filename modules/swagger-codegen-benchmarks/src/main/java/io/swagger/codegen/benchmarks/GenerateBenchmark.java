@@ -0,0 +1,85 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a complete {@link DefaultGenerator#generate()} run of the Java client generator, including writing all files.
+ *
+ * <p>The generator writes through {@link File}s, so it cannot target an in-memory {@link java.nio.file.FileSystem}. To
+ * take the disk out of the measurement, point the system property {@code benchmark.outputDirectory} at a memory-backed
+ * directory such as {@code /dev/shm}. By default a temporary directory is used. Since generating modifies the spec and
+ * the output directory influences which files are written, both are recreated before every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GenerateBenchmark {
+
+    public static final String OUTPUT_DIRECTORY_PROPERTY = "benchmark.outputDirectory";
+
+    @Param({"10", "100", "1000", "10000"})
+    public int definitions;
+
+    private File outputDirectory;
+    private ClientOptInput input;
+
+    @Setup(Level.Trial)
+    public void createOutputDirectory() throws IOException {
+        final String parent = System.getProperty(OUTPUT_DIRECTORY_PROPERTY);
+        if (parent == null) {
+            outputDirectory = Files.createTempDirectory("codegen-generate-benchmark").toFile();
+        } else {
+            Files.createDirectories(new File(parent).toPath());
+            outputDirectory = Files.createTempDirectory(new File(parent).toPath(), "codegen-generate-benchmark").toFile();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() throws IOException {
+        FileUtils.cleanDirectory(outputDirectory);
+
+        final CodegenConfig config = new JavaClientCodegen();
+        config.setOutputDir(outputDirectory.getAbsolutePath());
+        input = new ClientOptInput()
+                .opts(new ClientOpts())
+                .swagger(SyntheticSpecs.create(definitions))
+                .config(config);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutputDirectory() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Benchmark
+    public List<File> generate() {
+        return new DefaultGenerator().opts(input).generate();
+    }
+}
@@ -0,0 +1,47 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.models.Swagger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link InlineModelResolver#flatten(Swagger)}. Since flattening modifies the spec, a new spec is created before
+ * every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InlineModelResolverBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int definitions;
+
+    private Swagger swagger;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        swagger = SyntheticSpecs.create(definitions);
+    }
+
+    @Benchmark
+    public Swagger flatten() {
+        new InlineModelResolver().flatten(swagger);
+        return swagger;
+    }
+}
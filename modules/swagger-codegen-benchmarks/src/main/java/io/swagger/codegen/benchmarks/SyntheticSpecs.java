@@ -0,0 +1,141 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.models.Info;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.RefModel;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.PathParameter;
+import io.swagger.models.parameters.QueryParameter;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.BooleanProperty;
+import io.swagger.models.properties.DateTimeProperty;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.LongProperty;
+import io.swagger.models.properties.MapProperty;
+import io.swagger.models.properties.ObjectProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds synthetic specs of a given size, so that benchmarks can show how the generator scales with the number of
+ * definitions.
+ *
+ * <p>Every definition {@code ModelN} has scalar, enum, date, array, map and reference properties, referencing up to two
+ * preceding definitions, and an inline object property to be flattened by the
+ * {@link io.swagger.codegen.InlineModelResolver}. Every tenth definition is exposed through a path with a get, put and
+ * delete operation, tagged with one of ten tags. The same size always yields the same spec.
+ */
+public final class SyntheticSpecs {
+
+    private static final int TAG_COUNT = 10;
+
+    private SyntheticSpecs() {
+    }
+
+    /**
+     * Creates a spec with {@code definitionCount} definitions.
+     *
+     * @param definitionCount the number of definitions
+     * @return a new spec, which may be modified by the caller
+     */
+    public static Swagger create(int definitionCount) {
+        final Swagger swagger = new Swagger()
+                .info(new Info().title("Synthetic API").version("1.0.0").description("A synthetic spec with " + definitionCount + " definitions"))
+                .host("api.example.com")
+                .basePath("/v1");
+
+        for (int i = 0; i < definitionCount; i++) {
+            swagger.addDefinition(modelName(i), createModel(i));
+        }
+        for (int i = 0; i < definitionCount; i += 10) {
+            swagger.path("/model" + i + "/{id}", createPath(i));
+        }
+        return swagger;
+    }
+
+    public static String modelName(int index) {
+        return "Model" + index;
+    }
+
+    private static Model createModel(int index) {
+        final ModelImpl model = new ModelImpl();
+        model.setType("object");
+        model.setDescription("Synthetic definition number " + index);
+        model.setRequired(Arrays.asList("id", "name"));
+
+        model.property("id", new LongProperty().description("The identifier"));
+        model.property("name", new StringProperty().example("name" + index));
+        model.property("count", new IntegerProperty().minimum(BigDecimal.ZERO).maximum(BigDecimal.valueOf(1000)));
+        model.property("active", new BooleanProperty());
+        model.property("createdAt", new DateTimeProperty());
+        model.property("status", new StringProperty()._enum(Arrays.asList("available", "pending", "sold")));
+        model.property("labels", new ArrayProperty(new StringProperty()));
+        model.property("attributes", new MapProperty(new StringProperty()));
+        // references stay shallow, like in real specs, so that the size of examples does not explode
+        if (index % 10 != 0) {
+            model.property("parent", new RefProperty("#/definitions/" + modelName(index - index % 10)));
+        }
+        if (index >= 10) {
+            model.property("related", new ArrayProperty(new RefProperty("#/definitions/" + modelName(index / 10))));
+        }
+
+        final Map<String, Property> inlineProperties = new LinkedHashMap<>();
+        inlineProperties.put("street", new StringProperty());
+        inlineProperties.put("zip", new IntegerProperty());
+        model.property("address", new ObjectProperty(inlineProperties));
+        return model;
+    }
+
+    private static Path createPath(int index) {
+        final String tag = "tag" + (index / 10) % TAG_COUNT;
+        final RefProperty response = new RefProperty("#/definitions/" + modelName(index));
+
+        final Operation get = new Operation()
+                .operationId("getModel" + index)
+                .tag(tag)
+                .summary("Returns a single instance")
+                .produces("application/json")
+                .parameter(idParameter())
+                .parameter(new QueryParameter().type("string").name("expand"))
+                .response(200, new Response().description("The instance").schema(response))
+                .response(404, new Response().description("Not found"));
+
+        final BodyParameter body = new BodyParameter();
+        body.setName("body");
+        body.setRequired(true);
+        body.setSchema(new RefModel(modelName(index)));
+        final Operation put = new Operation()
+                .operationId("updateModel" + index)
+                .tag(tag)
+                .consumes("application/json")
+                .produces("application/json")
+                .parameter(idParameter())
+                .parameter(body)
+                .response(200, new Response().description("The updated instance").schema(response));
+
+        final Operation delete = new Operation()
+                .operationId("deleteModel" + index)
+                .tag(tag)
+                .parameter(idParameter())
+                .response(204, new Response().description("Deleted"));
+
+        return new Path().get(get).put(put).delete(delete);
+    }
+
+    private static PathParameter idParameter() {
+        final PathParameter parameter = new PathParameter().type("integer").format("int64");
+        parameter.setName("id");
+        return parameter;
+    }
+}
@@ -0,0 +1,100 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.CodegenType;
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.template.MultiTemplateEngine;
+import io.swagger.codegen.template.TemplateEngine;
+import io.swagger.models.Model;
+import io.swagger.models.Swagger;
+import org.apache.commons.io.output.NullWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering one model template per definition through the {@link MultiTemplateEngine}, comparing Mustache and
+ * Handlebars. Both templates in {@code src/main/resources/benchmark} have the same content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplateRenderingBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int definitions;
+
+    @Param({"mustache", "hbs"})
+    public String engine;
+
+    private TemplateEngine templateEngine;
+    private String templateName;
+    private List<Map<String, Object>> templateData;
+
+    @Setup
+    public void setUp() {
+        final BenchmarkCodegen config = new BenchmarkCodegen();
+        templateEngine = new MultiTemplateEngine(config);
+        templateName = "model." + engine;
+
+        final Swagger swagger = SyntheticSpecs.create(definitions);
+        new InlineModelResolver().flatten(swagger);
+        templateData = new ArrayList<>();
+        for (Map.Entry<String, Model> definition : swagger.getDefinitions().entrySet()) {
+            final CodegenModel model = config.fromModel(definition.getKey(), definition.getValue(), swagger.getDefinitions());
+            final Map<String, Object> data = new HashMap<>();
+            data.put("modelPackage", "io.swagger.client.model");
+            data.put("models", Collections.singletonList(Collections.singletonMap("model", model)));
+            templateData.add(data);
+        }
+    }
+
+    @Benchmark
+    public void render() throws IOException {
+        for (Map<String, Object> data : templateData) {
+            templateEngine.renderTemplate(templateName, data, NullWriter.NULL_WRITER);
+        }
+    }
+
+    private static class BenchmarkCodegen extends DefaultCodegen implements CodegenConfig {
+        BenchmarkCodegen() {
+            templateDir = embeddedTemplateDir = "benchmark";
+        }
+
+        @Override
+        public CodegenType getTag() {
+            return CodegenType.OTHER;
+        }
+
+        @Override
+        public String getName() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getHelp() {
+            return "Renders the benchmark templates.";
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.airlift.airline.Cli;
 import io.airlift.airline.Help;
 import io.swagger.codegen.cmd.ConfigHelp;
 import io.swagger.codegen.cmd.Generate;
+import io.swagger.codegen.cmd.GenerateBatch;
 import io.swagger.codegen.cmd.Langs;
 import io.swagger.codegen.cmd.Meta;
 import io.swagger.codegen.cmd.Validate;
@@ -29,7 +30,7 @@ public class SwaggerCodegen {
                                         "Swagger code generator CLI (version %s). More info on swagger.io",
                                         version))
                         .withDefaultCommand(Langs.class)
-                        .withCommands(Generate.class, Meta.class, Langs.class, Help.class,
+                        .withCommands(Generate.class, GenerateBatch.class, Meta.class, Langs.class, Help.class,
                                 ConfigHelp.class, Validate.class, Version.class);
 
         builder.build().parse(args).run();
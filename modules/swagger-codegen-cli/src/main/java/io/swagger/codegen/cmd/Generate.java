@@ -172,6 +172,22 @@ public class Generate implements Runnable {
             description = CodegenConstants.REMOVE_OPERATION_ID_PREFIX_DESC)
     private Boolean removeOperationIdPrefix;
 
+    @Option(name = {"--threads"}, title = "threads",
+            description = CodegenConstants.THREADS_DESC)
+    private Integer threads;
+
+    @Option(name = {"--incremental"}, title = "incremental generation",
+            description = CodegenConstants.INCREMENTAL_DESC)
+    private Boolean incremental;
+
+    @Option(name = {"--skip-unchanged-files"}, title = "skip unchanged files",
+            description = CodegenConstants.SKIP_UNCHANGED_FILES_DESC)
+    private Boolean skipUnchangedFiles;
+
+    @Option(name = {"--timings"}, title = "print timings",
+            description = "prints the time spent in each phase of the generation, the slowest templates and the number of files written")
+    private Boolean timings;
+
     @Override
     public void run() {
 
@@ -189,6 +205,10 @@ public class Generate implements Runnable {
             configurator.setVerbose(verbose);
         }
 
+        if (Boolean.TRUE.equals(timings)) {
+            configurator.setRecordMetrics(true);
+        }
+
         if (skipOverwrite != null) {
             configurator.setSkipOverwrite(skipOverwrite);
         }
@@ -273,6 +293,18 @@ public class Generate implements Runnable {
             configurator.setRemoveOperationIdPrefix(removeOperationIdPrefix);
         }
 
+        if (threads != null) {
+            configurator.addSystemProperty(CodegenConstants.THREADS, threads.toString());
+        }
+
+        if (incremental != null) {
+            configurator.addSystemProperty(CodegenConstants.INCREMENTAL, incremental.toString());
+        }
+
+        if (skipUnchangedFiles != null) {
+            configurator.addSystemProperty(CodegenConstants.SKIP_UNCHANGED_FILES, skipUnchangedFiles.toString());
+        }
+
         applySystemPropertiesKvpList(systemProperties, configurator);
         applyInstantiationTypesKvpList(instantiationTypes, configurator);
         applyImportMappingsKvpList(importMappings, configurator);
@@ -283,5 +315,9 @@ public class Generate implements Runnable {
         final ClientOptInput clientOptInput = configurator.toClientOptInput();
 
         new DefaultGenerator().opts(clientOptInput).generate();
+
+        if (Boolean.TRUE.equals(timings)) {
+            System.out.print(clientOptInput.getMetrics().format(10));
+        }
     }
 }
@@ -0,0 +1,174 @@
+package io.swagger.codegen.cmd;
+
+import io.airlift.airline.Arguments;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.auth.AuthParser;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.utils.SwaggerCopier;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates several targets from one spec in one JVM. The spec is parsed once, then each target is generated from its
+ * own copy of the spec, as generators modify the spec. Like with {@code generate}, the inline models of each copy are
+ * flattened after the target has preprocessed it. The targets are configured one after the other, each with only its
+ * own System properties set, and generated concurrently.
+ */
+@Command(name = "generate-batch", description = "Generate code for several languages or configurations from one spec")
+public class GenerateBatch implements Runnable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(GenerateBatch.class);
+
+    @Option(name = {"-i", "--input-spec"}, title = "spec file", required = true,
+            description = "location of the swagger spec, as URL or file (required)")
+    private String spec;
+
+    @Option(
+            name = {"-a", "--auth"},
+            title = "authorization",
+            description = "adds authorization headers when fetching the swagger definitions remotely. "
+                    + "Pass in a URL-encoded string of name:header with a comma separating multiple values")
+    private String auth;
+
+    @Option(name = {"--threads"}, title = "threads",
+            description = "number of targets generated concurrently (the number of processors by default)")
+    private Integer threads;
+
+    @Arguments(title = "configuration files", required = true,
+            description = "one json configuration file per target, in the format of the --config file of generate, "
+                    + "which also sets the language and output directory, e.g. {\"lang\":\"java\",\"outputDir\":\"out/java\",\"library\":\"feign\"}")
+    private List<String> configFiles;
+
+    @Override
+    public void run() {
+        final List<CodegenConfigurator> targets = new ArrayList<CodegenConfigurator>();
+        for (String configFile : configFiles) {
+            CodegenConfigurator configurator = CodegenConfigurator.fromFile(configFile);
+            if (configurator == null) {
+                throw new RuntimeException("Unable to read configuration file " + configFile);
+            }
+            configurator.setInputSpec(spec);
+            targets.add(configurator);
+        }
+
+        final long parseStart = System.nanoTime();
+        final Swagger swagger = parseSpec();
+        System.out.println(String.format(Locale.ROOT, "Parsed %s in %d ms", spec,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - parseStart)));
+
+        final int poolSize = threads != null ? Math.max(1, threads) : Runtime.getRuntime().availableProcessors();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(poolSize, targets.size()));
+        final List<Future<String>> results = new ArrayList<Future<String>>();
+        try {
+            for (final CodegenConfigurator target : targets) {
+                // configuring sets System properties read by the constructors of some generators, so it must not run
+                // concurrently; only the generation itself is run on the pool
+                final long configureStart = System.nanoTime();
+                final ClientOptInput input;
+                final Map<String, String> previousProperties = saveSystemProperties(target);
+                try {
+                    input = target.toClientOptInput(copySpec(swagger));
+                } catch (RuntimeException e) {
+                    final CompletableFuture<String> failed = new CompletableFuture<String>();
+                    failed.completeExceptionally(e);
+                    results.add(failed);
+                    continue;
+                } finally {
+                    // so that they don't apply to the following targets
+                    restoreSystemProperties(previousProperties);
+                }
+                final long configureNanos = System.nanoTime() - configureStart;
+                results.add(executor.submit(() -> generate(target, input, configureNanos)));
+            }
+            int failures = 0;
+            for (int i = 0; i < targets.size(); i++) {
+                try {
+                    System.out.println(results.get(i).get());
+                } catch (ExecutionException e) {
+                    failures++;
+                    LOG.error("Generation of " + configFiles.get(i) + " failed", e.getCause());
+                    System.out.println(String.format(Locale.ROOT, "%-20s %-40s FAILED: %s", targets.get(i).getLang(),
+                            targets.get(i).getOutputDir(), e.getCause().getMessage()));
+                }
+            }
+            if (failures > 0) {
+                throw new RuntimeException(failures + " of " + targets.size() + " targets failed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Swagger parseSpec() {
+        final Swagger swagger = new SwaggerParser().read(spec, AuthParser.parse(auth), true);
+        if (swagger == null) {
+            throw new RuntimeException("Unable to read the spec " + spec);
+        }
+        return swagger;
+    }
+
+    /**
+     * @return the values of the System properties which configuring the target sets, {@code null} for those not set
+     */
+    private static Map<String, String> saveSystemProperties(CodegenConfigurator target) {
+        final Map<String, String> previous = new HashMap<String, String>();
+        for (String key : target.getSystemProperties().keySet()) {
+            previous.put(key, System.getProperty(key));
+        }
+        return previous;
+    }
+
+    private static void restoreSystemProperties(Map<String, String> previous) {
+        for (Map.Entry<String, String> entry : previous.entrySet()) {
+            if (entry.getValue() == null) {
+                System.clearProperty(entry.getKey());
+            } else {
+                System.setProperty(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * @return a copy of the spec for one target, or the spec parsed again if it can't be copied
+     */
+    private Swagger copySpec(Swagger swagger) {
+        try {
+            return SwaggerCopier.copy(swagger);
+        } catch (IllegalArgumentException e) {
+            LOG.debug("Parsing the spec again, as it can't be copied: " + e.getMessage());
+            return parseSpec();
+        }
+    }
+
+    /**
+     * @param configureNanos the time spent configuring the target
+     * @return the timing of the target
+     */
+    private static String generate(CodegenConfigurator target, ClientOptInput input, long configureNanos) {
+        final long start = System.nanoTime();
+        final List<File> files = new DefaultGenerator().opts(input).generate();
+        return String.format(Locale.ROOT, "%-20s %-40s %8d ms %6d files", target.getLang(), target.getOutputDir(),
+                TimeUnit.NANOSECONDS.toMillis(configureNanos + System.nanoTime() - start), files.size());
+    }
+}
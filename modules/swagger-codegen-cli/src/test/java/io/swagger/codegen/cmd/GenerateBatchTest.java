@@ -0,0 +1,122 @@
+package io.swagger.codegen.cmd;
+
+import io.swagger.codegen.SwaggerCodegen;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class GenerateBatchTest {
+
+    private static final String SPEC = "swagger: '2.0'\n"
+            + "info:\n"
+            + "  title: Batch\n"
+            + "  version: 1.0.0\n"
+            + "paths:\n"
+            + "  /pets:\n"
+            + "    get:\n"
+            + "      tags: [pet]\n"
+            + "      operationId: listPets\n"
+            + "      responses:\n"
+            + "        200:\n"
+            + "          description: the pets\n"
+            + "          schema:\n"
+            + "            type: array\n"
+            + "            items:\n"
+            + "              type: object\n"
+            + "              properties:\n"
+            + "                name:\n"
+            + "                  type: string\n";
+
+    private File folder;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("generate-batch").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(folder);
+    }
+
+    @Test
+    public void testGeneratesEachTarget() throws Exception {
+        final File spec = write("spec.yaml", SPEC);
+        final File java = write("java.json", config("java", "java", "\"library\": \"feign\""));
+        final File python = write("python.json", config("python", "python", "\"packageName\": \"batch\""));
+
+        SwaggerCodegen.main(new String[]{"generate-batch", "-i", spec.getAbsolutePath(), "--threads", "2",
+                java.getAbsolutePath(), python.getAbsolutePath()});
+
+        assertTrue(new File(folder, "java/src/main/java/io/swagger/client/api/PetApi.java").isFile());
+        // each target flattens the inline model of its own copy of the spec
+        assertTrue(new File(folder, "java/src/main/java/io/swagger/client/model/InlineResponse200.java").isFile());
+        assertTrue(new File(folder, "python/batch/api/pet_api.py").isFile());
+        assertTrue(new File(folder, "python/batch/models/inline_response_200.py").isFile());
+    }
+
+    @Test
+    public void testTargetsPreprocessTheOriginalSpec() throws Exception {
+        final File spec = write("spec.yaml", SPEC);
+        final File jaxrs = write("jaxrs.json", config("jaxrs-spec", "jaxrs", "\"verbose\": false"));
+
+        SwaggerCodegen.main(new String[]{"generate-batch", "-i", spec.getAbsolutePath(), jaxrs.getAbsolutePath()});
+
+        // written while preprocessing, before the inline models are flattened, as by generate
+        final String swaggerJson = FileUtils.readFileToString(new File(folder, "jaxrs/swagger.json"), StandardCharsets.UTF_8);
+        assertFalse(swaggerJson.contains("inline_response_200"), swaggerJson);
+    }
+
+    @Test
+    public void testSystemPropertiesDontLeakToOtherTargets() throws Exception {
+        final File spec = write("spec.yaml", SPEC);
+        final File first = write("first.json", config("undertow", "first",
+                "\"systemProperties\": {\"swagger.codegen.undertow.modelpackage\": \"first.model\"}"));
+        final File second = write("second.json", config("undertow", "second", "\"verbose\": false"));
+
+        SwaggerCodegen.main(new String[]{"generate-batch", "-i", spec.getAbsolutePath(),
+                first.getAbsolutePath(), second.getAbsolutePath()});
+
+        assertTrue(new File(folder, "first/src/main/java/first/model/InlineResponse200.java").isFile());
+        assertTrue(new File(folder, "second/src/main/java/io/swagger/model/InlineResponse200.java").isFile());
+        assertNull(System.getProperty("swagger.codegen.undertow.modelpackage"));
+    }
+
+    @Test
+    public void testReportsFailedTargets() throws Exception {
+        final File spec = write("spec.yaml", SPEC);
+        final File java = write("java.json", config("java", "java", "\"library\": \"feign\""));
+        final File unknown = write("unknown.json", config("unknown", "unknown", "\"library\": \"none\""));
+
+        try {
+            SwaggerCodegen.main(new String[]{"generate-batch", "-i", spec.getAbsolutePath(),
+                    java.getAbsolutePath(), unknown.getAbsolutePath()});
+            fail("the unknown language must fail");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().contains("1 of 2 targets failed"), e.getMessage());
+        }
+        assertTrue(new File(folder, "java/src/main/java/io/swagger/client/api/PetApi.java").isFile());
+    }
+
+    private String config(String lang, String outputDir, String option) {
+        return "{\"lang\": \"" + lang + "\", \"outputDir\": \""
+                + new File(folder, outputDir).getAbsolutePath().replace("\\", "\\\\") + "\", " + option + "}";
+    }
+
+    private File write(String name, String content) throws IOException {
+        final File file = new File(folder, name);
+        FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -1,6 +1,7 @@
 package io.swagger.codegen.cmd;
 
 import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
 import io.swagger.codegen.SwaggerCodegen;
 import io.swagger.codegen.config.CodegenConfigurator;
@@ -266,6 +267,42 @@ public class GenerateTest {
         };
     }
 
+    @Test
+    public void testThreads() throws Exception {
+        setupAndRunGenericTest("--threads", "4");
+
+        new FullVerifications() {
+            {
+                configurator.addSystemProperty(CodegenConstants.THREADS, "4");
+                times = 1;
+            }
+        };
+    }
+
+    @Test
+    public void testIncremental() throws Exception {
+        setupAndRunGenericTest("--incremental");
+
+        new FullVerifications() {
+            {
+                configurator.addSystemProperty(CodegenConstants.INCREMENTAL, "true");
+                times = 1;
+            }
+        };
+    }
+
+    @Test
+    public void testSkipUnchangedFiles() throws Exception {
+        setupAndRunGenericTest("--skip-unchanged-files");
+
+        new FullVerifications() {
+            {
+                configurator.addSystemProperty(CodegenConstants.SKIP_UNCHANGED_FILES, "true");
+                times = 1;
+            }
+        };
+    }
+
     @Test
     public void testInstantiationTypes() throws Exception {
 
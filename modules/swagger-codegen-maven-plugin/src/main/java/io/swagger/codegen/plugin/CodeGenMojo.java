@@ -29,9 +29,24 @@ import static io.swagger.codegen.config.CodegenConfiguratorUtils.applyReservedWo
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.FileUtils;
 
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -45,7 +60,10 @@ import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.GeneratorSettings;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.manifest.InputFingerprint;
+import io.swagger.codegen.utils.ImplementationVersion;
 
 /**
  * Goal which generates client/server code from a swagger json/yaml definition.
@@ -53,6 +71,10 @@ import io.swagger.codegen.config.CodegenConfigurator;
 @Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES)
 public class CodeGenMojo extends AbstractMojo {
 
+    private static final String FINGERPRINT_FILE = ".swagger-codegen" + File.separator + "plugin-fingerprint";
+
+    private static final Pattern REF_PATTERN = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s,}]+)");
+
     @Parameter(name = "verbose", required = false, defaultValue = "false")
     private boolean verbose;
 
@@ -280,6 +302,34 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "withXml", required = false)
     private Boolean withXml = false;
 
+    /**
+     * Number of threads used to render model and api files. The default of 1 renders them sequentially.
+     */
+    @Parameter(name = "threads", required = false)
+    private Integer threads = 1;
+
+    /**
+     * Only generate files whose inputs changed since the last run, as recorded in
+     * {@code .swagger-codegen/manifest} below the output directory.
+     */
+    @Parameter(name = "incremental", required = false)
+    private Boolean incremental = false;
+
+    /**
+     * Leave existing files untouched, including their modification time, if the generated content is equal. This avoids
+     * needless recompilation of the generated sources.
+     */
+    @Parameter(name = "skipUnchangedFiles", required = false)
+    private Boolean skipUnchangedFiles = false;
+
+    /**
+     * Skip parsing and generation if the spec and its local references, the templates, the configuration file, the
+     * plugin classpath and all parameters are unchanged since the last successful run, and all files generated by
+     * that run still exist.
+     */
+    @Parameter(name = "skipIfUpToDate", property = "codegen.skipIfUpToDate", required = false, defaultValue = "false")
+    private Boolean skipIfUpToDate;
+
     /**
      * Skip the execution.
      */
@@ -403,30 +453,33 @@ public class CodeGenMojo extends AbstractMojo {
             configurator.setTemplateDir(templateDirectory.getAbsolutePath());
         }
 
-        // Set generation options
+        // Set generation options, which are passed to this run only
         if (null != generateApis && generateApis) {
-            System.setProperty("apis", "");
+            configurator.addSystemProperty(CodegenConstants.APIS, "");
         } else {
-            System.clearProperty("apis");
+            configurator.disableSetting(CodegenConstants.APIS);
         }
 
         if (null != generateModels && generateModels) {
-            System.setProperty("models", modelsToGenerate);
+            configurator.addSystemProperty(CodegenConstants.MODELS, modelsToGenerate);
         } else {
-            System.clearProperty("models");
+            configurator.disableSetting(CodegenConstants.MODELS);
         }
 
         if (null != generateSupportingFiles && generateSupportingFiles) {
-            System.setProperty("supportingFiles", supportingFilesToGenerate);
+            configurator.addSystemProperty(CodegenConstants.SUPPORTING_FILES, supportingFilesToGenerate);
         } else {
-            System.clearProperty("supportingFiles");
+            configurator.disableSetting(CodegenConstants.SUPPORTING_FILES);
         }
 
-        System.setProperty("modelTests", generateModelTests.toString());
-        System.setProperty("modelDocs", generateModelDocumentation.toString());
-        System.setProperty("apiTests", generateApiTests.toString());
-        System.setProperty("apiDocs", generateApiDocumentation.toString());
-        System.setProperty("withXml", withXml.toString());
+        configurator.addSystemProperty(CodegenConstants.MODEL_TESTS, generateModelTests.toString());
+        configurator.addSystemProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.toString());
+        configurator.addSystemProperty(CodegenConstants.API_TESTS, generateApiTests.toString());
+        configurator.addSystemProperty(CodegenConstants.API_DOCS, generateApiDocumentation.toString());
+        configurator.addSystemProperty("withXml", withXml.toString());
+        configurator.addSystemProperty(CodegenConstants.THREADS, threads.toString());
+        configurator.addSystemProperty(CodegenConstants.INCREMENTAL, incremental.toString());
+        configurator.addSystemProperty(CodegenConstants.SKIP_UNCHANGED_FILES, skipUnchangedFiles.toString());
 
         if (configOptions != null) {
             // Retained for backwards-compataibility with configOptions -> instantiation-types
@@ -498,17 +551,30 @@ public class CodeGenMojo extends AbstractMojo {
         if (environmentVariables != null) {
 
             for (String key : environmentVariables.keySet()) {
-                originalEnvironmentVariables.put(key, System.getProperty(key));
                 String value = environmentVariables.get(key);
                 if (value == null) {
                     // don't put null values
                     value = "";
                 }
-                System.setProperty(key, value);
+                // settings of the run must not leak into other executions sharing the JVM
+                if (!GeneratorSettings.isRunSetting(key)) {
+                    originalEnvironmentVariables.put(key, System.getProperty(key));
+                    System.setProperty(key, value);
+                }
                 configurator.addSystemProperty(key, value);
             }
         }
 
+        String fingerprint = null;
+        if (skipIfUpToDate && !configHelp) {
+            fingerprint = computeFingerprint(configurator);
+            if (fingerprint != null && fingerprint.equals(readFingerprint())) {
+                getLog().info("Generated sources are up to date, code generation is skipped.");
+                addCompileSourceRootIfConfigured();
+                return;
+            }
+        }
+
         final ClientOptInput input = configurator.toClientOptInput();
         final CodegenConfig config = input.getConfig();
 
@@ -530,8 +596,9 @@ public class CodeGenMojo extends AbstractMojo {
             }
             return;
         }
+        final List<File> generatedFiles;
         try {
-            new DefaultGenerator().opts(input).generate();
+            generatedFiles = new DefaultGenerator().opts(input).generate();
         } catch (Exception e) {
             // Maven logs exceptions thrown by plugins only if invoked with -e
             // I find it annoying to jump through hoops to get basic diagnostic information,
@@ -541,9 +608,153 @@ public class CodeGenMojo extends AbstractMojo {
                     "Code generation failed. See above for the full exception.");
         }
 
+        if (verbose && input.getMetrics() != null) {
+            getLog().info("Generation metrics:" + System.lineSeparator() + input.getMetrics().format(10));
+        }
+
+        if (fingerprint != null) {
+            writeFingerprint(fingerprint, generatedFiles);
+        }
+
         addCompileSourceRootIfConfigured();
     }
 
+    /**
+     * Hashes everything the generated sources depend on, or returns {@code null} if the inputs cannot be determined
+     * completely, e.g. because the spec or one of its references is remote.
+     */
+    private String computeFingerprint(CodegenConfigurator configurator) {
+        final File spec = new File(configurator.getInputSpec());
+        if (!spec.isFile()) {
+            getLog().debug("Up-to-date check disabled, the input spec is not a local file.");
+            return null;
+        }
+        try {
+            final Set<File> specFiles = new LinkedHashSet<File>();
+            if (!collectSpecFiles(spec.getAbsoluteFile(), specFiles)) {
+                getLog().debug("Up-to-date check disabled, the input spec references remote files.");
+                return null;
+            }
+
+            final InputFingerprint fingerprint = new InputFingerprint()
+                    .add(ImplementationVersion.read())
+                    .add(configurator);
+            for (Field field : CodeGenMojo.class.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || "project".equals(field.getName())
+                        || "originalEnvironmentVariables".equals(field.getName())) {
+                    continue;
+                }
+                fingerprint.add(field.getName()).add(field.get(this));
+            }
+            for (File specFile : specFiles) {
+                fingerprint.add(specFile.getPath()).addFile(specFile);
+            }
+            if (configurator.getTemplateDir() != null) {
+                fingerprint.addDirectory(new File(configurator.getTemplateDir()));
+            }
+            if (isNotEmpty(configurationFile)) {
+                fingerprint.addFile(new File(configurationFile));
+            }
+            // custom generators and templates may be added as plugin dependencies
+            if (getClass().getClassLoader() instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) getClass().getClassLoader()).getURLs()) {
+                    final File file = FileUtils.toFile(url);
+                    fingerprint.add(url.toString());
+                    if (file != null) {
+                        fingerprint.add(file.length()).add(file.lastModified());
+                    }
+                }
+            }
+            return fingerprint.toHex();
+        } catch (IOException | IllegalAccessException e) {
+            getLog().warn("Up-to-date check disabled, the inputs could not be read.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Adds {@code file} and all local files it references through {@code $ref}, directly or indirectly, to
+     * {@code specFiles}.
+     *
+     * @return {@code false} if a remote file is referenced
+     */
+    private static boolean collectSpecFiles(File file, Set<File> specFiles) throws IOException {
+        if (!specFiles.add(file) || !file.isFile()) {
+            return true;
+        }
+        final Matcher matcher = REF_PATTERN.matcher(FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            String ref = matcher.group(1);
+            if (ref.startsWith("#")) {
+                continue;
+            }
+            if (ref.contains("://")) {
+                return false;
+            }
+            if (ref.contains("#")) {
+                ref = ref.substring(0, ref.indexOf('#'));
+            }
+            if (!collectSpecFiles(new File(file.getParentFile(), ref).getAbsoluteFile(), specFiles)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private File getFingerprintFile() {
+        return new File(output, FINGERPRINT_FILE);
+    }
+
+    /**
+     * Reads the fingerprint of the previous run, which is followed by the files it generated.
+     *
+     * @return the fingerprint, or {@code null} if there is none or some of the generated files were deleted since
+     */
+    private String readFingerprint() {
+        final File fingerprintFile = getFingerprintFile();
+        if (!fingerprintFile.isFile()) {
+            return null;
+        }
+        final List<String> lines;
+        try {
+            lines = FileUtils.readLines(fingerprintFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            getLog().warn("Could not read " + fingerprintFile, e);
+            return null;
+        }
+        if (lines.isEmpty()) {
+            return null;
+        }
+        final Path outputPath = output.toPath();
+        for (String generatedFile : lines.subList(1, lines.size())) {
+            if (!generatedFile.isEmpty() && !Files.exists(outputPath.resolve(generatedFile))) {
+                getLog().info("Generated file " + generatedFile + " is missing, code generation is not skipped.");
+                return null;
+            }
+        }
+        return lines.get(0).trim();
+    }
+
+    private void writeFingerprint(String fingerprint, List<File> generatedFiles) {
+        final File fingerprintFile = getFingerprintFile();
+        final Path outputPath = output.toPath().toAbsolutePath().normalize();
+        final List<String> lines = new ArrayList<String>();
+        lines.add(fingerprint);
+        for (File file : generatedFiles) {
+            if (file == null) {
+                continue;
+            }
+            final Path path = file.toPath().toAbsolutePath().normalize();
+            // files outside the output directory are recorded with their absolute path
+            lines.add(path.startsWith(outputPath) ? outputPath.relativize(path).toString() : path.toString());
+        }
+        try {
+            FileUtils.writeLines(fingerprintFile, StandardCharsets.UTF_8.name(), lines);
+        } catch (IOException e) {
+            getLog().warn("Could not write " + fingerprintFile, e);
+        }
+    }
+
     private void addCompileSourceRootIfConfigured() {
         if (addCompileSourceRoot) {
             final Object sourceFolderObject =
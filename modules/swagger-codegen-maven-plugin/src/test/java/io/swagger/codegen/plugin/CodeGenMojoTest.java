@@ -0,0 +1,98 @@
+package io.swagger.codegen.plugin;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class CodeGenMojoTest {
+
+    private File root;
+    private File spec;
+    private File output;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("codegen-mojo").toFile();
+        spec = new File(root, "swagger.json");
+        output = new File(root, "generated");
+        writeSpec("Pet Store");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        FileUtils.deleteQuietly(root);
+    }
+
+    @Test
+    public void testSkipsGenerationIfUpToDate() throws Exception {
+        newMojo().execute();
+        final File index = new File(output, "index.html");
+        assertTrue(FileUtils.readFileToString(index, UTF_8).contains("Pet Store"));
+
+        // marks the file, so that it shows whether the next run generates it again
+        FileUtils.writeStringToFile(index, "unchanged", UTF_8);
+        newMojo().execute();
+
+        assertEquals(FileUtils.readFileToString(index, UTF_8), "unchanged");
+    }
+
+    @Test
+    public void testRegeneratesIfSpecChanged() throws Exception {
+        newMojo().execute();
+        final File index = new File(output, "index.html");
+
+        writeSpec("Zoo");
+        newMojo().execute();
+
+        assertTrue(FileUtils.readFileToString(index, UTF_8).contains("Zoo"));
+    }
+
+    @Test
+    public void testRegeneratesIfGeneratedFileWasDeleted() throws Exception {
+        newMojo().execute();
+        final File index = new File(output, "index.html");
+
+        assertTrue(index.delete());
+        newMojo().execute();
+
+        assertTrue(FileUtils.readFileToString(index, UTF_8).contains("Pet Store"));
+    }
+
+    private CodeGenMojo newMojo() throws Exception {
+        final CodeGenMojo mojo = new CodeGenMojo();
+        // the defaults of the parameters, as Maven would inject them
+        set(mojo, "verbose", false);
+        set(mojo, "skip", false);
+        set(mojo, "addCompileSourceRoot", false);
+        set(mojo, "skipIfUpToDate", true);
+        set(mojo, "language", "html");
+        set(mojo, "inputSpec", spec.getAbsolutePath());
+        set(mojo, "output", output);
+        return mojo;
+    }
+
+    private static void set(CodeGenMojo mojo, String name, Object value) throws Exception {
+        final Field field = CodeGenMojo.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+
+    private void writeSpec(String title) throws Exception {
+        FileUtils.writeStringToFile(spec, "{\n"
+                + "  \"swagger\": \"2.0\",\n"
+                + "  \"info\": {\"title\": \"" + title + "\", \"version\": \"1.0.0\"},\n"
+                + "  \"paths\": {\n"
+                + "    \"/pets\": {\"get\": {\"operationId\": \"listPets\", \"responses\": {\"200\": {\"description\": \"OK\"}}}}\n"
+                + "  }\n"
+                + "}\n", UTF_8);
+    }
+}
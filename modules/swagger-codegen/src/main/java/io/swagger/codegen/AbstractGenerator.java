@@ -1,17 +1,22 @@
 package io.swagger.codegen;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.google.common.base.Utf8;
 import io.swagger.codegen.template.ExactCopyTemplateEngine;
 import io.swagger.codegen.template.MultiTemplateEngine;
 import io.swagger.codegen.template.TemplateLocator;
@@ -26,8 +31,108 @@ public abstract class AbstractGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGenerator.class);
 
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     private TemplateLocator templateLocator = multiTemplateLocator();
 
+    private boolean skipUnchangedFiles = false;
+    private OutputSink outputSink = null;
+    private final AtomicInteger writtenFileCount = new AtomicInteger();
+    private final AtomicInteger unchangedFileCount = new AtomicInteger();
+    private GenerationMetrics metrics = null;
+
+    /**
+     * Produces the content of a file by writing it to the given {@link Writer}.
+     */
+    public interface FileContent {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    /**
+     * Receives generated files in place of the file system.
+     */
+    public interface OutputSink {
+        /**
+         * Writes a generated file. The sink must not keep {@code contents} beyond the call.
+         *
+         * @param file the path the file would have been written to
+         * @param contents writes the content of the file
+         * @throws IOException when writing fails
+         */
+        void write(File file, FileContent contents) throws IOException;
+    }
+
+    /**
+     * Sets a sink which receives all generated files in place of the file system. No directories are created, and files
+     * are neither compared with existing ones nor overwritten.
+     *
+     * @param outputSink the sink, or {@code null} to write files to the file system (default)
+     */
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    /**
+     * @return the sink receiving all generated files, or {@code null} if files are written to the file system
+     */
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    /**
+     * Sets the metrics which record the time spent rendering and writing files, and the files and bytes produced.
+     *
+     * @param metrics the metrics, or {@code null} to record nothing (default)
+     */
+    public void setMetrics(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the metrics recording the files written, or {@code null}
+     */
+    public GenerationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets whether {@link #writeToFile(String, FileContent)} compares the content with an existing file and leaves the
+     * file untouched, including its modification time, if the content is equal.
+     *
+     * @param skipUnchangedFiles true: compare with existing files, false: always rewrite files (default)
+     */
+    public void setSkipUnchangedFiles(boolean skipUnchangedFiles) {
+        this.skipUnchangedFiles = skipUnchangedFiles;
+    }
+
+    /**
+     * @return the number of files created or changed since the counts were last reset
+     */
+    public int getWrittenFileCount() {
+        return writtenFileCount.get();
+    }
+
+    /**
+     * @return the number of files left untouched as their content did not change, since the counts were last reset
+     */
+    public int getUnchangedFileCount() {
+        return unchangedFileCount.get();
+    }
+
+    protected void resetFileCounts() {
+        writtenFileCount.set(0);
+        unchangedFileCount.set(0);
+    }
+
+    /**
+     * Counts a file which was not written because it is known to be up to date.
+     */
+    protected void recordUnchangedFile() {
+        unchangedFileCount.incrementAndGet();
+        if (metrics != null) {
+            metrics.recordUnchangedFile(0);
+        }
+    }
 
     /**
      * Writes a {@code String} to a file, creating any parent directories if necessary.
@@ -38,23 +143,200 @@ public abstract class AbstractGenerator {
      * @throws IOException when unable to create directories
      */
     public File writeToFile(String filename, String contents) throws IOException {
-        LOGGER.info("writing file " + filename);
-
         final File outputFile = new File(filename);
+        final boolean compare = skipUnchangedFiles && outputFile.isFile() && outputFile.length() == encodedLength(contents);
+        return writeToFile(outputFile, writer -> writer.write(contents), compare);
+    }
+
+    /**
+     * Returns the length of {@code contents} in UTF-8, or -1 if it cannot be determined upfront. If the size of an existing
+     * file differs, the content cannot be equal, so comparing is not worth it.
+     */
+    private static long encodedLength(String contents) {
+        try {
+            return Utf8.encodedLength(contents);
+        } catch (IllegalArgumentException e) {
+            // unpaired surrogates are replaced when writing
+            return -1;
+        }
+    }
+
+    /**
+     * Streams content to a file, creating any parent directories if necessary. The content is never held in memory as a
+     * whole. It is written to a temporary file next to the target, which replaces the target once the content is
+     * complete, so if {@code contents} fails, an existing file keeps its previous content.
+     *
+     * <p>If {@link #setSkipUnchangedFiles(boolean) skipping unchanged files} is enabled, the content is compared with the
+     * existing file while it is produced, and the file is only replaced if the content differs.
+     *
+     * @param filename the file path
+     * @param contents writes the content
+     * @return the new {@link File}
+     * @throws IOException when unable to create directories or when writing fails
+     */
+    public File writeToFile(String filename, FileContent contents) throws IOException {
+        return writeToFile(new File(filename), contents, skipUnchangedFiles);
+    }
+
+    private File writeToFile(File outputFile, FileContent contents, boolean compare) throws IOException {
+        final GenerationMetrics metrics = this.metrics;
+        if (metrics == null) {
+            if (write(outputFile, contents, compare)) {
+                writtenFileCount.incrementAndGet();
+            } else {
+                unchangedFileCount.incrementAndGet();
+            }
+            return outputFile;
+        }
+
+        final long start = System.nanoTime();
+        final MeasuredContent measured = new MeasuredContent(contents);
+        final boolean written = write(outputFile, measured, compare);
+        final long writeNanos = System.nanoTime() - start - measured.contentNanos + measured.writerNanos;
+        metrics.addTime(GenerationMetrics.Phase.RENDER, measured.contentNanos - measured.writerNanos);
+        metrics.addTime(GenerationMetrics.Phase.WRITE, writeNanos);
+        if (written) {
+            writtenFileCount.incrementAndGet();
+            metrics.recordWrittenFile(measured.bytes);
+        } else {
+            unchangedFileCount.incrementAndGet();
+            metrics.recordUnchangedFile(measured.bytes);
+        }
+        return outputFile;
+    }
+
+    /**
+     * @return true if the file was written, false if its content did not change
+     */
+    private boolean write(File outputFile, FileContent contents, boolean compare) throws IOException {
+        if (outputSink != null) {
+            LOGGER.info("writing file " + outputFile + " to the output sink");
+            outputSink.write(outputFile, contents);
+            return true;
+        }
 
         if (outputFile.getParent() != null) {
             final File outputDirectory = new File(outputFile.getParent());
 
-            if (!outputDirectory.exists() && !outputDirectory.mkdirs()) {
+            // another thread may create the same directory concurrently, so only fail if it still does not exist
+            if (!outputDirectory.mkdirs() && !outputDirectory.isDirectory()) {
                 throw new IOException("Creating directory failed: " + outputDirectory);
             }
         }
 
-        try (Writer fileWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputFile), "UTF-8"))) {
-            fileWriter.write(contents);
+        if (!compare) {
+            LOGGER.info("writing file " + outputFile);
+            final Path tempFile = FileReplacement.createTempFile(outputFile.toPath());
+            boolean written = false;
+            try {
+                try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                     Writer fileWriter = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), WRITE_BUFFER_SIZE)) {
+                    contents.writeTo(fileWriter);
+                }
+                FileReplacement.replace(tempFile, outputFile.toPath());
+                written = true;
+            } finally {
+                // the previous content of the file is left untouched
+                if (!written && !FileReplacement.discard(tempFile)) {
+                    LOGGER.warn("Could not remove incomplete file " + tempFile);
+                }
+            }
+            return true;
         }
 
-        return outputFile;
+        final ComparingFileOutputStream outputStream = new ComparingFileOutputStream(outputFile.toPath());
+        try {
+            try (Writer fileWriter = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
+                contents.writeTo(fileWriter);
+            }
+            outputStream.commit();
+        } finally {
+            // without a commit, the file keeps its previous content
+            if (!outputStream.discard()) {
+                LOGGER.warn("Could not remove incomplete file next to " + outputFile);
+            }
+        }
+        if (outputStream.isModified()) {
+            LOGGER.info("writing file " + outputFile);
+            return true;
+        }
+        LOGGER.info("unchanged file " + outputFile);
+        return false;
+    }
+
+    /**
+     * Measures the time spent producing content and the part of it spent in the writer, i.e. encoding and writing, as well
+     * as the number of bytes produced.
+     */
+    private static final class MeasuredContent implements FileContent {
+        private final FileContent contents;
+        private long contentNanos;
+        private long writerNanos;
+        private long bytes;
+
+        MeasuredContent(FileContent contents) {
+            this.contents = contents;
+        }
+
+        @Override
+        public void writeTo(final Writer writer) throws IOException {
+            final long start = System.nanoTime();
+            try {
+                contents.writeTo(new Writer() {
+                    @Override
+                    public void write(int c) throws IOException {
+                        final long start = System.nanoTime();
+                        writer.write(c);
+                        writerNanos += System.nanoTime() - start;
+                        bytes += utf8Length((char) c);
+                    }
+
+                    @Override
+                    public void write(char[] cbuf, int off, int len) throws IOException {
+                        final long start = System.nanoTime();
+                        writer.write(cbuf, off, len);
+                        writerNanos += System.nanoTime() - start;
+                        for (int i = off; i < off + len; i++) {
+                            bytes += utf8Length(cbuf[i]);
+                        }
+                    }
+
+                    @Override
+                    public void write(String str, int off, int len) throws IOException {
+                        final long start = System.nanoTime();
+                        writer.write(str, off, len);
+                        writerNanos += System.nanoTime() - start;
+                        for (int i = off; i < off + len; i++) {
+                            bytes += utf8Length(str.charAt(i));
+                        }
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        final long start = System.nanoTime();
+                        writer.flush();
+                        writerNanos += System.nanoTime() - start;
+                    }
+
+                    @Override
+                    public void close() {
+                        // the writer is closed by its owner
+                    }
+                });
+            } finally {
+                contentNanos += System.nanoTime() - start;
+            }
+        }
+
+        private static int utf8Length(char c) {
+            if (c < 0x80) {
+                return 1;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                // a surrogate pair takes four bytes
+                return 2;
+            }
+            return 3;
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package io.swagger.codegen;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.annotations.ApiModelProperty;
 import io.swagger.codegen.auth.AuthParser;
 import io.swagger.models.Swagger;
@@ -12,6 +13,8 @@ public class ClientOptInput {
     private ClientOpts opts;
     private Swagger swagger;
     private List<AuthorizationValue> auths;
+    private GenerationMetrics metrics;
+    private GeneratorSettings settings;
 
     public ClientOptInput swagger(Swagger swagger) {
         this.setSwagger(swagger);
@@ -28,6 +31,16 @@ public class ClientOptInput {
         return this;
     }
 
+    public ClientOptInput settings(GeneratorSettings settings) {
+        this.setSettings(settings);
+        return this;
+    }
+
+    public ClientOptInput metrics(GenerationMetrics metrics) {
+        this.setMetrics(metrics);
+        return this;
+    }
+
     @Deprecated
     public ClientOptInput auth(String urlEncodedAuthString) {
         this.setAuth(urlEncodedAuthString);
@@ -73,4 +86,29 @@ public class ClientOptInput {
     public void setSwagger(Swagger swagger) {
         this.swagger = swagger;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the settings of the generation, or {@code null} to read them from JVM System properties
+     */
+    @JsonIgnore
+    public GeneratorSettings getSettings() {
+        return settings;
+    }
+
+    public void setSettings(GeneratorSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * @return the metrics the generation records to, already holding the time spent parsing the spec if it was parsed
+     * by {@link io.swagger.codegen.config.CodegenConfigurator}, or {@code null}
+     */
+    @JsonIgnore
+    public GenerationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+}
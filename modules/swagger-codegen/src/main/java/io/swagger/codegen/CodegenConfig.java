@@ -211,6 +211,16 @@ public interface CodegenConfig {
 
     String getIgnoreFilePathOverride();
 
+    void setGeneratorSettings(GeneratorSettings generatorSettings);
+
+    GeneratorSettings getGeneratorSettings();
+
+    boolean isTypeResolutionCacheEnabled();
+
+    void setTypeResolutionCache(TypeResolutionCache typeResolutionCache);
+
+    TypeResolutionCache getTypeResolutionCache();
+
     String toBooleanGetter(String name);
 
     String toSetter(String name);
@@ -12,16 +12,28 @@ public class CodegenConfigLoader {
      * @return config class
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = load(CodegenConfig.class);
-
         StringBuilder availableConfigs = new StringBuilder();
 
-        for (CodegenConfig config : loader) {
-            if (config.getName().equals(name)) {
+        // the registry is only used when it exists, e.g. in the online generator, as it instantiates every config
+        CodegenConfigRegistry registry = CodegenConfigRegistry.getInstanceIfPresent();
+        if (registry != null) {
+            CodegenConfig config = registry.newInstance(name);
+            if (config != null) {
                 return config;
             }
+            for (CodegenConfigRegistry.Entry entry : registry.getEntries()) {
+                availableConfigs.append(entry.getName()).append("\n");
+            }
+        } else {
+            ServiceLoader<CodegenConfig> loader = load(CodegenConfig.class);
 
-            availableConfigs.append(config.getName()).append("\n");
+            for (CodegenConfig config : loader) {
+                if (config.getName().equals(name)) {
+                    return config;
+                }
+
+                availableConfigs.append(config.getName()).append("\n");
+            }
         }
 
         // else try to load directly
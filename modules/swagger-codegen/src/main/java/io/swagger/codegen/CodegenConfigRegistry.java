@@ -0,0 +1,248 @@
+package io.swagger.codegen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link CodegenConfig} implementations available through SPI, discovered once per class loader.
+ *
+ * <p>Discovering the implementations instantiates each of them, which is expensive as their constructors fill the type
+ * mappings and reserved words. The registry does this once, keeps the metadata of each implementation, and creates new
+ * instances of a single implementation by its class. After {@link #warmUp()}, an instance of each implementation is
+ * kept ready, and replaced in the background whenever it is handed out.
+ *
+ * <p>A registry is only built when all implementations are needed, like for listing them. {@link CodegenConfigLoader}
+ * uses it once it exists, and otherwise stops discovering at the implementation it looks for.
+ *
+ * <p>Instances are safe for use by multiple threads. Every config returned is a new instance, which isn't shared.
+ *
+ * <p>The registries are only softly referenced, as they reference the classes of their class loader, which would otherwise
+ * never be unloaded, e.g. when a web application or build plugin is redeployed. The background thread preparing
+ * instances ends when it is idle.
+ */
+public class CodegenConfigRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigRegistry.class);
+
+    private static final Map<ClassLoader, SoftReference<CodegenConfigRegistry>> REGISTRIES =
+            new WeakHashMap<ClassLoader, SoftReference<CodegenConfigRegistry>>();
+    private static final long WARM_UP_KEEP_ALIVE_SECONDS = 30;
+
+    private final Map<String, Entry> entries;
+    private final Map<String, Queue<CodegenConfig>> spares = new ConcurrentHashMap<String, Queue<CodegenConfig>>();
+    private volatile ExecutorService warmUpExecutor;
+
+    CodegenConfigRegistry(Iterable<CodegenConfig> configs) {
+        Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+        for (CodegenConfig config : configs) {
+            // the first implementation found wins, as with ServiceLoader lookups
+            if (!entries.containsKey(config.getName())) {
+                entries.put(config.getName(), new Entry(config));
+            }
+        }
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * @return the registry of the implementations visible to the context class loader of the current thread
+     */
+    public static CodegenConfigRegistry getInstance() {
+        final ClassLoader classLoader = contextClassLoader();
+        synchronized (REGISTRIES) {
+            CodegenConfigRegistry registry = get(classLoader);
+            if (registry == null) {
+                registry = new CodegenConfigRegistry(ServiceLoader.load(CodegenConfig.class, classLoader));
+                REGISTRIES.put(classLoader, new SoftReference<CodegenConfigRegistry>(registry));
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Returns the registry only if it was built already, as building it instantiates every implementation, which isn't
+     * worth it to look up a single one.
+     *
+     * @return the registry of the implementations visible to the context class loader of the current thread, or null
+     */
+    static CodegenConfigRegistry getInstanceIfPresent() {
+        final ClassLoader classLoader = contextClassLoader();
+        synchronized (REGISTRIES) {
+            return get(classLoader);
+        }
+    }
+
+    private static ClassLoader contextClassLoader() {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : CodegenConfigRegistry.class.getClassLoader();
+    }
+
+    private static CodegenConfigRegistry get(ClassLoader classLoader) {
+        final SoftReference<CodegenConfigRegistry> reference = REGISTRIES.get(classLoader);
+        return reference != null ? reference.get() : null;
+    }
+
+    /**
+     * @return the metadata of all implementations, in discovery order
+     */
+    public Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    /**
+     * @param name name of config
+     * @return the metadata of the implementation, or null if there is none with this name
+     */
+    public Entry getEntry(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * Creates a config, without instantiating any other implementation.
+     *
+     * @param name name of config
+     * @return a new instance, or null if there is no implementation with this name
+     */
+    public CodegenConfig newInstance(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        Queue<CodegenConfig> queue = spares.get(name);
+        if (queue != null) {
+            CodegenConfig spare = queue.poll();
+            prepare(entry, queue);
+            if (spare != null) {
+                return spare;
+            }
+        }
+        return entry.instantiate();
+    }
+
+    /**
+     * Prepares an instance of each implementation in the background, and keeps one ready from now on, so that
+     * {@link #newInstance(String)} doesn't have to wait for the constructor.
+     */
+    public void warmUp() {
+        for (Entry entry : entries.values()) {
+            Queue<CodegenConfig> queue = new ConcurrentLinkedQueue<CodegenConfig>();
+            if (spares.putIfAbsent(entry.getName(), queue) == null) {
+                prepare(entry, queue);
+            }
+        }
+    }
+
+    private void prepare(final Entry entry, final Queue<CodegenConfig> queue) {
+        getWarmUpExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                if (queue.isEmpty()) {
+                    try {
+                        queue.offer(entry.instantiate());
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Could not prepare config " + entry.getName(), e);
+                    }
+                }
+            }
+        });
+    }
+
+    private ExecutorService getWarmUpExecutor() {
+        if (warmUpExecutor == null) {
+            synchronized (this) {
+                if (warmUpExecutor == null) {
+                    // the thread ends when idle, so that neither it nor its context class loader outlive their use
+                    final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, WARM_UP_KEEP_ALIVE_SECONDS,
+                            TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), runnable -> {
+                                Thread thread = new Thread(runnable, "codegen-config-warm-up");
+                                thread.setDaemon(true);
+                                thread.setContextClassLoader(CodegenConfigRegistry.class.getClassLoader());
+                                return thread;
+                            });
+                    executor.allowCoreThreadTimeOut(true);
+                    warmUpExecutor = executor;
+                }
+            }
+        }
+        return warmUpExecutor;
+    }
+
+    /**
+     * The metadata of a config implementation, read once when it was discovered.
+     */
+    public static class Entry {
+        private final Class<? extends CodegenConfig> configClass;
+        private final String name;
+        private final CodegenType tag;
+        private final String help;
+        private final List<CliOption> cliOptions;
+
+        Entry(CodegenConfig config) {
+            this.configClass = config.getClass();
+            this.name = config.getName();
+            this.tag = config.getTag();
+            this.help = config.getHelp();
+            this.cliOptions = Collections.unmodifiableList(new ArrayList<CliOption>(config.cliOptions()));
+        }
+
+        public Class<? extends CodegenConfig> getConfigClass() {
+            return configClass;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public CodegenType getTag() {
+            return tag;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        /**
+         * @return copies of the options of the config, which the caller may modify
+         */
+        public List<CliOption> getCliOptions() {
+            final List<CliOption> copies = new ArrayList<CliOption>(cliOptions.size());
+            for (CliOption option : cliOptions) {
+                copies.add(copy(option));
+            }
+            return copies;
+        }
+
+        private static CliOption copy(CliOption option) {
+            final CliOption copy = new CliOption(option.getOpt(), option.getDescription(), option.getType());
+            copy.setDefault(option.getDefault());
+            if (option.getEnum() != null) {
+                copy.setEnum(new LinkedHashMap<String, String>(option.getEnum()));
+            }
+            return copy;
+        }
+
+        CodegenConfig instantiate() {
+            try {
+                return configClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new RuntimeException("Can't instantiate config class " + configClass.getName(), e);
+            }
+        }
+    }
+}
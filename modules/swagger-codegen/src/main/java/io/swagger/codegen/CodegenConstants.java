@@ -11,6 +11,14 @@ public class CodegenConstants {
     public static final String MODEL_DOCS = "modelDocs";
     public static final String API_TESTS = "apiTests";
     public static final String API_DOCS = "apiDocs";
+    public static final String THREADS = "threads";
+    public static final String THREADS_DESC = "number of threads used to render model and api files in parallel (1 renders sequentially)";
+
+    public static final String INCREMENTAL = "incremental";
+    public static final String INCREMENTAL_DESC = "only generate files whose inputs changed since the last run, as recorded in .swagger-codegen/manifest";
+
+    public static final String SKIP_UNCHANGED_FILES = "skipUnchangedFiles";
+    public static final String SKIP_UNCHANGED_FILES_DESC = "leave existing files untouched, including their modification time, if the generated content is equal";
 
     public static final String API_PACKAGE = "apiPackage";
     public static final String API_PACKAGE_DESC = "package for generated api classes";
@@ -8,6 +8,7 @@ import java.util.TreeSet;
 import java.util.Objects;
 
 import io.swagger.models.ExternalDocs;
+import io.swagger.util.Json;
 
 public class CodegenModel {
     public String parent, parentSchema;
@@ -18,8 +19,17 @@ public class CodegenModel {
     public List<CodegenModel> interfaceModels;
     public List<CodegenModel> children;
 
-    public String name, classname, title, description, classVarName, modelJson, dataType, xmlPrefix, xmlNamespace, xmlName;
+    public String name, classname, title, description, classVarName, dataType, xmlPrefix, xmlNamespace, xmlName;
     public String classFilename; // store the class file name, mainly used for import
+    /**
+     * @deprecated use {@link #getModelJson()}, which also returns the JSON serialized on demand. This field only holds a
+     * value assigned by a generator, which takes precedence.
+     */
+    @Deprecated
+    public String modelJson;
+    // the source of getModelJson() unless modelJson is set; serializedModelJson only caches the result
+    private Object modelJsonSource;
+    private transient volatile String serializedModelJson;
     public String unescapedDescription;
     public String discriminator;
     public String defaultValue;
@@ -87,7 +97,8 @@ public class CodegenModel {
             return false;
         if (classVarName != null ? !classVarName.equals(that.classVarName) : that.classVarName != null)
             return false;
-        if (modelJson != null ? !modelJson.equals(that.modelJson) : that.modelJson != null)
+        // compares the source rather than its JSON, so that comparing doesn't serialize it
+        if (!Objects.equals(modelJson, that.modelJson) || !Objects.equals(modelJsonSource, that.modelJsonSource))
             return false;
         if (dataType != null ? !dataType.equals(that.dataType) : that.dataType != null)
             return false;
@@ -155,7 +166,7 @@ public class CodegenModel {
         result = 31 * result + (title != null ? title.hashCode() : 0);
         result = 31 * result + (description != null ? description.hashCode() : 0);
         result = 31 * result + (classVarName != null ? classVarName.hashCode() : 0);
-        result = 31 * result + (modelJson != null ? modelJson.hashCode() : 0);
+        result = 31 * result + Objects.hash(modelJson, modelJsonSource);
         result = 31 * result + (dataType != null ? dataType.hashCode() : 0);
         result = 31 * result + (xmlPrefix != null ? xmlPrefix.hashCode() : 0);
         result = 31 * result + (xmlNamespace != null ? xmlNamespace.hashCode() : 0);
@@ -184,4 +195,39 @@ public class CodegenModel {
         result = 31 * result + Objects.hash(parentVars);
         return result;
     }
+
+    /**
+     * Returns the JSON representation of the model. It is serialized on first access from the object passed to
+     * {@link #setModelJsonSource(Object)}, unless it was set explicitly, so it reflects the source at that time.
+     *
+     * @return the JSON representation, or {@code null} if neither a value nor a source is set
+     */
+    public String getModelJson() {
+        if (modelJson != null) {
+            return modelJson;
+        }
+        String json = serializedModelJson;
+        if (json == null && modelJsonSource != null) {
+            json = Json.pretty(modelJsonSource);
+            serializedModelJson = json;
+        }
+        return json;
+    }
+
+    public void setModelJson(String modelJson) {
+        this.modelJson = modelJson;
+        this.modelJsonSource = null;
+        this.serializedModelJson = null;
+    }
+
+    /**
+     * Sets the object whose JSON representation is returned by {@link #getModelJson()}.
+     *
+     * @param source the object to serialize on first access
+     */
+    public void setModelJsonSource(Object source) {
+        this.modelJson = null;
+        this.modelJsonSource = source;
+        this.serializedModelJson = null;
+    }
 }
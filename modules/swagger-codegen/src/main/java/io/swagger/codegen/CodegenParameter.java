@@ -4,6 +4,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
+import java.util.Objects;
+
+import io.swagger.util.Json;
 
 public class CodegenParameter {
     public boolean isFormParam, isQueryParam, isPathParam, isHeaderParam,
@@ -13,7 +16,15 @@ public class CodegenParameter {
           collectionFormat, description, unescapedDescription, baseType, defaultValue, enumName;
 
     public String example; // example value (x-example)
+    /**
+     * @deprecated use {@link #getJsonSchema()}, which also returns the JSON serialized on demand. This field only holds a
+     * value assigned by a generator, which takes precedence.
+     */
+    @Deprecated
     public String jsonSchema;
+    // the source of getJsonSchema() unless jsonSchema is set; serializedJsonSchema only caches the result
+    private Object jsonSchemaSource;
+    private transient volatile String serializedJsonSchema;
     public boolean isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isByteArray, isBinary, isBoolean, isDate, isDateTime, isUuid;
     public boolean isListContainer, isMapContainer;
     public boolean isFile, notFile;
@@ -114,6 +125,7 @@ public class CodegenParameter {
         output.uniqueItems = this.uniqueItems;
         output.multipleOf = this.multipleOf;
         output.jsonSchema = this.jsonSchema;
+        output.jsonSchemaSource = this.jsonSchemaSource;
         output.defaultValue = this.defaultValue;
         output.example = this.example;
         output.isEnum = this.isEnum;
@@ -208,7 +220,8 @@ public class CodegenParameter {
             return false;
         if (example != null ? !example.equals(that.example) : that.example != null)
             return false;
-        if (jsonSchema != null ? !jsonSchema.equals(that.jsonSchema) : that.jsonSchema != null)
+        // compares the source rather than its JSON, so that comparing doesn't serialize it
+        if (!Objects.equals(jsonSchema, that.jsonSchema) || !Objects.equals(jsonSchemaSource, that.jsonSchemaSource))
             return false;
         if (isString != that.isString)
             return false;
@@ -305,7 +318,7 @@ public class CodegenParameter {
         result = 31 * result + (baseType != null ? baseType.hashCode() : 0);
         result = 31 * result + (defaultValue != null ? defaultValue.hashCode() : 0);
         result = 31 * result + (example != null ? example.hashCode() : 0);
-        result = 31 * result + (jsonSchema != null ? jsonSchema.hashCode() : 0);
+        result = 31 * result + Objects.hash(jsonSchema, jsonSchemaSource);
         result = 31 * result + (isString ? 13:31);
         result = 31 * result + (isNumeric ? 13:31);
         result = 31 * result + (isInteger ? 13:31);
@@ -343,5 +356,39 @@ public class CodegenParameter {
         result = 31 * result + (multipleOf != null ? multipleOf.hashCode() : 0);
         return result;
     }
-}
 
+    /**
+     * Returns the JSON representation of the parameter. It is serialized on first access from the object passed to
+     * {@link #setJsonSchemaSource(Object)}, unless it was set explicitly, so it reflects the source at that time.
+     *
+     * @return the JSON representation, or {@code null} if neither a value nor a source is set
+     */
+    public String getJsonSchema() {
+        if (jsonSchema != null) {
+            return jsonSchema;
+        }
+        String json = serializedJsonSchema;
+        if (json == null && jsonSchemaSource != null) {
+            json = Json.pretty(jsonSchemaSource);
+            serializedJsonSchema = json;
+        }
+        return json;
+    }
+
+    public void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+        this.serializedJsonSchema = null;
+    }
+
+    /**
+     * Sets the object whose JSON representation is returned by {@link #getJsonSchema()}.
+     *
+     * @param source the object to serialize on first access
+     */
+    public void setJsonSchemaSource(Object source) {
+        this.jsonSchema = null;
+        this.jsonSchemaSource = source;
+        this.serializedJsonSchema = null;
+    }
+}
@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import io.swagger.util.Json;
+
 public class CodegenProperty implements Cloneable {
     public String baseName, complexType, getter, setter, description, datatype,
           datatypeWithEnum, dataFormat, name, min, max, defaultValue, defaultValueWithParam,
@@ -31,7 +33,15 @@ public class CodegenProperty implements Cloneable {
      */
     public String example;
 
+    /**
+     * @deprecated use {@link #getJsonSchema()}, which also returns the JSON serialized on demand. This field only holds a
+     * value assigned by a generator, which takes precedence.
+     */
+    @Deprecated
     public String jsonSchema;
+    // the source of getJsonSchema() unless jsonSchema is set; serializedJsonSchema only caches the result
+    private Object jsonSchemaSource;
+    private transient volatile String serializedJsonSchema;
     public String minimum;
     public String maximum;
     public boolean exclusiveMinimum;
@@ -100,7 +110,7 @@ public class CodegenProperty implements Cloneable {
         result = prime * result + ((isPrimitiveType  ? 13:31));
         result = prime * result + ((isReadOnly  ? 13:31));
         result = prime * result + ((items == null) ? 0 : items.hashCode());
-        result = prime * result + ((jsonSchema == null) ? 0 : jsonSchema.hashCode());
+        result = prime * result + Objects.hash(jsonSchema, jsonSchemaSource);
         result = prime * result + ((max == null) ? 0 : max.hashCode());
         result = prime * result + ((maxLength == null) ? 0 : maxLength.hashCode());
         result = prime * result + ((maximum == null) ? 0 : maximum.hashCode());
@@ -211,7 +221,8 @@ public class CodegenProperty implements Cloneable {
         if ((this.example == null) ? (other.example != null) : !this.example.equals(other.example)) {
             return false;
         }
-        if ((this.jsonSchema == null) ? (other.jsonSchema != null) : !this.jsonSchema.equals(other.jsonSchema)) {
+        // compares the source rather than its JSON, so that comparing doesn't serialize it
+        if (!Objects.equals(this.jsonSchema, other.jsonSchema) || !Objects.equals(this.jsonSchemaSource, other.jsonSchemaSource)) {
             return false;
         }
         if (this.minimum != other.minimum && (this.minimum == null || !this.minimum.equals(other.minimum))) {
@@ -369,5 +380,38 @@ public class CodegenProperty implements Cloneable {
         }
     }
 
+    /**
+     * Returns the JSON representation of the property schema. It is serialized on first access from the object passed to
+     * {@link #setJsonSchemaSource(Object)}, unless it was set explicitly, so it reflects the source at that time.
+     *
+     * @return the JSON representation, or {@code null} if neither a value nor a source is set
+     */
+    public String getJsonSchema() {
+        if (jsonSchema != null) {
+            return jsonSchema;
+        }
+        String json = serializedJsonSchema;
+        if (json == null && jsonSchemaSource != null) {
+            json = Json.pretty(jsonSchemaSource);
+            serializedJsonSchema = json;
+        }
+        return json;
+    }
+
+    public void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+        this.serializedJsonSchema = null;
+    }
 
+    /**
+     * Sets the object whose JSON representation is returned by {@link #getJsonSchema()}.
+     *
+     * @param source the object to serialize on first access
+     */
+    public void setJsonSchemaSource(Object source) {
+        this.jsonSchema = null;
+        this.jsonSchemaSource = source;
+        this.serializedJsonSchema = null;
+    }
 }
@@ -3,6 +3,9 @@ package io.swagger.codegen;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+
+import io.swagger.util.Json;
 
 public class CodegenResponse {
     public final List<CodegenProperty> headers = new ArrayList<CodegenProperty>();
@@ -20,7 +23,15 @@ public class CodegenResponse {
     public boolean isBinary = false;
     public boolean isFile = false;
     public Object schema;
+    /**
+     * @deprecated use {@link #getJsonSchema()}, which also returns the JSON serialized on demand. This field only holds a
+     * value assigned by a generator, which takes precedence.
+     */
+    @Deprecated
     public String jsonSchema;
+    // the source of getJsonSchema() unless jsonSchema is set; serializedJsonSchema only caches the result
+    private Object jsonSchemaSource;
+    private transient volatile String serializedJsonSchema;
     public Map<String, Object> vendorExtensions;
 
     public boolean isWildcard() {
@@ -75,7 +86,8 @@ public class CodegenResponse {
             return false;
         if (vendorExtensions != null ? !vendorExtensions.equals(that.vendorExtensions) : that.vendorExtensions != null)
             return false;
-        return jsonSchema != null ? jsonSchema.equals(that.jsonSchema) : that.jsonSchema == null;
+        // compares the source rather than its JSON, so that comparing doesn't serialize it
+        return Objects.equals(jsonSchema, that.jsonSchema) && Objects.equals(jsonSchemaSource, that.jsonSchemaSource);
     }
 
     @Override
@@ -97,8 +109,43 @@ public class CodegenResponse {
         result = 31 * result + (isBinary ? 13:31);
         result = 31 * result + (isFile ? 13:31);
         result = 31 * result + (schema != null ? schema.hashCode() : 0);
-        result = 31 * result + (jsonSchema != null ? jsonSchema.hashCode() : 0);
+        result = 31 * result + Objects.hash(jsonSchema, jsonSchemaSource);
         result = 31 * result + (vendorExtensions != null ? vendorExtensions.hashCode() : 0);
         return result;
     }
+
+    /**
+     * Returns the JSON representation of the response. It is serialized on first access from the object passed to
+     * {@link #setJsonSchemaSource(Object)}, unless it was set explicitly, so it reflects the source at that time.
+     *
+     * @return the JSON representation, or {@code null} if neither a value nor a source is set
+     */
+    public String getJsonSchema() {
+        if (jsonSchema != null) {
+            return jsonSchema;
+        }
+        String json = serializedJsonSchema;
+        if (json == null && jsonSchemaSource != null) {
+            json = Json.pretty(jsonSchemaSource);
+            serializedJsonSchema = json;
+        }
+        return json;
+    }
+
+    public void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+        this.serializedJsonSchema = null;
+    }
+
+    /**
+     * Sets the object whose JSON representation is returned by {@link #getJsonSchema()}.
+     *
+     * @param source the object to serialize on first access
+     */
+    public void setJsonSchemaSource(Object source) {
+        this.jsonSchema = null;
+        this.jsonSchemaSource = source;
+        this.serializedJsonSchema = null;
+    }
 }
@@ -0,0 +1,184 @@
+package io.swagger.codegen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes to a file only if the content differs from what the file already contains.
+ *
+ * <p>As long as the written bytes equal the existing content, they are merely compared, so a file receiving identical
+ * content is never opened for writing and keeps its modification time. At the first difference, the equal prefix and
+ * all remaining bytes go to a temporary file next to the file, which replaces the file on {@link #commit()}. The file
+ * keeps its previous content until then, so a failure while writing leaves it untouched. Neither the new nor the
+ * existing content is held in memory as a whole.
+ *
+ * <p>Usage: write the content, {@link #close()} the stream, then {@link #commit()} it if the content is complete. Call
+ * {@link #discard()} in any case to remove the temporary file of an uncommitted stream.
+ */
+class ComparingFileOutputStream extends OutputStream {
+
+    private final Path file;
+    private final FileChannel existingChannel;
+    private final long existingSize;
+    private byte[] existing = new byte[8192];
+    private long position = 0;
+    private boolean modified;
+    private Path tempFile;
+    private FileChannel tempChannel;
+    private boolean closed;
+    private boolean committed;
+
+    /**
+     * Opens the file for comparing. A file which does not exist is created on {@link #commit()}.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be opened
+     */
+    ComparingFileOutputStream(Path file) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            existingChannel = FileChannel.open(file, StandardOpenOption.READ);
+            existingSize = existingChannel.size();
+        } else {
+            existingChannel = null;
+            existingSize = 0;
+            modified = true;
+        }
+    }
+
+    /**
+     * Returns whether the content differs from the file so far. After {@link #close()}, this also covers the content
+     * being shorter than the file.
+     *
+     * @return {@code true} if the file does not exist or its content differs
+     */
+    boolean isModified() {
+        return modified;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (tempChannel == null) {
+            if (!modified) {
+                final int equal = countEqualBytes(b, off, len);
+                position += equal;
+                if (equal == len) {
+                    return;
+                }
+                modified = true;
+                off += equal;
+                len -= equal;
+            }
+            openTempFile();
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+        while (buffer.hasRemaining()) {
+            position += tempChannel.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (tempChannel == null && (modified || position < existingSize)) {
+                // the content is an empty new file, or a prefix of the existing one
+                modified = true;
+                openTempFile();
+            }
+        } finally {
+            try {
+                if (tempChannel != null) {
+                    tempChannel.close();
+                }
+            } finally {
+                if (existingChannel != null) {
+                    existingChannel.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the file with the written content if it was modified. Must only be called after the stream was closed
+     * and the complete content was written.
+     *
+     * @throws IOException if the file cannot be replaced
+     */
+    void commit() throws IOException {
+        if (!closed) {
+            throw new IllegalStateException("Stream not closed");
+        }
+        if (tempFile != null) {
+            FileReplacement.replace(tempFile, file);
+        }
+        committed = true;
+    }
+
+    /**
+     * Removes the temporary file unless the stream was committed, leaving the file with its previous content.
+     *
+     * @return {@code false} if the temporary file could not be removed
+     */
+    boolean discard() {
+        return committed || FileReplacement.discard(tempFile);
+    }
+
+    /**
+     * Starts writing to a temporary file, beginning with the part of the existing content which was equal so far.
+     */
+    private void openTempFile() throws IOException {
+        tempFile = FileReplacement.createTempFile(file);
+        tempChannel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+        long copied = 0;
+        while (copied < position) {
+            final long transferred = existingChannel.transferTo(copied, position - copied, tempChannel);
+            if (transferred <= 0) {
+                throw new IOException("File changed while comparing: " + file);
+            }
+            copied += transferred;
+        }
+    }
+
+    /**
+     * Compares {@code b} with the existing content at the current position.
+     *
+     * @return the number of leading bytes which equal the existing content
+     */
+    private int countEqualBytes(byte[] b, int off, int len) throws IOException {
+        final int available = (int) Math.min(len, existingSize - position);
+        if (existing.length < available) {
+            existing = new byte[available];
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(existing, 0, available);
+        while (buffer.hasRemaining()) {
+            if (existingChannel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        final int read = buffer.position();
+        for (int i = 0; i < read; i++) {
+            if (existing[i] != b[off + i]) {
+                return i;
+            }
+        }
+        return read;
+    }
+}
@@ -14,6 +14,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Function;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.samskivert.mustache.Mustache.Compiler;
 
@@ -65,6 +67,33 @@ import io.swagger.util.Json;
 public class DefaultCodegen {
     protected static final Logger LOGGER = LoggerFactory.getLogger(DefaultCodegen.class);
 
+    // naming utilities are called several times for every model, property, parameter and operation, so their patterns
+    // are compiled once and their results are memoized
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("\\W+");
+    private static final Pattern UNICODE_NON_WORD_CHARACTER = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS);
+    private static final Pattern LEADING_DIGIT = Pattern.compile("\\d.*");
+    private static final Pattern UNDERSCORE_FIRST_PATTERN = Pattern.compile("([A-Z]+)([A-Z][a-z])");
+    private static final Pattern UNDERSCORE_SECOND_PATTERN = Pattern.compile("([a-z\\d])([A-Z])");
+    private static final Pattern DASHIZE_PATTERN = Pattern.compile("[_ ]");
+    private static final Pattern CAMELIZE_SLASH_PATTERN = Pattern.compile("\\/(.?)");
+    private static final Pattern CAMELIZE_CLASS_NAME_PATTERN = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+    private static final Pattern CAMELIZE_UNDERSCORE_PATTERN = Pattern.compile("(_)(.)");
+    private static final Pattern CAMELIZE_HYPHEN_PATTERN = Pattern.compile("(-)(.)");
+    private static final Pattern UNDERSCORE_PATTERN = Pattern.compile("_");
+    private static final Pattern DOLLAR_PATTERN = Pattern.compile("\\$");
+
+    private static final int NAME_CACHE_SIZE = 10000;
+    private static final Cache<String, String> CAMELIZED_NAMES = newNameCache();
+    private static final Cache<String, String> LOWER_CAMELIZED_NAMES = newNameCache();
+    private static final Cache<String, String> UNDERSCORED_NAMES = newNameCache();
+    private static final Cache<String, String> SANITIZED_NAMES = newNameCache();
+    private static final Cache<String, String> SANITIZED_UNICODE_NAMES = newNameCache();
+    private static final Cache<String, String> ENUM_VAR_NAMES = newNameCache();
+
+    private static Cache<String, String> newNameCache() {
+        return CacheBuilder.newBuilder().maximumSize(NAME_CACHE_SIZE).build();
+    }
+
     protected String inputSpec;
     protected String outputFolder = "";
     protected Set<String> defaultIncludes = new HashSet<String>();
@@ -86,7 +115,7 @@ public class DefaultCodegen {
     protected String templateDir;
     protected String embeddedTemplateDir;
     protected String commonTemplateDir = "_common";
-    protected Map<String, Object> additionalProperties = new HashMap<String, Object>();
+    protected Map<String, Object> additionalProperties = new ModificationCountingMap<String, Object>();
     protected Map<String, Object> vendorExtensions = new HashMap<String, Object>();
     protected List<SupportingFile> supportingFiles = new ArrayList<SupportingFile>();
     protected List<CliOption> cliOptions = new ArrayList<CliOption>();
@@ -110,6 +139,14 @@ public class DefaultCodegen {
     protected Map<String, String> typeAliases = null;
 
     protected String ignoreFilePathOverride;
+    protected GeneratorSettings generatorSettings = new GeneratorSettings();
+    protected boolean typeResolutionCacheEnabled = true;
+    // the types resolved during the current generation, if any
+    protected TypeResolutionCache typeResolutionCache;
+
+    // the example generator of the definitions of the spec, which reuses rendered examples across operations
+    private ExampleGenerator exampleGenerator;
+    private Map<String, Model> exampleDefinitions;
 
     public List<CliOption> cliOptions() {
         return cliOptions;
@@ -319,12 +356,16 @@ public class DefaultCodegen {
             return "EMPTY";
         }
 
-        String var = value.replaceAll("\\W+", "_").toUpperCase();
-        if (var.matches("\\d.*")) {
-            return "_" + var;
-        } else {
-            return var;
+        String var = ENUM_VAR_NAMES.getIfPresent(value);
+        if (var == null) {
+            var = NON_WORD_CHARACTERS.matcher(value).replaceAll("_").toUpperCase();
+            // the non-word replacement above removed any line terminators, so only the first character matters
+            if (startsWithDigit(var)) {
+                var = "_" + var;
+            }
+            ENUM_VAR_NAMES.put(value, var);
         }
+        return var;
     }
 
     // override with any special post-processing
@@ -979,11 +1020,11 @@ public class DefaultCodegen {
                 LOGGER.error("No Type defined for Additional Property " + additionalProperties2 + "\n" //
                         + "\tIn Property: " + p);
             }
-            String inner = getSwaggerType(additionalProperties2);
+            String inner = resolveSwaggerType(additionalProperties2);
             return instantiationTypes.get("map") + "<String, " + inner + ">";
         } else if (p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
-            String inner = getSwaggerType(ap.getItems());
+            String inner = resolveSwaggerType(ap.getItems());
             return instantiationTypes.get("array") + "<" + inner + ">";
         } else {
             return null;
@@ -1299,6 +1340,10 @@ public class DefaultCodegen {
         if (typeAliases == null) {
             // Only do this once during first call
             typeAliases = getAllAliases(allDefinitions);
+            // the aliases change the types resolved so far
+            if (typeResolutionCache != null) {
+                typeResolutionCache.clear();
+            }
         }
         CodegenModel m = CodegenModelFactory.newInstance(CodegenModelType.MODEL);
         if (reservedWords.contains(name)) {
@@ -1312,7 +1357,7 @@ public class DefaultCodegen {
         m.classname = toModelName(name);
         m.classVarName = toVarName(name);
         m.classFilename = toModelFilename(name);
-        m.modelJson = Json.pretty(model);
+        m.setModelJsonSource(model);
         m.externalDocs = model.getExternalDocs();
         m.vendorExtensions = model.getVendorExtensions();
         m.isAlias = typeAliases.containsKey(name);
@@ -1433,7 +1478,7 @@ public class DefaultCodegen {
             ModelImpl impl = (ModelImpl) model;
             if (impl.getType() != null) {
                 Property p = PropertyBuilder.build(impl.getType(), impl.getFormat(), null);
-                m.dataType = getSwaggerType(p);
+                m.dataType = resolveSwaggerType(p);
             }
             if(impl.getEnum() != null && impl.getEnum().size() > 0) {
                 m.isEnum = true;
@@ -1548,7 +1593,7 @@ public class DefaultCodegen {
         }
         property.defaultValue = toDefaultValue(p);
         property.defaultValueWithParam = toDefaultValueWithParam(name, p);
-        property.jsonSchema = Json.pretty(p);
+        property.setJsonSchemaSource(p);
         if (p.getReadOnly() != null) {
             property.isReadOnly = p.getReadOnly();
         }
@@ -1562,7 +1607,7 @@ public class DefaultCodegen {
         }
         property.vendorExtensions = p.getVendorExtensions();
 
-        String type = getSwaggerType(p);
+        String type = resolveSwaggerType(p);
         if (p instanceof AbstractNumericProperty) {
             AbstractNumericProperty np = (AbstractNumericProperty) p;
             if (np.getMinimum() != null) {
@@ -1763,7 +1808,7 @@ public class DefaultCodegen {
                 property.allowableValues = allowableValues;
             }
         }
-        property.datatype = getTypeDeclaration(p);
+        property.datatype = resolveTypeDeclaration(p);
         property.dataFormat = p.getFormat();
 
         // this can cause issues for clients which don't support enums
@@ -1774,13 +1819,13 @@ public class DefaultCodegen {
             property.datatypeWithEnum = property.datatype;
         }
 
-        property.baseType = getSwaggerType(p);
+        property.baseType = resolveSwaggerType(p);
 
         if (p instanceof ArrayProperty) {
             property.isContainer = true;
             property.isListContainer = true;
             property.containerType = "array";
-            property.baseType = getSwaggerType(p);
+            property.baseType = resolveSwaggerType(p);
             if (p.getXml() != null) {
                 property.isXmlWrapped = p.getXml().getWrapped() == null ? false : p.getXml().getWrapped();
                 property.xmlPrefix= p.getXml().getPrefix();
@@ -1803,7 +1848,7 @@ public class DefaultCodegen {
             property.isContainer = true;
             property.isMapContainer = true;
             property.containerType = "map";
-            property.baseType = getSwaggerType(p);
+            property.baseType = resolveSwaggerType(p);
             property.minItems = ap.getMinProperties();
             property.maxItems = ap.getMaxProperties();
 
@@ -2161,7 +2206,7 @@ public class DefaultCodegen {
                             op.returnBaseType = cm.baseType;
                         }
                     }
-                    op.examples = new ExampleGenerator(definitions).generate(methodResponse.getExamples(), operation.getProduces(), responseProperty);
+                    op.examples = exampleGenerator(definitions).generate(methodResponse.getExamples(), operation.getProduces(), responseProperty);
                     op.defaultResponse = toDefaultValue(responseProperty);
                     op.returnType = cm.datatype;
                     op.hasReference = definitions != null && definitions.containsKey(op.returnBaseType);
@@ -2242,7 +2287,7 @@ public class DefaultCodegen {
                     bodyParam = p;
                     bodyParams.add(p.copy());
                     if(definitions != null) {
-                        op.requestBodyExamples = new ExampleGenerator(definitions).generate(null, operation.getConsumes(), bodyParam.dataType);
+                        op.requestBodyExamples = exampleGenerator(definitions).generate(null, operation.getConsumes(), bodyParam.dataType);
                     }
                 } else if (param instanceof FormParameter) {
                     formParams.add(p.copy());
@@ -2322,7 +2367,7 @@ public class DefaultCodegen {
         r.message = escapeText(response.getDescription());
         r.schema = response.getSchema();
         r.examples = toExamples(response.getExamples());
-        r.jsonSchema = Json.pretty(response);
+        r.setJsonSchemaSource(response);
         r.vendorExtensions = response.getVendorExtensions();
         addHeaders(response, r.headers);
         r.hasHeaders = !r.headers.isEmpty();
@@ -2414,9 +2459,9 @@ public class DefaultCodegen {
         if (param.getRequired()) {
             p.required = param.getRequired();
         }
-        p.jsonSchema = Json.pretty(param);
+        p.setJsonSchemaSource(param);
 
-        if (System.getProperty("debugParser") != null) {
+        if (generatorSettings.isSet("debugParser")) {
             LOGGER.info("working on Parameter " + param.getName());
         }
 
@@ -2906,6 +2951,18 @@ public class DefaultCodegen {
         return output;
     }
 
+    /**
+     * @param definitions the models of the spec
+     * @return the example generator of the models, which is shared by the operations of the same models
+     */
+    private ExampleGenerator exampleGenerator(Map<String, Model> definitions) {
+        if (exampleGenerator == null || exampleDefinitions != definitions) {
+            exampleGenerator = new ExampleGenerator(definitions);
+            exampleDefinitions = definitions;
+        }
+        return exampleGenerator;
+    }
+
     private void addHeaders(Response response, List<CodegenProperty> target) {
         if (response.getHeaders() != null) {
             for (Map.Entry<String, Property> headers : response.getHeaders().entrySet()) {
@@ -2982,7 +3039,7 @@ public class DefaultCodegen {
     private void addParentContainer(CodegenModel m, String name, Property property) {
         final CodegenProperty tmp = fromProperty(name, property);
         addImport(m, tmp.complexType);
-        m.parent = toInstantiationType(property);
+        m.parent = resolveInstantiationType(property);
         final String containerType = tmp.containerType;
         final String instantiationType = instantiationTypes.get(containerType);
         if (instantiationType != null) {
@@ -3003,21 +3060,22 @@ public class DefaultCodegen {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        String result = UNDERSCORED_NAMES.getIfPresent(word);
+        if (result == null) {
+            // Replace package separator with slash.
+            result = word.replace('.', '/');
+            // Replace $ with two underscores for inner classes.
+            result = result.replace("$", "__");
+            // Replace capital letter with _ plus lowercase letter.
+            result = UNDERSCORE_FIRST_PATTERN.matcher(result).replaceAll("$1_$2");
+            result = UNDERSCORE_SECOND_PATTERN.matcher(result).replaceAll("$1_$2");
+            result = result.replace('-', '_');
+            // replace space with underscore
+            result = result.replace(' ', '_');
+            result = result.toLowerCase();
+            UNDERSCORED_NAMES.put(word, result);
+        }
+        return result;
     }
 
     /**
@@ -3028,7 +3086,7 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     protected String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]", "-");
+        return DASHIZE_PATTERN.matcher(underscore(word)).replaceAll("-");
     }
 
     /**
@@ -3103,7 +3161,7 @@ public class DefaultCodegen {
             if (prop == null) {
                 LOGGER.warn("null property for " + key);
             } else {
-                final CodegenProperty cp = fromProperty(key, prop);
+                final CodegenProperty cp = fromModelProperty(key, prop);
                 cp.required = mandatory.contains(key) ? true : false;
                 m.hasRequired = m.hasRequired || cp.required;
                 m.hasOptional = m.hasOptional || !cp.required;
@@ -3156,6 +3214,35 @@ public class DefaultCodegen {
         }
     }
 
+    /**
+     * Converts a property of a model. During a generation a property is converted once, and copied to the models sharing
+     * it, i.e. to the vars and allVars of a model and to the allVars of the models inheriting it, as each model changes
+     * its properties afterwards.
+     */
+    private CodegenProperty fromModelProperty(String name, Property p) {
+        final TypeResolutionCache cache = typeResolutionCache;
+        if (cache == null) {
+            return fromProperty(name, p);
+        }
+        final CodegenProperty converted = cache.getProperty(name, p);
+        if (converted != null) {
+            return copyOf(converted);
+        }
+        final CodegenProperty property = fromProperty(name, p);
+        cache.putProperty(name, p, copyOf(property));
+        return property;
+    }
+
+    private static CodegenProperty copyOf(CodegenProperty property) {
+        final CodegenProperty copy = property.clone();
+        // the vendor extensions are the ones of the spec, which fromProperty shares as well
+        copy.vendorExtensions = property.vendorExtensions;
+        if (property.items != null) {
+            copy.items = copyOf(property.items);
+        }
+        return copy;
+    }
+
     /**
      * Determine all of the types in the model definitions that are aliases of
      * simple types.
@@ -3233,8 +3320,18 @@ public class DefaultCodegen {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
+        final Cache<String, String> cache = lowercaseFirstLetter ? LOWER_CAMELIZED_NAMES : CAMELIZED_NAMES;
+        String result = cache.getIfPresent(word);
+        if (result == null) {
+            result = doCamelize(word, lowercaseFirstLetter);
+            cache.put(word, result);
+        }
+        return result;
+    }
+
+    private static String doCamelize(String word, boolean lowercaseFirstLetter) {
         // Replace all slashes with dots (package separator)
-        Pattern p = Pattern.compile("\\/(.?)");
+        Pattern p = CAMELIZE_SLASH_PATTERN;
         Matcher m = p.matcher(word);
         while (m.find()) {
             word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
@@ -3258,22 +3355,22 @@ public class DefaultCodegen {
         }
 
         // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+        p = CAMELIZE_CLASS_NAME_PATTERN;
         m = p.matcher(word);
         if (m.find()) {
             String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
-            rep = rep.replaceAll("\\$", "\\\\\\$");
+            rep = DOLLAR_PATTERN.matcher(rep).replaceAll("\\\\\\$");
             word = m.replaceAll(rep);
         }
 
         // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
+        p = CAMELIZE_UNDERSCORE_PATTERN;
         m = p.matcher(word);
         while (m.find()) {
             String original = m.group(2);
             String upperCase = original.toUpperCase();
             if (original.equals(upperCase)) {
-                word = word.replaceFirst("_", "");
+                word = UNDERSCORE_PATTERN.matcher(word).replaceFirst("");
             } else {
                 word = m.replaceFirst(upperCase);
             }
@@ -3281,7 +3378,7 @@ public class DefaultCodegen {
         }
 
         // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
+        p = CAMELIZE_HYPHEN_PATTERN;
         m = p.matcher(word);
         while (m.find()) {
             word = m.replaceFirst(m.group(2).toUpperCase());
@@ -3489,36 +3586,51 @@ public class DefaultCodegen {
             return "value";
         }
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
+        final Cache<String, String> cache = allowUnicodeIdentifiers ? SANITIZED_UNICODE_NAMES : SANITIZED_NAMES;
+        String sanitized = cache.getIfPresent(name);
+        if (sanitized == null) {
+            sanitized = doSanitizeName(name, allowUnicodeIdentifiers);
+            cache.put(name, sanitized);
+        }
+        return sanitized;
+    }
 
+    private static String doSanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        // All replacements are done in a single pass, which is equivalent to applying them one after another:
+        // input[] => input
         // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
         // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
         // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
         // input-name => input_name
-        name = name.replaceAll("-", "_");
-
         // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
+        final StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c == '[' && i + 1 < name.length() && name.charAt(i + 1) == ']') {
+                i++;
+            } else if (c == '[' || c == '(' || c == '.' || c == '-' || c == ' ') {
+                sb.append('_');
+            } else if (c == ']' || c == ')') {
+                continue;
+            } else if (allowUnicodeIdentifiers || isAsciiWordCharacter(c)) {
+                sb.append(c);
+            }
+            // else: remove everything else other than word, number and _
+            // $php_variable => php_variable
         }
-        else {
-            name = name.replaceAll("\\W", "");
+
+        if (allowUnicodeIdentifiers) {
+            return UNICODE_NON_WORD_CHARACTER.matcher(sb).replaceAll("");
         }
+        return sb.toString();
+    }
 
-        return name;
+    private static boolean isAsciiWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean startsWithDigit(String value) {
+        return !value.isEmpty() && value.charAt(0) >= '0' && value.charAt(0) <= '9';
     }
 
     /**
@@ -3531,7 +3643,7 @@ public class DefaultCodegen {
         tag = camelize(sanitizeName(tag));
 
         // tag starts with numbers
-        if (tag.matches("^\\d.*")) {
+        if (LEADING_DIGIT.matcher(tag).matches()) {
             tag = "Class" + tag;
         }
 
@@ -3740,6 +3852,98 @@ public class DefaultCodegen {
         this.ignoreFilePathOverride = ignoreFileOverride;
     }
 
+    /**
+     * @return the settings of the current generation, such as debug switches
+     */
+    public GeneratorSettings getGeneratorSettings() {
+        return generatorSettings;
+    }
+
+    /**
+     * Sets the settings of the current generation, which are read in place of JVM System properties.
+     *
+     * @param generatorSettings the settings
+     */
+    public void setGeneratorSettings(GeneratorSettings generatorSettings) {
+        this.generatorSettings = generatorSettings;
+    }
+
+    /**
+     * @return true if the types of properties may be cached during a generation, i.e. the results of
+     * {@link #getSwaggerType(Property)}, {@link #getTypeDeclaration(Property)} and {@link #toInstantiationType(Property)}
+     * only depend on the shape of the property and on the options of the run
+     */
+    public boolean isTypeResolutionCacheEnabled() {
+        return typeResolutionCacheEnabled;
+    }
+
+    public void setTypeResolutionCacheEnabled(boolean typeResolutionCacheEnabled) {
+        this.typeResolutionCacheEnabled = typeResolutionCacheEnabled;
+    }
+
+    /**
+     * @return the types resolved during the current generation, or {@code null} outside of a generation
+     */
+    public TypeResolutionCache getTypeResolutionCache() {
+        return typeResolutionCache;
+    }
+
+    /**
+     * Sets the cache of the types resolved during a generation, which is set by the generator once the options are
+     * processed, and reset at the end of the generation.
+     *
+     * @param typeResolutionCache the cache, or {@code null} to resolve every type
+     */
+    public void setTypeResolutionCache(TypeResolutionCache typeResolutionCache) {
+        this.typeResolutionCache = typeResolutionCache;
+    }
+
+    /**
+     * @param p Swagger property object
+     * @return the swagger type of the property, from the types resolved during the generation if possible
+     */
+    protected String resolveSwaggerType(Property p) {
+        return resolveType(TypeResolutionCache.Kind.SWAGGER_TYPE, p);
+    }
+
+    /**
+     * @param p Swagger property object
+     * @return the type declaration of the property, from the types resolved during the generation if possible
+     */
+    protected String resolveTypeDeclaration(Property p) {
+        return resolveType(TypeResolutionCache.Kind.TYPE_DECLARATION, p);
+    }
+
+    /**
+     * @param p Swagger property object
+     * @return the instantiation type of the property, from the types resolved during the generation if possible
+     */
+    protected String resolveInstantiationType(Property p) {
+        return resolveType(TypeResolutionCache.Kind.INSTANTIATION_TYPE, p);
+    }
+
+    private String resolveType(TypeResolutionCache.Kind kind, Property p) {
+        final TypeResolutionCache cache = typeResolutionCache;
+        String type = cache != null ? cache.get(kind, p) : null;
+        if (type == null) {
+            switch (kind) {
+                case SWAGGER_TYPE:
+                    type = getSwaggerType(p);
+                    break;
+                case TYPE_DECLARATION:
+                    type = getTypeDeclaration(p);
+                    break;
+                default:
+                    type = toInstantiationType(p);
+                    break;
+            }
+            if (cache != null) {
+                cache.put(kind, p, type);
+            }
+        }
+        return type;
+    }
+
     public boolean convertPropertyToBoolean(String propertyKey) {
         boolean booleanValue = false;
         if (additionalProperties.containsKey(propertyKey)) {
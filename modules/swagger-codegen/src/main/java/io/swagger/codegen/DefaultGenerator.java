@@ -2,6 +2,8 @@ package io.swagger.codegen;
 
 import io.swagger.codegen.ignore.CodegenIgnoreProcessor;
 import io.swagger.codegen.languages.AbstractJavaCodegen;
+import io.swagger.codegen.manifest.GenerationManifest;
+import io.swagger.codegen.manifest.InputFingerprint;
 import io.swagger.codegen.utils.ImplementationVersion;
 import io.swagger.codegen.languages.AbstractJavaCodegen;
 import io.swagger.codegen.template.TemplateEngine;
@@ -20,9 +22,23 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
 
 public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
+    private static final Comparator<CodegenOperation> OPERATION_ID_ORDER = new Comparator<CodegenOperation>() {
+        @Override
+        public int compare(CodegenOperation one, CodegenOperation another) {
+            return ObjectUtils.compare(one.operationId, another.operationId);
+        }
+    };
     protected CodegenConfig config;
     protected ClientOptInput opts;
     protected Swagger swagger;
@@ -36,10 +52,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     private TemplateEngine templateEngine = null;
     private Boolean generateModelDocumentation = null;
     private Boolean generateSwaggerMetadata = true;
+    private int threads = 1;
+    private ExecutorService renderExecutor;
+    private Boolean incremental = false;
+    private GenerationManifest manifest;
+    private Map<String, Object> additionalPropertiesSnapshot;
+    private long additionalPropertiesModificationCount;
     private String basePath;
     private String basePathWithoutHost;
     private String contextPath;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
+    private GeneratorSettings settings = new GeneratorSettings();
 
     @Override
     public Generator opts(ClientOptInput opts) {
@@ -47,6 +70,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.swagger = opts.getSwagger();
         this.config = opts.getConfig();
         this.config.additionalProperties().putAll(opts.getOpts().getProperties());
+        this.settings = opts.getSettings() != null ? opts.getSettings() : new GeneratorSettings();
+        this.config.setGeneratorSettings(settings);
 
         String ignoreFileLocation = this.config.getIgnoreFilePathOverride();
         if (ignoreFileLocation != null) {
@@ -76,7 +101,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     }
 
     /**
-     * Set generator properties otherwise pulled from system properties.
+     * Set generator properties otherwise pulled from the {@link GeneratorSettings} of the run or system properties.
      * Useful for running tests in parallel without relying on System.properties.
      * @param key The system property key
      * @param value The system property value
@@ -126,9 +151,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     private void configureGeneratorProperties() {
         // allows generating only models by specifying a CSV of models to generate, or empty for all
         // NOTE: Boolean.TRUE is required below rather than `true` because of JVM boxing constraints and type inference.
-        generateApis = System.getProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
-        generateModels = System.getProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
-        generateSupportingFiles = System.getProperty(CodegenConstants.SUPPORTING_FILES) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.SUPPORTING_FILES, null);
+        generateApis = settings.isSet(CodegenConstants.APIS) ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
+        generateModels = settings.isSet(CodegenConstants.MODELS) ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
+        generateSupportingFiles = settings.isSet(CodegenConstants.SUPPORTING_FILES) ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.SUPPORTING_FILES, null);
 
         if (generateApis == null && generateModels == null && generateSupportingFiles == null) {
             // no specifics are set, generate everything
@@ -146,10 +171,18 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
         // model/api tests and documentation options rely on parent generate options (api or model) and no other options.
         // They default to true in all scenarios and can only be marked false explicitly
-        generateModelTests = System.getProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
-        generateModelDocumentation = System.getProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
-        generateApiTests = System.getProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
-        generateApiDocumentation = System.getProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
+        generateModelTests = settings.isSet(CodegenConstants.MODEL_TESTS) ? Boolean.valueOf(settings.get(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
+        generateModelDocumentation = settings.isSet(CodegenConstants.MODEL_DOCS) ? Boolean.valueOf(settings.get(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
+        generateApiTests = settings.isSet(CodegenConstants.API_TESTS) ? Boolean.valueOf(settings.get(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
+        generateApiDocumentation = settings.isSet(CodegenConstants.API_DOCS) ? Boolean.valueOf(settings.get(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
+
+        // number of threads used to render model and api files, 1 keeps the sequential behaviour
+        String threadsProperty = settings.isSet(CodegenConstants.THREADS) ? settings.get(CodegenConstants.THREADS) : generatorPropertyDefaults.get(CodegenConstants.THREADS);
+        threads = StringUtils.isNotEmpty(threadsProperty) ? Math.max(1, Integer.parseInt(threadsProperty.trim())) : 1;
+        // only render files whose inputs changed since the last run, as recorded in .swagger-codegen/manifest
+        incremental = settings.isSet(CodegenConstants.INCREMENTAL) ? Boolean.valueOf(settings.get(CodegenConstants.INCREMENTAL)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.INCREMENTAL, false);
+        // leave files untouched if their content did not change
+        setSkipUnchangedFiles(settings.isSet(CodegenConstants.SKIP_UNCHANGED_FILES) ? Boolean.valueOf(settings.get(CodegenConstants.SKIP_UNCHANGED_FILES)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.SKIP_UNCHANGED_FILES, false));
 
 
         // Additional properties added for tests to exclude references in project related files
@@ -162,7 +195,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (!generateApiTests && !generateModelTests) {
             config.additionalProperties().put(CodegenConstants.EXCLUDE_TESTS, true);
         }
-        if (System.getProperty("debugSwagger") != null) {
+        if (settings.isSet("debugSwagger")) {
             Json.prettyPrint(swagger);
         }
         config.processOpts();
@@ -243,7 +276,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
     }
 
-    private void generateModelTests(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+    private void generateModelTests(List<Future<File>> files, Map<String, Object> models, String modelName) throws IOException {
         // to generate model test files
         for (String templateName : config.modelTestTemplateFiles().keySet()) {
             String suffix = config.modelTestTemplateFiles().get(templateName);
@@ -251,27 +284,23 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             // do not overwrite test file that already exists
             if (new File(filename).exists()) {
                 LOGGER.info("File exists. Skipped overwriting " + filename);
+                recordSkippedFile();
                 continue;
             }
-            File written = processTemplateToFile(models, templateName, filename);
-            if (written != null) {
-                files.add(written);
-            }
+            files.add(scheduleTemplateToFile(models, templateName, filename));
         }
     }
 
-    private void generateModelDocumentation(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+    private void generateModelDocumentation(List<Future<File>> files, Map<String, Object> models, String modelName) throws IOException {
         for (String templateName : config.modelDocTemplateFiles().keySet()) {
             String suffix = config.modelDocTemplateFiles().get(templateName);
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
             if (!config.shouldOverwrite(filename)) {
                 LOGGER.info("Skipped overwriting " + filename);
+                recordSkippedFile();
                 continue;
             }
-            File written = processTemplateToFile(models, templateName, filename);
-            if (written != null) {
-                files.add(written);
-            }
+            files.add(scheduleTemplateToFile(models, templateName, filename));
         }
     }
 
@@ -286,7 +315,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
 
-        String modelNames = System.getProperty("models");
+        String modelNames = settings.get("models");
         Set<String> modelsToGenerate = null;
         if (modelNames != null && !modelNames.isEmpty()) {
             modelsToGenerate = new HashSet<String>(Arrays.asList(modelNames.split(",")));
@@ -303,18 +332,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             modelKeys = updatedKeys;
         }
 
-        // store all processed models
+        // store all processed models, parents before their children
+        final Map<String, Integer> inheritanceDepths = computeInheritanceDepths(definitions);
+        final Map<String, String> cachedModelNames = new HashMap<String, String>();
         Map<String, Object> allProcessedModels = new TreeMap<String, Object>(new Comparator<String>() {
             @Override
             public int compare(String o1, String o2) {
-                Model model1 = definitions.get(o1);
-                Model model2 = definitions.get(o2);
-
-                int model1InheritanceDepth = getInheritanceDepth(model1);
-                int model2InheritanceDepth = getInheritanceDepth(model2);
+                int model1InheritanceDepth = getInheritanceDepth(o1);
+                int model2InheritanceDepth = getInheritanceDepth(o2);
 
                 if (model1InheritanceDepth == model2InheritanceDepth) {
-                    return ObjectUtils.compare(config.toModelName(o1), config.toModelName(o2));
+                    return ObjectUtils.compare(getModelName(o1), getModelName(o2));
                 } else if (model1InheritanceDepth > model2InheritanceDepth) {
                     return 1;
                 } else {
@@ -322,35 +350,19 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 }
             }
 
-            private int getInheritanceDepth(Model model) {
-                int inheritanceDepth = 0;
-                Model parent = getParent(model);
-
-                while (parent != null) {
-                    inheritanceDepth++;
-                    parent = getParent(parent);
-                }
-
-                return inheritanceDepth;
+            private int getInheritanceDepth(String name) {
+                // post-processing may add models which are not defined in the spec
+                Integer inheritanceDepth = inheritanceDepths.get(name);
+                return inheritanceDepth == null ? 0 : inheritanceDepth;
             }
 
-            private Model getParent(Model model) {
-                if (model instanceof ComposedModel) {
-                    Model parent = ((ComposedModel) model).getParent();
-                    if (parent == null) {
-                        // check for interfaces
-                        List<RefModel> interfaces = ((ComposedModel) model).getInterfaces();
-                        if (interfaces.size() > 0) {
-                            RefModel interf = interfaces.get(0);
-                            return definitions.get(interf.getSimpleRef());
-                        }
-                    }
-                    if (parent != null) {
-                        return definitions.get(parent.getReference());
-                    }
+            private String getModelName(String name) {
+                String modelName = cachedModelNames.get(name);
+                if (modelName == null) {
+                    modelName = config.toModelName(name);
+                    cachedModelNames.put(name, modelName);
                 }
-
-                return null;
+                return modelName;
             }
         });
 
@@ -365,19 +377,24 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 Model model = definitions.get(name);
                 Map<String, Model> modelMap = new HashMap<String, Model>();
                 modelMap.put(name, model);
-                Map<String, Object> models = processModels(config, modelMap, definitions);
-                models.put("classname", config.toModelName(name));
-                models.putAll(config.additionalProperties());
-                allProcessedModels.put(name, models);
+                final long start = System.nanoTime();
+                Map<String, Object> modelData = processModels(config, modelMap, definitions);
+                addTime(GenerationMetrics.Phase.PROCESS_MODELS, System.nanoTime() - start);
+                modelData.put("classname", config.toModelName(name));
+                // additional properties take precedence over the model data, entries put later over both
+                allProcessedModels.put(name, new TemplateContext(snapshotAdditionalProperties(), modelData));
             } catch (Exception e) {
                 throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
             }
         }
 
         // post process all processed models
+        final long postProcessStart = System.nanoTime();
         allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        addTime(GenerationMetrics.Phase.POST_PROCESS_ALL_MODELS, System.nanoTime() - postProcessStart);
 
         // generate files based on processed models
+        List<Future<File>> modelFiles = new ArrayList<Future<File>>();
         for (String modelName : allProcessedModels.keySet()) {
             Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
@@ -402,38 +419,93 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     String filename = config.modelFileFolder() + File.separator + config.toModelFilename(modelName) + suffix;
                     if (!config.shouldOverwrite(filename)) {
                         LOGGER.info("Skipped overwriting " + filename);
+                        recordSkippedFile();
                         continue;
                     }
-                    File written = processTemplateToFile(models, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                    }
+                    modelFiles.add(scheduleTemplateToFile(models, templateName, filename));
                 }
                 if (generateModelTests) {
-                    generateModelTests(files, models, modelName);
+                    generateModelTests(modelFiles, models, modelName);
                 }
                 if (generateModelDocumentation) {
                     // to generate model documentation files
-                    generateModelDocumentation(files, models, modelName);
+                    generateModelDocumentation(modelFiles, models, modelName);
                 }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
         }
-        if (System.getProperty("debugModels") != null) {
+        collectFiles(files, modelFiles);
+        if (settings.isSet("debugModels")) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
         }
 
     }
 
+    /**
+     * Computes the number of ancestors of every model, following the parent, or else the first interface, of composed
+     * models. Each model is only visited once.
+     *
+     * @param definitions all models of the spec
+     * @return the inheritance depth by model name
+     * @throws RuntimeException if models inherit from each other in a cycle
+     */
+    private static Map<String, Integer> computeInheritanceDepths(Map<String, Model> definitions) {
+        final Map<String, Integer> inheritanceDepths = new HashMap<String, Integer>();
+        for (String name : definitions.keySet()) {
+            // follow the ancestors until a model whose depth is known, or the root
+            final List<String> ancestry = new ArrayList<String>();
+            final Set<String> visiting = new HashSet<String>();
+            String current = name;
+            int depth = -1;
+            while (current != null) {
+                final Integer knownDepth = inheritanceDepths.get(current);
+                if (knownDepth != null) {
+                    depth = knownDepth;
+                    break;
+                }
+                if (!visiting.add(current)) {
+                    ancestry.add(current);
+                    throw new RuntimeException("Could not order models, as they inherit from each other in a cycle: "
+                            + StringUtils.join(ancestry.subList(ancestry.indexOf(current), ancestry.size()), " -> "));
+                }
+                ancestry.add(current);
+                current = getParentName(definitions.get(current), definitions);
+            }
+            for (int i = ancestry.size() - 1; i >= 0; i--) {
+                inheritanceDepths.put(ancestry.get(i), ++depth);
+            }
+        }
+        return inheritanceDepths;
+    }
+
+    private static String getParentName(Model model, Map<String, Model> definitions) {
+        if (!(model instanceof ComposedModel)) {
+            return null;
+        }
+        final ComposedModel composed = (ComposedModel) model;
+        final String parentName;
+        if (composed.getParent() instanceof RefModel) {
+            parentName = ((RefModel) composed.getParent()).getSimpleRef();
+        } else if (composed.getParent() == null && composed.getInterfaces() != null && !composed.getInterfaces().isEmpty()) {
+            parentName = composed.getInterfaces().get(0).getSimpleRef();
+        } else {
+            parentName = null;
+        }
+        // parents which are not defined do not count
+        return definitions.containsKey(parentName) ? parentName : null;
+    }
+
     private void generateApis(List<File> files, List<Object> allOperations, List<Object> allModels) {
         if (!generateApis) {
             return;
         }
+        final long processPathsStart = System.nanoTime();
         Map<String, List<CodegenOperation>> paths = processPaths(swagger.getPaths());
+        addTime(GenerationMetrics.Phase.PROCESS_PATHS, System.nanoTime() - processPathsStart);
         Set<String> apisToGenerate = null;
-        String apiNames = System.getProperty("apis");
+        String apiNames = settings.get("apis");
         if (apiNames != null && !apiNames.isEmpty()) {
             apisToGenerate = new HashSet<String>(Arrays.asList(apiNames.split(",")));
         }
@@ -446,24 +518,23 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+        List<Future<File>> apiFiles = new ArrayList<Future<File>>();
         for (String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
-                Collections.sort(ops, new Comparator<CodegenOperation>() {
-                    @Override
-                    public int compare(CodegenOperation one, CodegenOperation another) {
-                        return ObjectUtils.compare(one.operationId, another.operationId);
-                    }
-                });
-                Map<String, Object> operation = processOperations(config, tag, ops, allModels);
-
-                operation.put("basePath", basePath);
-                operation.put("basePathWithoutHost", basePathWithoutHost);
-                operation.put("contextPath", contextPath);
-                operation.put("baseName", tag);
-                operation.put("apiPackage", config.apiPackage());
-                operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                Collections.sort(ops, OPERATION_ID_ORDER);
+                final long start = System.nanoTime();
+                Map<String, Object> operationData = processOperations(config, tag, ops, allModels);
+                addTime(GenerationMetrics.Phase.PROCESS_OPERATIONS, System.nanoTime() - start);
+
+                operationData.put("basePath", basePath);
+                operationData.put("basePathWithoutHost", basePathWithoutHost);
+                operationData.put("contextPath", contextPath);
+                operationData.put("baseName", tag);
+                operationData.put("apiPackage", config.apiPackage());
+                operationData.put("modelPackage", config.modelPackage());
+                // additional properties take precedence over the operation data, entries put later over both
+                Map<String, Object> operation = new TemplateContext(snapshotAdditionalProperties(), operationData);
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
@@ -483,25 +554,21 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 processMimeTypes(swagger.getConsumes(), operation, "consumes");
                 processMimeTypes(swagger.getProduces(), operation, "produces");
 
-                allOperations.add(new HashMap<String, Object>(operation));
-                for (int i = 0; i < allOperations.size(); i++) {
-                    Map<String, Object> oo = (Map<String, Object>) allOperations.get(i);
-                    if (i < (allOperations.size() - 1)) {
-                        oo.put("hasMore", "true");
-                    }
+                // every api but the last one has more
+                if (!allOperations.isEmpty()) {
+                    ((Map<String, Object>) allOperations.get(allOperations.size() - 1)).put("hasMore", "true");
                 }
+                allOperations.add(new TemplateContext(operation));
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
                     String filename = config.apiFilename(templateName, tag);
                     if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
                         LOGGER.info("Skipped overwriting " + filename);
+                        recordSkippedFile();
                         continue;
                     }
 
-                    File written = processTemplateToFile(operation, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                    }
+                    apiFiles.add(scheduleTemplateToFile(operation, templateName, filename));
                 }
 
                 if (generateApiTests) {
@@ -511,13 +578,11 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         // do not overwrite test file that already exists
                         if (new File(filename).exists()) {
                             LOGGER.info("File exists. Skipped overwriting " + filename);
+                            recordSkippedFile();
                             continue;
                         }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                        }
+                        apiFiles.add(scheduleTemplateToFile(operation, templateName, filename));
                     }
                 }
 
@@ -528,13 +593,11 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         String filename = config.apiDocFilename(templateName, tag);
                         if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
                             LOGGER.info("Skipped overwriting " + filename);
+                            recordSkippedFile();
                             continue;
                         }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                        }
+                        apiFiles.add(scheduleTemplateToFile(operation, templateName, filename));
                     }
                 }
 
@@ -542,7 +605,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
-        if (System.getProperty("debugOperations") != null) {
+        collectFiles(files, apiFiles);
+        if (settings.isSet("debugOperations")) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
         }
@@ -553,8 +617,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (!generateSupportingFiles) {
             return;
         }
+        if (manifest != null) {
+            // all supporting files share the bundle, e.g. the swagger model and all operations
+            manifest.addSharedValues(bundle.values());
+        }
         Set<String> supportingFilesToGenerate = null;
-        String supportingFiles = System.getProperty("supportingFiles");
+        String supportingFiles = settings.get("supportingFiles");
         if (supportingFiles != null && !supportingFiles.isEmpty()) {
             supportingFilesToGenerate = new HashSet<String>(Arrays.asList(supportingFiles.split(",")));
         }
@@ -566,12 +634,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     outputFolder += File.separator + support.folder;
                 }
                 File of = new File(outputFolder);
-                if (!of.isDirectory()) {
+                if (getOutputSink() == null && !of.isDirectory()) {
                     of.mkdirs();
                 }
                 String outputFilename = outputFolder + File.separator + support.destinationFilename.replace('/', File.separatorChar);
                 if (!config.shouldOverwrite(outputFilename)) {
                     LOGGER.info("Skipped overwriting " + outputFilename);
+                    recordSkippedFile();
                     continue;
                 }
                 boolean shouldGenerate = true;
@@ -586,6 +655,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     files.add(processTemplateToFile(bundle, support.templateFile, outputFilename));
                 } else {
                     LOGGER.info("Skipped generation of " + outputFilename + " due to rule in .swagger-codegen-ignore");
+                    recordSkippedFile();
                 }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate supporting file '" + support + "'", e);
@@ -639,10 +709,47 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     }
 
+    /**
+     * Returns a copy of the additional properties as they are now. Generators may change the additional properties while
+     * processing a model or tag, e.g. in {@code postProcessOperations}, so the template data of each model and tag keeps the
+     * values it was processed with, like the copy the data used to get. As long as the additional properties are not
+     * changed, the previous copy is shared instead of copying them again. Generators keeping them in a
+     * {@link ModificationCountingMap}, like {@link DefaultCodegen}, are checked in constant time, others by comparing the
+     * entries.
+     */
+    private Map<String, Object> snapshotAdditionalProperties() {
+        final Map<String, Object> additionalProperties = config.additionalProperties();
+        final long modificationCount = additionalProperties instanceof ModificationCountingMap
+                ? ((ModificationCountingMap<?, ?>) additionalProperties).getModificationCount() : -1;
+        final boolean current = additionalPropertiesSnapshot != null && (modificationCount >= 0
+                ? modificationCount == additionalPropertiesModificationCount
+                : hasSameMappings(additionalPropertiesSnapshot, additionalProperties));
+        if (!current) {
+            additionalPropertiesSnapshot = Collections.unmodifiableMap(new HashMap<String, Object>(additionalProperties));
+            additionalPropertiesModificationCount = modificationCount;
+            if (manifest != null) {
+                manifest.addSharedValues(additionalPropertiesSnapshot.values());
+            }
+        }
+        return additionalPropertiesSnapshot;
+    }
+
+    private static boolean hasSameMappings(Map<String, Object> snapshot, Map<String, Object> map) {
+        if (snapshot.size() != map.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            final Object value = snapshot.get(entry.getKey());
+            if (value != entry.getValue() || value == null && !snapshot.containsKey(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Map<String, Object> buildSupportFileBundle(List<Object> allOperations, List<Object> allModels) {
 
-        Map<String, Object> bundle = new HashMap<String, Object>();
-        bundle.putAll(config.additionalProperties());
+        Map<String, Object> bundle = new TemplateContext(snapshotAdditionalProperties());
         bundle.put("apiPackage", config.apiPackage());
 
         Map<String, Object> apis = new HashMap<String, Object>();
@@ -677,7 +784,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
         config.postProcessSupportingFileData(bundle);
 
-        if (System.getProperty("debugSupportingFiles") != null) {
+        if (settings.isSet("debugSupportingFiles")) {
             LOGGER.info("############ Supporting file info ############");
             Json.prettyPrint(bundle);
         }
@@ -690,41 +797,206 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (swagger == null || config == null) {
             throw new RuntimeException("missing swagger input or config!");
         }
+        final long start = System.nanoTime();
+        // metrics are only recorded if requested, e.g. by --timings
+        setMetrics(opts != null ? opts.getMetrics() : null);
         configureGeneratorProperties();
         configureSwaggerInfo();
 
         // resolve inline models
+        final long flattenStart = System.nanoTime();
         InlineModelResolver inlineModelResolver = new InlineModelResolver();
         inlineModelResolver.flatten(swagger);
+        addTime(GenerationMetrics.Phase.FLATTEN, System.nanoTime() - flattenStart);
+
+        resetFileCounts();
+        // an output sink leaves no files to compare with on the next run
+        manifest = incremental && getOutputSink() == null ? GenerationManifest.load(config.outputFolder(), computeRunFingerprint()) : null;
 
         List<File> files = new ArrayList<File>();
-        // models
-        List<Object> allModels = new ArrayList<Object>();
-        generateModels(files, allModels);
-        // apis
-        List<Object> allOperations = new ArrayList<Object>();
-        generateApis(files, allOperations, allModels);
-
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
-        generateSupportingFiles(files, bundle);
+        if (threads > 1) {
+            renderExecutor = Executors.newFixedThreadPool(threads);
+        }
+        // the options are processed, so the types of the properties don't change until the end of the run
+        final TypeResolutionCache typeResolutionCache = config.isTypeResolutionCacheEnabled() ? new TypeResolutionCache() : null;
+        config.setTypeResolutionCache(typeResolutionCache);
+        try {
+            // models
+            List<Object> allModels = new ArrayList<Object>();
+            generateModels(files, allModels);
+            // apis
+            List<Object> allOperations = new ArrayList<Object>();
+            generateApis(files, allOperations, allModels);
+
+            // supporting files
+            final long supportingFilesStart = System.nanoTime();
+            Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
+            generateSupportingFiles(files, bundle);
+            addTime(GenerationMetrics.Phase.SUPPORTING_FILES, System.nanoTime() - supportingFilesStart);
+
+            if (manifest != null) {
+                saveManifest();
+            }
+        } finally {
+            config.setTypeResolutionCache(null);
+            additionalPropertiesSnapshot = null;
+            if (renderExecutor != null) {
+                renderExecutor.shutdownNow();
+                renderExecutor = null;
+            }
+        }
         config.processSwagger(swagger);
+        addTime(GenerationMetrics.Phase.TOTAL, System.nanoTime() - start);
+        LOGGER.info("Generated " + files.size() + " files: " + getWrittenFileCount() + " written, " + getUnchangedFileCount() + " unchanged");
+        if (LOGGER.isDebugEnabled()) {
+            if (getMetrics() != null) {
+                LOGGER.debug("Generation metrics:" + System.lineSeparator() + getMetrics().format(10));
+            }
+            if (typeResolutionCache != null) {
+                LOGGER.debug("Resolved types: " + typeResolutionCache.getHitCount() + " cached, "
+                        + typeResolutionCache.getMissCount() + " resolved");
+            }
+        }
         return files;
     }
 
+    /**
+     * Hashes the inputs shared by all generated files: the generator, its version and the contents of the custom and
+     * embedded templates.
+     */
+    private String computeRunFingerprint() {
+        try {
+            return new InputFingerprint()
+                    .add(config.getClass().getName())
+                    .add(ImplementationVersion.read())
+                    .add(config.getLibrary())
+                    .add(config.templateDir())
+                    .add(config.embeddedTemplateDir())
+                    .addDirectory(new File(config.templateDir()))
+                    // embedded templates change with the generator, even if its version does not
+                    .addClasspathDirectory(getClass().getClassLoader(), config.embeddedTemplateDir())
+                    .addClasspathDirectory(getClass().getClassLoader(), config.getCommonTemplateDir())
+                    .toHex();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read templates from " + config.templateDir(), e);
+        }
+    }
+
+    private void saveManifest() {
+        final boolean completeRun = generateApis && generateModels && generateSupportingFiles
+                && generateApiTests && generateApiDocumentation && generateModelTests && generateModelDocumentation
+                && StringUtils.isEmpty(settings.get(CodegenConstants.APIS))
+                && StringUtils.isEmpty(settings.get(CodegenConstants.MODELS))
+                && StringUtils.isEmpty(settings.get(CodegenConstants.SUPPORTING_FILES));
+        if (completeRun) {
+            for (String staleFile : manifest.getStaleFiles()) {
+                LOGGER.warn("File " + staleFile + " is no longer generated and may be removed");
+            }
+        }
+        try {
+            manifest.save();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write " + GenerationManifest.MANIFEST_FILE, e);
+        }
+    }
+
+    /**
+     * Renders a template to a file right away, or, if more than one thread is configured, prepares the rendering to be run
+     * on the render executor by {@link #collectFiles(List, List)}. The template data must not change afterwards, so each
+     * model and tag carries its own snapshot of the additional properties.
+     *
+     * @return the future written file, whose value is {@code null} if the file is excluded by .swagger-codegen-ignore
+     */
+    private Future<File> scheduleTemplateToFile(final Map<String, Object> templateData, final String templateName, final String outputFilename) throws IOException {
+        if (renderExecutor == null) {
+            return CompletableFuture.completedFuture(processTemplateToFile(templateData, templateName, outputFilename));
+        }
+        return new FutureTask<File>(new Callable<File>() {
+            @Override
+            public File call() throws Exception {
+                try {
+                    return processTemplateToFile(templateData, templateName, outputFilename);
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate file '" + outputFilename + "'", e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs all prepared renderings and adds the written files to {@code files} in the order they were scheduled.
+     */
+    private void collectFiles(List<File> files, List<Future<File>> scheduledFiles) {
+        if (renderExecutor != null) {
+            // rendering only starts once all template data is prepared, as post-processing may modify shared objects
+            // such as models, while the additional properties of each model and tag are snapshots
+            for (Future<File> scheduledFile : scheduledFiles) {
+                if (scheduledFile instanceof RunnableFuture) {
+                    renderExecutor.execute((RunnableFuture<File>) scheduledFile);
+                }
+            }
+        }
+        try {
+            for (Future<File> scheduledFile : scheduledFiles) {
+                File written = scheduledFile.get();
+                if (written != null) {
+                    files.add(written);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
 
     private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         if (ignoreProcessor.allowsFile(new File(adjustedOutputFilename))) {
-            final String renderedTemplate = templateEngine.renderTemplate(templateName, templateData);
-            writeToFile(adjustedOutputFilename, renderedTemplate);
-            return new File(adjustedOutputFilename);
+            final File outputFile = new File(adjustedOutputFilename);
+            String inputHash = null;
+            if (manifest != null) {
+                inputHash = manifest.hashInputs(templateName, templateData);
+                if (manifest.isUpToDate(outputFile, inputHash)) {
+                    LOGGER.info("Skipped generation of " + adjustedOutputFilename + " as its inputs did not change");
+                    recordUnchangedFile();
+                    return outputFile;
+                }
+            }
+            // render straight into the file, so large outputs are not held in memory
+            final long start = System.nanoTime();
+            writeToFile(adjustedOutputFilename, writer -> templateEngine.renderTemplate(templateName, templateData, writer));
+            if (getMetrics() != null) {
+                getMetrics().addTemplateTime(templateName, System.nanoTime() - start);
+            }
+            if (manifest != null) {
+                manifest.record(outputFile, inputHash);
+            }
+            return outputFile;
         }
 
         LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule in .swagger-codegen-ignore");
+        recordSkippedFile();
         return null;
     }
 
+    private void addTime(GenerationMetrics.Phase phase, long nanos) {
+        if (getMetrics() != null) {
+            getMetrics().addTime(phase, nanos);
+        }
+    }
+
+    private void recordSkippedFile() {
+        if (getMetrics() != null) {
+            getMetrics().recordSkippedFile();
+        }
+    }
+
     private static void processMimeTypes(List<String> mimeTypeList, Map<String, Object> operation, String source) {
         if (mimeTypeList == null || mimeTypeList.isEmpty()) {
             return;
@@ -750,50 +1022,43 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     public Map<String, List<CodegenOperation>> processPaths(Map<String, Path> paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<String, List<CodegenOperation>>();
+        // index the tags defined in the spec once, rather than searching them for every operation
+        Map<String, Tag> swaggerTags = null;
+        if (swagger.getTags() != null) {
+            swaggerTags = new HashMap<String, Tag>();
+            for (Tag tag : swagger.getTags()) {
+                if (!swaggerTags.containsKey(tag.getName())) {
+                    swaggerTags.put(tag.getName(), tag);
+                }
+            }
+        }
         for (String resourcePath : paths.keySet()) {
             Path path = paths.get(resourcePath);
-            processOperation(resourcePath, "get", path.getGet(), ops, path);
-            processOperation(resourcePath, "head", path.getHead(), ops, path);
-            processOperation(resourcePath, "put", path.getPut(), ops, path);
-            processOperation(resourcePath, "post", path.getPost(), ops, path);
-            processOperation(resourcePath, "delete", path.getDelete(), ops, path);
-            processOperation(resourcePath, "patch", path.getPatch(), ops, path);
-            processOperation(resourcePath, "options", path.getOptions(), ops, path);
+            processOperation(resourcePath, "get", path.getGet(), ops, path, swaggerTags);
+            processOperation(resourcePath, "head", path.getHead(), ops, path, swaggerTags);
+            processOperation(resourcePath, "put", path.getPut(), ops, path, swaggerTags);
+            processOperation(resourcePath, "post", path.getPost(), ops, path, swaggerTags);
+            processOperation(resourcePath, "delete", path.getDelete(), ops, path, swaggerTags);
+            processOperation(resourcePath, "patch", path.getPatch(), ops, path, swaggerTags);
+            processOperation(resourcePath, "options", path.getOptions(), ops, path, swaggerTags);
         }
         return ops;
     }
 
-    private void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, Path path) {
+    private void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, Path path, Map<String, Tag> swaggerTags) {
         if (operation == null) {
             return;
         }
-        if (System.getProperty("debugOperations") != null) {
+        if (settings.isSet("debugOperations")) {
             LOGGER.info("processOperation: resourcePath= " + resourcePath + "\t;" + httpMethod + " " + operation + "\n");
         }
         List<Tag> tags = new ArrayList<Tag>();
 
         List<String> tagNames = operation.getTags();
-        List<Tag> swaggerTags = swagger.getTags();
         if (tagNames != null) {
-            if (swaggerTags == null) {
-                for (String tagName : tagNames) {
-                    tags.add(new Tag().name(tagName));
-                }
-            } else {
-                for (String tagName : tagNames) {
-                    boolean foundTag = false;
-                    for (Tag tag : swaggerTags) {
-                        if (tag.getName().equals(tagName)) {
-                            tags.add(tag);
-                            foundTag = true;
-                            break;
-                        }
-                    }
-
-                    if (!foundTag) {
-                        tags.add(new Tag().name(tagName));
-                    }
-                }
+            for (String tagName : tagNames) {
+                Tag tag = swaggerTags != null ? swaggerTags.get(tagName) : null;
+                tags.add(tag != null ? tag : new Tag().name(tagName));
             }
         }
 
@@ -893,28 +1158,23 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         objs.put("classname", config.toApiName(tag));
         objs.put("pathPrefix", config.toApiVarName(tag));
 
-        // check for operationId uniqueness
+        // check for operationId uniqueness and collect the imports in a single pass
         Set<String> opIds = new HashSet<String>();
+        Set<String> allImports = new TreeSet<String>();
         int counter = 0;
         for (CodegenOperation op : ops) {
             String opId = op.nickname;
-            if (opIds.contains(opId)) {
+            if (!opIds.add(opId)) {
                 counter++;
                 op.nickname += "_" + counter;
             }
-            opIds.add(opId);
+            allImports.addAll(op.imports);
         }
         objs.put("operation", ops);
 
         operations.put("operations", objs);
         operations.put("package", config.apiPackage());
 
-
-        Set<String> allImports = new TreeSet<String>();
-        for (CodegenOperation op : ops) {
-            allImports.addAll(op.imports);
-        }
-
         List<Map<String, String>> imports = new ArrayList<Map<String, String>>();
         for (String nextImport : allImports) {
             Map<String, String> im = new LinkedHashMap<String, String>();
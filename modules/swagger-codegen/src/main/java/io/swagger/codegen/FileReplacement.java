@@ -0,0 +1,82 @@
+package io.swagger.codegen;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replaces files by writing their new content to a temporary file next to them, which is moved over the file once the
+ * content is complete. Until then, the file keeps its previous content, and a failure leaves it untouched.
+ */
+final class FileReplacement {
+
+    private FileReplacement() {
+    }
+
+    /**
+     * Creates an empty temporary file in the directory of {@code target}, so it can be moved over {@code target} without
+     * copying. Unlike {@link Files#createTempFile}, the file gets the default permissions, or those of an existing
+     * {@code target}.
+     *
+     * @param target the file to be replaced
+     * @return the temporary file
+     * @throws IOException when the file cannot be created
+     */
+    static Path createTempFile(Path target) throws IOException {
+        final Path directory = target.toAbsolutePath().getParent();
+        while (true) {
+            final Path tempFile = directory.resolve("." + target.getFileName() + "."
+                    + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                continue;
+            }
+            if (Files.exists(target)) {
+                try {
+                    Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(target));
+                } catch (UnsupportedOperationException e) {
+                    // not a POSIX file system
+                }
+            }
+            return tempFile;
+        }
+    }
+
+    /**
+     * Moves a completely written temporary file over {@code target}, atomically if the file system supports it.
+     *
+     * @param tempFile the temporary file created by {@link #createTempFile(Path)}
+     * @param target the file to replace
+     * @throws IOException when the file cannot be moved
+     */
+    static void replace(Path tempFile, Path target) throws IOException {
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Removes a temporary file which is no longer needed, e.g. as writing failed.
+     *
+     * @param tempFile the temporary file, or {@code null}
+     * @return {@code false} if the file could not be removed
+     */
+    static boolean discard(Path tempFile) {
+        if (tempFile == null) {
+            return true;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.swagger.codegen;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Where the time of a generation went, and how many files and bytes it produced.
+ *
+ * <p>Most phases are measured on the generating thread. As templates are rendered straight into their files, rendering
+ * and writing are told apart by the time spent in the file output: {@link Phase#WRITE} is the time spent writing,
+ * encoding and closing files, and {@link Phase#RENDER} the remaining time of producing their content. Both are summed up
+ * over all render threads, so with more than one thread they can exceed the wall time of the generation.
+ *
+ * <p>Instances are safe for use by multiple threads.
+ */
+public class GenerationMetrics {
+
+    public enum Phase {
+        PARSE("parse spec"),
+        FLATTEN("flatten inline models"),
+        PROCESS_MODELS("process models"),
+        POST_PROCESS_ALL_MODELS("post-process all models"),
+        PROCESS_PATHS("process paths"),
+        PROCESS_OPERATIONS("process operations"),
+        SUPPORTING_FILES("supporting files"),
+        RENDER("render templates"),
+        WRITE("write files"),
+        TOTAL("total");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * The time spent rendering one template into files.
+     */
+    public static class TemplateTiming {
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicLong nanos = new AtomicLong();
+
+        /**
+         * @return the number of files rendered from the template
+         */
+        public int getCount() {
+            return count.get();
+        }
+
+        /**
+         * @return the time spent rendering and writing these files, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos.get();
+        }
+    }
+
+    private final Map<Phase, AtomicLong> phases = new EnumMap<Phase, AtomicLong>(Phase.class);
+    private final ConcurrentMap<String, TemplateTiming> templates = new ConcurrentHashMap<String, TemplateTiming>();
+    private final AtomicInteger writtenFiles = new AtomicInteger();
+    private final AtomicInteger unchangedFiles = new AtomicInteger();
+    private final AtomicInteger skippedFiles = new AtomicInteger();
+    private final AtomicLong bytes = new AtomicLong();
+
+    public GenerationMetrics() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new AtomicLong());
+        }
+    }
+
+    /**
+     * Adds time to a phase.
+     *
+     * @param phase the phase
+     * @param nanos the time in nanoseconds
+     */
+    public void addTime(Phase phase, long nanos) {
+        phases.get(phase).addAndGet(nanos);
+    }
+
+    /**
+     * Adds the time of rendering a template into a file.
+     *
+     * @param templateName the template
+     * @param nanos the time in nanoseconds
+     */
+    public void addTemplateTime(String templateName, long nanos) {
+        TemplateTiming timing = templates.get(templateName);
+        if (timing == null) {
+            templates.putIfAbsent(templateName, new TemplateTiming());
+            timing = templates.get(templateName);
+        }
+        timing.count.incrementAndGet();
+        timing.nanos.addAndGet(nanos);
+    }
+
+    /**
+     * Counts a written file.
+     *
+     * @param fileBytes the size of its content in bytes
+     */
+    public void recordWrittenFile(long fileBytes) {
+        writtenFiles.incrementAndGet();
+        bytes.addAndGet(fileBytes);
+    }
+
+    /**
+     * Counts a file which was left untouched, as its content did not change.
+     *
+     * @param fileBytes the size of its content in bytes, or 0 if it wasn't produced
+     */
+    public void recordUnchangedFile(long fileBytes) {
+        unchangedFiles.incrementAndGet();
+        bytes.addAndGet(fileBytes);
+    }
+
+    /**
+     * Counts a file which was not generated, due to .swagger-codegen-ignore or as existing files must not be overwritten.
+     */
+    public void recordSkippedFile() {
+        skippedFiles.incrementAndGet();
+    }
+
+    /**
+     * @param phase the phase
+     * @return the time spent in the phase, in nanoseconds
+     */
+    public long getNanos(Phase phase) {
+        return phases.get(phase).get();
+    }
+
+    /**
+     * @param phase the phase
+     * @return the time spent in the phase, in milliseconds
+     */
+    public long getMillis(Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(getNanos(phase));
+    }
+
+    /**
+     * @return the timings by template name
+     */
+    public Map<String, TemplateTiming> getTemplateTimings() {
+        return Collections.unmodifiableMap(templates);
+    }
+
+    /**
+     * @return the number of files created or changed
+     */
+    public int getWrittenFileCount() {
+        return writtenFiles.get();
+    }
+
+    /**
+     * @return the number of files left untouched, as their content did not change
+     */
+    public int getUnchangedFileCount() {
+        return unchangedFiles.get();
+    }
+
+    /**
+     * @return the number of files not generated, due to .swagger-codegen-ignore or overwrite settings
+     */
+    public int getSkippedFileCount() {
+        return skippedFiles.get();
+    }
+
+    /**
+     * @return the number of bytes of content produced for all files, in UTF-8
+     */
+    public long getByteCount() {
+        return bytes.get();
+    }
+
+    /**
+     * Formats the metrics as a table, one line per phase, followed by the templates taking the most time.
+     *
+     * @param maxTemplates the number of templates to list
+     * @return the formatted metrics
+     */
+    public String format(int maxTemplates) {
+        final StringBuilder out = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            out.append(String.format(Locale.ROOT, "%-26s %8d ms%n", phase.getDescription(), getMillis(phase)));
+        }
+        out.append(String.format(Locale.ROOT, "%d files written, %d unchanged, %d skipped, %d bytes%n",
+                getWrittenFileCount(), getUnchangedFileCount(), getSkippedFileCount(), getByteCount()));
+
+        final List<Map.Entry<String, TemplateTiming>> slowest = new ArrayList<Map.Entry<String, TemplateTiming>>(templates.entrySet());
+        Collections.sort(slowest, (a, b) -> Long.compare(b.getValue().getNanos(), a.getValue().getNanos()));
+        for (Map.Entry<String, TemplateTiming> template : slowest.subList(0, Math.min(maxTemplates, slowest.size()))) {
+            out.append(String.format(Locale.ROOT, "  %-40s %8d ms %6d files%n", template.getKey(),
+                    TimeUnit.NANOSECONDS.toMillis(template.getValue().getNanos()), template.getValue().getCount()));
+        }
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format(10);
+    }
+}
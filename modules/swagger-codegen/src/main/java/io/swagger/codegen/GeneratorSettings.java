@@ -0,0 +1,100 @@
+package io.swagger.codegen;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The settings of one generation, such as the files to generate and the debug output, which are passed as system
+ * properties on the command line and by the Maven plugin.
+ *
+ * <p>The settings are carried by the {@link ClientOptInput} of a run rather than set as JVM System properties, so that
+ * generations sharing a JVM, like parallel Maven builds or the online generator, don't change each other's settings.
+ * A setting which is neither set nor {@link #disable(String) disabled} falls back to the System property of the same
+ * name, so that switches passed to the JVM, like {@code -Dmodels}, keep working.
+ */
+public class GeneratorSettings {
+
+    private static final Set<String> RUN_SETTINGS = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            CodegenConstants.APIS, CodegenConstants.MODELS, CodegenConstants.SUPPORTING_FILES,
+            CodegenConstants.MODEL_TESTS, CodegenConstants.MODEL_DOCS, CodegenConstants.API_TESTS, CodegenConstants.API_DOCS,
+            CodegenConstants.THREADS, CodegenConstants.INCREMENTAL, CodegenConstants.SKIP_UNCHANGED_FILES,
+            "debugSwagger", "debugModels", "debugOperations", "debugSupportingFiles", "debugParser", "noservice")));
+
+    private final Map<String, String> settings = new ConcurrentHashMap<String, String>();
+    private final Set<String> disabledSettings = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    public GeneratorSettings() {
+    }
+
+    public GeneratorSettings(Map<String, String> settings) {
+        for (Map.Entry<String, String> entry : settings.entrySet()) {
+            set(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Tells whether a system property is read per run from these settings. Other system properties are only read from
+     * the JVM, e.g. by the constructors of some generators.
+     *
+     * @param key the name of the system property
+     * @return true if the property is a setting of the run
+     */
+    public static boolean isRunSetting(String key) {
+        return RUN_SETTINGS.contains(key);
+    }
+
+    /**
+     * @param key the name of the setting
+     * @param value the value, where {@code null} is taken as an empty value, i.e. a switch which is on
+     * @return these settings
+     */
+    public GeneratorSettings set(String key, String value) {
+        settings.put(key, value == null ? "" : value);
+        disabledSettings.remove(key);
+        return this;
+    }
+
+    /**
+     * Turns a setting off for the run, also hiding the System property of the same name.
+     *
+     * @param key the name of the setting
+     * @return these settings
+     */
+    public GeneratorSettings disable(String key) {
+        disabledSettings.add(key);
+        settings.remove(key);
+        return this;
+    }
+
+    /**
+     * @param key the name of the setting
+     * @return the value of the setting, or of the System property of the same name if it is neither set nor disabled, or
+     *         {@code null}
+     */
+    public String get(String key) {
+        final String value = settings.get(key);
+        if (value != null || disabledSettings.contains(key)) {
+            return value;
+        }
+        return System.getProperty(key);
+    }
+
+    /**
+     * @param key the name of the setting
+     * @return true if the setting, or the System property of the same name, is set to any value
+     */
+    public boolean isSet(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the settings set for the run, without fallbacks
+     */
+    public Map<String, String> asMap() {
+        return Collections.unmodifiableMap(settings);
+    }
+}
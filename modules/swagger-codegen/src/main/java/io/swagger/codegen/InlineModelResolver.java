@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public class InlineModelResolver {
     private Swagger swagger;
@@ -19,7 +20,11 @@ public class InlineModelResolver {
     static Logger LOGGER = LoggerFactory.getLogger(InlineModelResolver.class);
 
     Map<String, Model> addedModels = new HashMap<String, Model>();
-    Map<String, String> generatedSignature = new HashMap<String, String>();
+    // generated models by their structural hash, see matchGenerated
+    Map<Integer, List<GeneratedModel>> generatedModels = new HashMap<Integer, List<GeneratedModel>>();
+    // the next suffix to try for each name, see uniqueName
+    private Map<String, Integer> nameSuffixes = new HashMap<String, Integer>();
+    private Map<String, Model> nameSuffixesDefinitions;
 
     public void flatten(Swagger swagger) {
         this.swagger = swagger;
@@ -234,42 +239,113 @@ public class InlineModelResolver {
         }
     }
 
+    /**
+     * Finds a generated model which is the same as the given model, that is, which has the same JSON representation.
+     *
+     * <p>Models are first compared by a structural hash, computed from parts of the model which are always part of its
+     * JSON representation. Only models with the same hash need to be serialized to compare them, which are usually
+     * none, unless the model is actually the same.
+     *
+     * @param model the model to find
+     * @return the name of the generated model, or {@code null} if there is none
+     */
     public String matchGenerated(Model model) {
         if (this.skipMatches) {
             return null;
         }
+        List<GeneratedModel> candidates = generatedModels.get(structuralHash(model));
+        if (candidates == null) {
+            return null;
+        }
         String json = Json.pretty(model);
-        if (generatedSignature.containsKey(json)) {
-            return generatedSignature.get(json);
+        for (GeneratedModel candidate : candidates) {
+            if (candidate.getSignature().equals(json)) {
+                return candidate.name;
+            }
         }
         return null;
     }
 
     public void addGenerated(String name, Model model) {
-        generatedSignature.put(Json.pretty(model), name);
+        int hash = structuralHash(model);
+        List<GeneratedModel> candidates = generatedModels.get(hash);
+        if (candidates == null) {
+            candidates = new ArrayList<GeneratedModel>(1);
+            generatedModels.put(hash, candidates);
+        } else {
+            // the model generated last wins
+            String json = Json.pretty(model);
+            for (GeneratedModel candidate : candidates) {
+                if (candidate.getSignature().equals(json)) {
+                    candidate.name = name;
+                    return;
+                }
+            }
+        }
+        candidates.add(new GeneratedModel(name, model));
+    }
+
+    /**
+     * Computes a hash which is equal for models with the same JSON representation, without serializing them. Different
+     * models may have the same hash.
+     */
+    static int structuralHash(Model model) {
+        if (!(model instanceof ModelImpl)) {
+            return 0;
+        }
+        int hash = Objects.hash(model.getTitle(), model.getDescription());
+        if (model.getProperties() != null) {
+            for (Map.Entry<String, Property> property : model.getProperties().entrySet()) {
+                if (property.getValue() != null) {
+                    hash = 31 * hash + property.getKey().hashCode();
+                }
+            }
+        }
+        return hash;
     }
 
     public String uniqueName(String key) {
-        int count = 0;
-        boolean done = false;
-        key = key.replaceAll("[^a-z_\\.A-Z0-9 ]", ""); // FIXME: a parameter
-                                                       // should not be
-                                                       // assigned. Also declare
-                                                       // the methods parameters
-                                                       // as 'final'.
-        while (!done) {
+        key = sanitizeModelName(key);
+        Map<String, Model> definitions = swagger.getDefinitions();
+        if (definitions == null) {
+            return key;
+        }
+        if (definitions != nameSuffixesDefinitions) {
+            nameSuffixes.clear();
+            nameSuffixesDefinitions = definitions;
+        }
+        // definitions are only ever added, so all names with smaller suffixes are still taken
+        Integer suffix = nameSuffixes.get(key);
+        int count = suffix == null ? 0 : suffix;
+        while (true) {
             String name = key;
             if (count > 0) {
                 name = key + "_" + count;
             }
-            if (swagger.getDefinitions() == null) {
-                return name;
-            } else if (!swagger.getDefinitions().containsKey(name)) {
+            if (!definitions.containsKey(name)) {
+                nameSuffixes.put(key, count);
                 return name;
             }
             count += 1;
         }
-        return key;
+    }
+
+    /**
+     * Removes all characters except letters, digits, underscores, dots and spaces.
+     */
+    private static String sanitizeModelName(String key) {
+        StringBuilder sanitized = null;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '_' || c == '.' || c == ' ';
+            if (!allowed && sanitized == null) {
+                sanitized = new StringBuilder(key.length()).append(key, 0, i);
+            } else if (allowed && sanitized != null) {
+                sanitized.append(c);
+            }
+        }
+        return sanitized == null ? key : sanitized.toString();
     }
 
     public void flattenProperties(Map<String, Property> properties, String path) {
@@ -463,4 +539,24 @@ public class InlineModelResolver {
         this.skipMatches = skipMatches;
     }
 
+    /**
+     * A generated model, with its JSON representation computed when it is compared for the first time.
+     */
+    static class GeneratedModel {
+        String name;
+        private final Model model;
+        private String signature;
+
+        GeneratedModel(String name, Model model) {
+            this.name = name;
+            this.model = model;
+        }
+
+        String getSignature() {
+            if (signature == null) {
+                signature = Json.pretty(model);
+            }
+            return signature;
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package io.swagger.codegen;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hash map which counts the changes made to it, so that a copy of it can tell whether it is still current in constant
+ * time, instead of comparing all entries.
+ *
+ * <p>Every change through the map or its views counts, even if it puts the value already mapped. Changes made to the
+ * values themselves are not noticed.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class ModificationCountingMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> entries = new HashMap<K, V>();
+    private long modificationCount;
+
+    /**
+     * @return the number of changes made to the map so far
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public V get(Object key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        modificationCount++;
+        return entries.put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        modificationCount++;
+        return entries.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        modificationCount++;
+        entries.clear();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                final Iterator<Entry<K, V>> iterator = entries.entrySet().iterator();
+                return new Iterator<Entry<K, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        return new CountingEntry(iterator.next());
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                        modificationCount++;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+        };
+    }
+
+    private class CountingEntry extends SimpleEntry<K, V> {
+        private final Entry<K, V> entry;
+
+        CountingEntry(Entry<K, V> entry) {
+            super(entry);
+            this.entry = entry;
+        }
+
+        @Override
+        public V setValue(V value) {
+            modificationCount++;
+            entry.setValue(value);
+            return super.setValue(value);
+        }
+    }
+}
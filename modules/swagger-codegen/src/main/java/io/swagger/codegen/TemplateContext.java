@@ -0,0 +1,171 @@
+package io.swagger.codegen;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The data of a template, layered over data shared with other templates instead of copying it.
+ *
+ * <p>Entries put into the context are kept in the context itself. Lookups of any other key read through to the layers,
+ * in the order they were given, so that the first layer containing a key wins. Layers are never modified: removing a key
+ * only hides the layers' entry. As a template context is an ordinary {@link Map}, both Mustache and Handlebars resolve
+ * its entries natively.
+ *
+ * <p>Since the layers are not copied, creating a context, looking up and putting entries take constant time, regardless
+ * of the size of the layers, and changes to a layer are visible in all contexts using it. Only methods covering all
+ * entries, like {@link #size()} and {@link #entrySet()}, need to merge the layers.
+ */
+public class TemplateContext extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> entries = new HashMap<String, Object>();
+    private final List<Map<String, ?>> layers;
+    private final Set<Object> hiddenKeys = new HashSet<Object>();
+
+    /**
+     * Creates a new context.
+     *
+     * @param layers the data to read through to for keys not put into this context, in order of precedence
+     */
+    @SafeVarargs
+    public TemplateContext(Map<String, ?>... layers) {
+        this.layers = Collections.unmodifiableList(new ArrayList<Map<String, ?>>(Arrays.asList(layers)));
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (entries.containsKey(key)) {
+            return entries.get(key);
+        }
+        final Map<String, ?> layer = layerContaining(key);
+        return layer == null ? null : layer.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key) || layerContaining(key) != null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final Object previous = get(key);
+        entries.put(key, value);
+        hiddenKeys.remove(key);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        final Object previous = get(key);
+        entries.remove(key);
+        if (!hiddenKeys.contains(key)) {
+            for (Map<String, ?> layer : layers) {
+                if (layer.containsKey(key)) {
+                    hiddenKeys.add(key);
+                    break;
+                }
+            }
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        for (Map<String, ?> layer : layers) {
+            hiddenKeys.addAll(layer.keySet());
+        }
+    }
+
+    @Override
+    public int size() {
+        return merge().size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                final Iterator<String> keys = merge().keySet().iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    private String current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        current = keys.next();
+                        return new ContextEntry(current);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+                        TemplateContext.this.remove(current);
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return TemplateContext.this.size();
+            }
+        };
+    }
+
+    private Map<String, ?> layerContaining(Object key) {
+        if (hiddenKeys.contains(key)) {
+            return null;
+        }
+        for (Map<String, ?> layer : layers) {
+            if (layer.containsKey(key)) {
+                return layer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Merges the entries of this context and its layers, with entries of this context first, followed by the entries of
+     * the layers in order of precedence.
+     */
+    private Map<String, Object> merge() {
+        final Map<String, Object> merged = new LinkedHashMap<String, Object>(entries);
+        for (Map<String, ?> layer : layers) {
+            for (Entry<String, ?> entry : layer.entrySet()) {
+                if (!merged.containsKey(entry.getKey()) && !hiddenKeys.contains(entry.getKey())) {
+                    merged.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return merged;
+    }
+
+    private class ContextEntry extends SimpleEntry<String, Object> {
+        ContextEntry(String key) {
+            super(key, TemplateContext.this.get(key));
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
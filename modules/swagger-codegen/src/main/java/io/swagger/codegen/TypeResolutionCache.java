@@ -0,0 +1,138 @@
+package io.swagger.codegen;
+
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.MapProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The types resolved by a {@link CodegenConfig} during one generation, by the shape of the property: its class, type,
+ * format, reference and the shapes of its items or values. Specs repeat the same shapes in many models and operations,
+ * and the type of each shape is resolved once per run.
+ *
+ * <p>The cache also holds the properties of models as converted by {@link CodegenConfig#fromProperty(String, Property)},
+ * so that the properties a model inherits from its parents and interfaces are converted once, and not again for each
+ * model inheriting them.
+ *
+ * <p>The cache only holds while the type methods of the config depend on nothing but the shape of the property and the
+ * options of the run. A generator whose type methods read other attributes of the property, or state which changes during
+ * the generation, turns the cache off with {@link DefaultCodegen#setTypeResolutionCacheEnabled(boolean)}.
+ */
+public class TypeResolutionCache {
+
+    public enum Kind {
+        SWAGGER_TYPE, TYPE_DECLARATION, INSTANTIATION_TYPE
+    }
+
+    private final Map<String, String> types = new ConcurrentHashMap<String, String>();
+    // converted model properties by property, which is the same object in the models inheriting it, and by name
+    private final Map<Property, Map<String, CodegenProperty>> properties = new IdentityHashMap<Property, Map<String, CodegenProperty>>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param kind the method which resolved the type
+     * @param property the property
+     * @return the resolved type, or {@code null} if the shape is not resolved yet
+     */
+    public String get(Kind kind, Property property) {
+        final String type = types.get(key(kind, property));
+        if (type != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return type;
+    }
+
+    /**
+     * @param kind the method which resolved the type
+     * @param property the property
+     * @param type the resolved type, which is not cached if {@code null}
+     */
+    public void put(Kind kind, Property property, String type) {
+        if (type != null) {
+            types.put(key(kind, property), type);
+        }
+    }
+
+    /**
+     * @param name the name of the property
+     * @param property the property
+     * @return the property as converted before, which must not be changed, or {@code null} if it is not converted yet
+     */
+    public synchronized CodegenProperty getProperty(String name, Property property) {
+        final Map<String, CodegenProperty> byName = properties.get(property);
+        final CodegenProperty codegenProperty = byName != null ? byName.get(name) : null;
+        if (codegenProperty != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return codegenProperty;
+    }
+
+    /**
+     * @param name the name of the property
+     * @param property the property
+     * @param codegenProperty the converted property, which is not changed afterwards
+     */
+    public synchronized void putProperty(String name, Property property, CodegenProperty codegenProperty) {
+        Map<String, CodegenProperty> byName = properties.get(property);
+        if (byName == null) {
+            byName = new HashMap<String, CodegenProperty>();
+            properties.put(property, byName);
+        }
+        byName.put(name, codegenProperty);
+    }
+
+    /**
+     * Forgets the resolved types, when an option the types depend on changes.
+     */
+    public synchronized void clear() {
+        types.clear();
+        properties.clear();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private static String key(Kind kind, Property property) {
+        final StringBuilder key = new StringBuilder(kind.name());
+        appendShape(key, property);
+        return key.toString();
+    }
+
+    private static void appendShape(StringBuilder key, Property property) {
+        if (property == null) {
+            key.append("|null");
+            return;
+        }
+        key.append('|').append(property.getClass().getName())
+                .append('|').append(property.getType())
+                .append('|').append(property.getFormat());
+        if (property instanceof RefProperty) {
+            key.append('|').append(((RefProperty) property).get$ref());
+        } else if (property instanceof ArrayProperty) {
+            final ArrayProperty array = (ArrayProperty) property;
+            key.append('|').append(array.getUniqueItems()).append("|[");
+            appendShape(key, array.getItems());
+            key.append(']');
+        } else if (property instanceof MapProperty) {
+            key.append("|{");
+            appendShape(key, ((MapProperty) property).getAdditionalProperties());
+            key.append('}');
+        }
+    }
+}
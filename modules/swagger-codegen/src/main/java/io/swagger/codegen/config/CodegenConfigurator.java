@@ -8,6 +8,8 @@ import io.swagger.codegen.ClientOpts;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.GenerationMetrics;
+import io.swagger.codegen.GeneratorSettings;
 import io.swagger.codegen.auth.AuthParser;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
@@ -43,6 +45,7 @@ public class CodegenConfigurator implements Serializable {
     private String inputSpec;
     private String outputDir;
     private boolean verbose;
+    private boolean recordMetrics;
     private boolean skipOverwrite;
     private boolean removeOperationIdPrefix;
     private String templateDir;
@@ -58,6 +61,7 @@ public class CodegenConfigurator implements Serializable {
     private String library;
     private String ignoreFileOverride;
     private Map<String, String> systemProperties = new HashMap<String, String>();
+    private Set<String> disabledSettings = new HashSet<String>();
     private Map<String, String> instantiationTypes = new HashMap<String, String>();
     private Map<String, String> typeMappings = new HashMap<String, String>();
     private Map<String, Object> additionalProperties = new HashMap<String, Object>();
@@ -144,6 +148,21 @@ public class CodegenConfigurator implements Serializable {
         return this;
     }
 
+    public boolean isRecordMetrics() {
+        return recordMetrics;
+    }
+
+    /**
+     * Sets whether the generation records {@link GenerationMetrics}, which it also does in verbose mode.
+     *
+     * @param recordMetrics true to record the time spent in each phase and the files written
+     * @return this configurator
+     */
+    public CodegenConfigurator setRecordMetrics(boolean recordMetrics) {
+        this.recordMetrics = recordMetrics;
+        return this;
+    }
+
     public boolean isSkipOverwrite() {
         return skipOverwrite;
     }
@@ -238,6 +257,20 @@ public class CodegenConfigurator implements Serializable {
 
     public CodegenConfigurator addSystemProperty(String key, String value) {
         this.systemProperties.put(key, value);
+        this.disabledSettings.remove(key);
+        return this;
+    }
+
+    /**
+     * Turns a {@link GeneratorSettings#isRunSetting(String) setting of the run} off, so that the System property of the
+     * same name is not used in its place.
+     *
+     * @param key the name of the setting
+     * @return this configurator
+     */
+    public CodegenConfigurator disableSetting(String key) {
+        this.systemProperties.remove(key);
+        this.disabledSettings.add(key);
         return this;
     }
 
@@ -384,7 +417,39 @@ public class CodegenConfigurator implements Serializable {
         Validate.notEmpty(lang, "language must be specified");
         Validate.notEmpty(inputSpec, "input spec must be specified");
 
-        setVerboseFlags();
+        ClientOptInput input = prepareClientOptInput();
+
+        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
+
+        final long parseStart = System.nanoTime();
+        Swagger swagger = new SwaggerParser().read(inputSpec, authorizationValues, true);
+        if (input.getMetrics() != null) {
+            input.getMetrics().addTime(GenerationMetrics.Phase.PARSE, System.nanoTime() - parseStart);
+        }
+
+        return input.swagger(swagger);
+    }
+
+    /**
+     * Configures a generation of a spec which is already parsed, e.g. to generate several targets from one spec. The
+     * generation may modify the spec, so each generation must be given its own copy.
+     *
+     * @param swagger the spec
+     * @return the input of the generation
+     */
+    public ClientOptInput toClientOptInput(Swagger swagger) {
+
+        Validate.notEmpty(lang, "language must be specified");
+
+        return prepareClientOptInput().swagger(swagger);
+    }
+
+    private ClientOptInput prepareClientOptInput() {
+        final GeneratorSettings settings = new GeneratorSettings(systemProperties);
+        for (String key : disabledSettings) {
+            settings.disable(key);
+        }
+        setVerboseFlags(settings);
         setSystemProperties();
 
         CodegenConfig config = CodegenConfigLoader.forName(lang);
@@ -423,17 +488,11 @@ public class CodegenConfigurator implements Serializable {
 
         config.additionalProperties().putAll(additionalProperties);
 
-        ClientOptInput input = new ClientOptInput()
-                .config(config);
-
-        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
-
-        Swagger swagger = new SwaggerParser().read(inputSpec, authorizationValues, true);
-
-        input.opts(new ClientOpts())
-                .swagger(swagger);
-
-        return input;
+        return new ClientOptInput()
+                .config(config)
+                .opts(new ClientOpts())
+                .settings(settings)
+                .metrics(verbose || recordMetrics ? new GenerationMetrics() : null);
     }
 
     @JsonAnySetter
@@ -459,7 +518,7 @@ public class CodegenConfigurator implements Serializable {
         }
     }
 
-    private void setVerboseFlags() {
+    private void setVerboseFlags(GeneratorSettings settings) {
         if (!verbose) {
             return;
         }
@@ -469,15 +528,18 @@ public class CodegenConfigurator implements Serializable {
                 "\n - [debugOperations] prints operations passed to the template engine" +
                 "\n - [debugSupportingFiles] prints additional data passed to the template engine");
 
-        System.setProperty("debugSwagger", "");
-        System.setProperty("debugModels", "");
-        System.setProperty("debugOperations", "");
-        System.setProperty("debugSupportingFiles", "");
+        settings.set("debugSwagger", "");
+        settings.set("debugModels", "");
+        settings.set("debugOperations", "");
+        settings.set("debugSupportingFiles", "");
     }
 
     private void setSystemProperties() {
+        // settings of the run are passed with the ClientOptInput, others may be read by the constructors of generators
         for (Map.Entry<String, String> entry : systemProperties.entrySet()) {
-            System.setProperty(entry.getKey(), entry.getValue());
+            if (!GeneratorSettings.isRunSetting(entry.getKey())) {
+                System.setProperty(entry.getKey(), entry.getValue());
+            }
         }
     }
 
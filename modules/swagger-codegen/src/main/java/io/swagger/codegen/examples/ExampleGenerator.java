@@ -13,6 +13,14 @@ import java.util.*;
 import static io.swagger.models.properties.StringProperty.Format.URI;
 import static io.swagger.models.properties.StringProperty.Format.URL;
 
+/**
+ * Generates example requests and responses from the models of a spec.
+ *
+ * <p>An instance can be used for all operations of a spec: the examples of a model are rendered once per media type and
+ * reused. Resolving a model stores its example values in the model, as later operations would use them anyway, so the
+ * rendered examples are the same as the ones of a new instance per operation. Each call to {@code generate} restarts the
+ * random numbers from the same seed, as a new instance did.
+ */
 public class ExampleGenerator {
     private static final Logger logger = LoggerFactory.getLogger(ExampleGenerator.class);
 
@@ -25,18 +33,30 @@ public class ExampleGenerator {
     private static final String OUTPUT = "output";
     private static final String NONE = "none";
 
+    // use a fixed seed to make the "random" numbers reproducible.
+    private static final long SEED = "ExampleGenerator".hashCode();
+
     protected Map<String, Model> examples;
     private Random random;
+    private final XmlExampleGenerator xmlExampleGenerator;
+    // rendered examples by model name and media type
+    private final Map<String, String> jsonExamples = new HashMap<>();
+    private final Map<String, String> xmlExamples = new HashMap<>();
 
     public ExampleGenerator(Map<String, Model> examples) {
         this.examples = examples;
-        // use a fixed seed to make the "random" numbers reproducible.
-        this.random = new Random("ExampleGenerator".hashCode());
+        this.random = new Random(SEED);
+        this.xmlExampleGenerator = new XmlExampleGenerator(examples);
     }
 
     public List<Map<String, String>> generate(Map<String, Object> examples, List<String> mediaTypes, Property property) {
         List<Map<String, String>> output = new ArrayList<>();
         Set<String> processedModels = new HashSet<>();
+        random = new Random(SEED);
+        // a reference without an example of its own is rendered like the model it refers to
+        final String modelName = property instanceof RefProperty && property.getExample() == null
+                && this.examples != null && this.examples.get(((RefProperty) property).getSimpleRef()) != null
+                ? ((RefProperty) property).getSimpleRef() : null;
         if (examples == null) {
             if (mediaTypes == null) {
                 // assume application/json for this
@@ -45,15 +65,31 @@ public class ExampleGenerator {
             for (String mediaType : mediaTypes) {
                 Map<String, String> kv = new HashMap<>();
                 kv.put(CONTENT_TYPE, mediaType);
-                if (property != null && mediaType.startsWith(MIME_TYPE_JSON)) {
+                if (modelName != null && mediaType.startsWith(MIME_TYPE_JSON)) {
+                    String example = toJsonExample(modelName, mediaType, this.examples.get(modelName), processedModels);
+
+                    if (example != null) {
+                        kv.put(EXAMPLE, example);
+                        output.add(kv);
+                    }
+                } else if (property != null && mediaType.startsWith(MIME_TYPE_JSON)) {
                     String example = Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
 
+                    if (example != null) {
+                        kv.put(EXAMPLE, example);
+                        output.add(kv);
+                    }
+                } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
+                    String example = toXmlExample(modelName, mediaType, this.examples.get(modelName));
+                    if (example == null) {
+                        example = xmlExampleGenerator.toXml(property);
+                    }
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
                     }
                 } else if (property != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    String example = xmlExampleGenerator.toXml(property);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -79,6 +115,7 @@ public class ExampleGenerator {
     public List<Map<String, String>> generate(Map<String, Object> examples, List<String> mediaTypes, String modelName) {
         List<Map<String, String>> output = new ArrayList<>();
         Set<String> processedModels = new HashSet<>();
+        random = new Random(SEED);
         if (examples == null) {
             if (mediaTypes == null) {
                 // assume application/json for this
@@ -91,7 +128,7 @@ public class ExampleGenerator {
                     final Model model = this.examples.get(modelName);
                     if (model != null) {
 
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, model, processedModels));
+                        String example = toJsonExample(modelName, mediaType, model, processedModels);
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -99,8 +136,7 @@ public class ExampleGenerator {
                         }
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    final Model model = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(model, 0, Collections.<String>emptySet());
+                    String example = toXmlExample(modelName, mediaType, this.examples.get(modelName));
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -126,7 +162,7 @@ public class ExampleGenerator {
     private Object resolvePropertyToExample(String propertyName, String mediaType, Property property, Set<String> processedModels) {
         logger.debug("Resolving example for property {}...", property);
         if (property.getExample() != null) {
-            logger.debug("Example set in swagger spec, returning example: '{}'", property.getExample().toString());
+            logger.debug("Example set in swagger spec, returning example: '{}'", property.getExample());
             return property.getExample();
         } else if (property instanceof StringProperty) {
             logger.debug("String property");
@@ -145,7 +181,7 @@ public class ExampleGenerator {
                 logger.debug("URI or URL format, without default or enum, generating random one.");
                 return "http://example.com/aeiou";
             }
-            logger.debug("No values found, using property name " + propertyName + " as example");
+            logger.debug("No values found, using property name {} as example", propertyName);
             return propertyName;
         } else if (property instanceof BooleanProperty) {
             Boolean defaultValue = ((BooleanProperty) property).getDefault();
@@ -217,6 +253,30 @@ public class ExampleGenerator {
         return "";
     }
 
+    private String toJsonExample(String modelName, String mediaType, Model model, Set<String> processedModels) {
+        final String key = modelName + " " + mediaType;
+        String example = jsonExamples.get(key);
+        if (example == null) {
+            example = Json.pretty(resolveModelToExample(modelName, mediaType, model, processedModels));
+            if (example != null) {
+                jsonExamples.put(key, example);
+            }
+        }
+        return example;
+    }
+
+    private String toXmlExample(String modelName, String mediaType, Model model) {
+        final String key = modelName + " " + mediaType;
+        String example = xmlExamples.get(key);
+        if (example == null) {
+            example = xmlExampleGenerator.toXml(model, 0, Collections.<String>emptySet());
+            if (example != null) {
+                xmlExamples.put(key, example);
+            }
+        }
+        return example;
+    }
+
     private double randomNumber(Double min, Double max) {
         if (min != null && max != null) {
             double range = max - min;
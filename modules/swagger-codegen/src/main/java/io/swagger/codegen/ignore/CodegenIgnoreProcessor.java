@@ -1,12 +1,12 @@
 package io.swagger.codegen.ignore;
 
 import com.google.common.collect.ImmutableList;
-import io.swagger.codegen.ignore.rules.DirectoryRule;
 import io.swagger.codegen.ignore.rules.Rule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -19,9 +19,11 @@ public class CodegenIgnoreProcessor {
     private static final Logger LOGGER = LoggerFactory.getLogger(CodegenIgnoreProcessor.class);
 
     private File ignoreFile = null;
+    private URI baseDirectory = null;
 
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
+    private IgnoreRuleMatcher matcher = null;
 
     /**
      * Loads the default ignore file (.swagger-codegen-ignore) from the specified path.
@@ -63,6 +65,7 @@ public class CodegenIgnoreProcessor {
             try {
                 loadCodegenRules(targetIgnoreFile);
                 this.ignoreFile = targetIgnoreFile;
+                this.baseDirectory = targetIgnoreFile.getParentFile().toURI();
             } catch (IOException e) {
                 LOGGER.error(String.format("Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
             }
@@ -96,78 +99,28 @@ public class CodegenIgnoreProcessor {
                 }
             }
         }
+        matcher = new IgnoreRuleMatcher(exclusionRules, inclusionRules);
     }
 
     /**
      * Determines whether or not a file defined by {@code toEvaluate} is allowed,
      * under the exclusion rules from the ignore file being processed.
      *
+     * The rules are compiled into a single matcher when the ignore file is loaded, and the result for each file is
+     * remembered, so evaluating many files against a long ignore file stays cheap.
+     *
      * @param targetFile The file to check against exclusion rules from the ignore file.
      * @return {@code false} if file matches any pattern in the ignore file (disallowed), otherwise {@code true} (allowed).
      */
     public boolean allowsFile(final File targetFile) {
         if(this.ignoreFile == null) return true;
 
-        File file = new File(this.ignoreFile.getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        Boolean directoryExcluded = false;
-        Boolean exclude = false;
         if(exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
 
-        // NOTE: We *must* process all exclusion rules
-        for (int i = 0; i < exclusionRules.size(); i++) {
-            Rule current = exclusionRules.get(i);
-            Rule.Operation op = current.evaluate(file.getPath());
-
-            switch (op){
-                case EXCLUDE:
-                    exclude = true;
-
-                    // Include rule can't override rules that exclude a file by some parent directory.
-                    if(current instanceof DirectoryRule) {
-                        directoryExcluded = true;
-                    }
-                    break;
-                case INCLUDE:
-                    // This won't happen here.
-                    break;
-                case NOOP:
-                    break;
-                case EXCLUDE_AND_TERMINATE:
-                    i = exclusionRules.size();
-                    break;
-            }
-        }
-
-        if(exclude) {
-            // Only need to process inclusion rules if we've been excluded
-            for (int i = 0; exclude && i < inclusionRules.size(); i++) {
-                Rule current = inclusionRules.get(i);
-                Rule.Operation op = current.evaluate(file.getPath());
-
-                // At this point exclude=true means the file should be ignored.
-                // op == INCLUDE means we have to flip that flag.
-                if(op.equals(Rule.Operation.INCLUDE)) {
-                    if(current instanceof DirectoryRule && directoryExcluded) {
-                        // e.g
-                        // baz/
-                        // !foo/bar/baz/
-                        // NOTE: Possibly surprising side effect:
-                        // foo/bar/baz/
-                        // !bar/
-                        exclude = false;
-                    } else if (!directoryExcluded) {
-                        // e.g.
-                        // **/*.log
-                        // !ISSUE_1234.log
-                        exclude = false;
-                    }
-                }
-            }
-        }
-
-        return Boolean.FALSE.equals(exclude);
+        File file = new File(this.baseDirectory.relativize(targetFile.toURI()).getPath());
+        return matcher.allows(file.getPath());
     }
 
     /**
@@ -0,0 +1,177 @@
+package io.swagger.codegen.ignore;
+
+import io.swagger.codegen.ignore.rules.DirectoryRule;
+import io.swagger.codegen.ignore.rules.Rule;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The rules of an ignore file, compiled into a single matcher.
+ *
+ * <p>Rules are indexed by the file name or top-level directory every path they match must have, where the pattern of the
+ * rule defines one. A path is then only evaluated against the rules indexed under its own file name and top-level
+ * directory, and the rules which could match any path, in the order they were defined. As rules which can't match a
+ * path have no effect on it, this yields the same result as evaluating all rules. The result is memoized per path.
+ *
+ * <p>Instances are safe for use by multiple threads.
+ */
+final class IgnoreRuleMatcher {
+
+    private final RuleIndex exclusionRules;
+    private final RuleIndex inclusionRules;
+    private final Map<String, Boolean> allowedPaths = new ConcurrentHashMap<>();
+
+    IgnoreRuleMatcher(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        this.exclusionRules = new RuleIndex(exclusionRules);
+        this.inclusionRules = new RuleIndex(inclusionRules);
+    }
+
+    /**
+     * Determines whether a path is allowed under the rules.
+     *
+     * @param relativePath The path relative to the ignore file.
+     * @return {@code false} if the path is excluded by the rules, otherwise {@code true}.
+     */
+    boolean allows(String relativePath) {
+        Boolean allowed = allowedPaths.get(relativePath);
+        if (allowed == null) {
+            allowed = evaluate(relativePath);
+            allowedPaths.put(relativePath, allowed);
+        }
+        return allowed;
+    }
+
+    private boolean evaluate(String relativePath) {
+        final Path path = FileSystems.getDefault().getPath(relativePath);
+        boolean directoryExcluded = false;
+        boolean exclude = false;
+
+        // NOTE: We *must* process all exclusion rules
+        final List<Rule> exclusionCandidates = exclusionRules.candidates(path);
+        for (int i = 0; i < exclusionCandidates.size(); i++) {
+            Rule current = exclusionCandidates.get(i);
+            Rule.Operation op = current.evaluate(relativePath, path);
+
+            switch (op) {
+                case EXCLUDE:
+                    exclude = true;
+
+                    // Include rule can't override rules that exclude a file by some parent directory.
+                    if (current instanceof DirectoryRule) {
+                        directoryExcluded = true;
+                    }
+                    break;
+                case INCLUDE:
+                    // This won't happen here.
+                    break;
+                case NOOP:
+                    break;
+                case EXCLUDE_AND_TERMINATE:
+                    i = exclusionCandidates.size();
+                    break;
+            }
+        }
+
+        if (exclude) {
+            // Only need to process inclusion rules if we've been excluded
+            final List<Rule> inclusionCandidates = inclusionRules.candidates(path);
+            for (int i = 0; exclude && i < inclusionCandidates.size(); i++) {
+                Rule current = inclusionCandidates.get(i);
+                Rule.Operation op = current.evaluate(relativePath, path);
+
+                // At this point exclude=true means the file should be ignored.
+                // op == INCLUDE means we have to flip that flag.
+                if (op.equals(Rule.Operation.INCLUDE)) {
+                    if (current instanceof DirectoryRule && directoryExcluded) {
+                        // e.g
+                        // baz/
+                        // !foo/bar/baz/
+                        // NOTE: Possibly surprising side effect:
+                        // foo/bar/baz/
+                        // !bar/
+                        exclude = false;
+                    } else if (!directoryExcluded) {
+                        // e.g.
+                        // **/*.log
+                        // !ISSUE_1234.log
+                        exclude = false;
+                    }
+                }
+            }
+        }
+
+        return !exclude;
+    }
+
+    /**
+     * Rules indexed by the file name and top-level directory of the paths they can match, each list in definition order.
+     */
+    private static final class RuleIndex {
+        private final List<Rule> rules;
+        private final Map<String, List<Rule>> byFileName = new HashMap<>();
+        private final Map<String, List<Rule>> byTopDirectory = new HashMap<>();
+        // positions of the rules in the ignore file, to restore their order
+        private final Map<Rule, Integer> positions = new HashMap<>();
+        private final List<Rule> unindexed = new ArrayList<>();
+
+        RuleIndex(List<Rule> rules) {
+            this.rules = rules;
+            for (Rule rule : rules) {
+                positions.put(rule, positions.size());
+                if (rule.getRequiredFileName() != null) {
+                    add(byFileName, rule.getRequiredFileName(), rule);
+                } else if (rule.getRequiredTopDirectory() != null) {
+                    add(byTopDirectory, rule.getRequiredTopDirectory(), rule);
+                } else {
+                    unindexed.add(rule);
+                }
+            }
+        }
+
+        private static void add(Map<String, List<Rule>> index, String name, Rule rule) {
+            // names are compared ignoring case, as some file systems match globs that way
+            final String key = name.toLowerCase(Locale.ROOT);
+            List<Rule> rules = index.get(key);
+            if (rules == null) {
+                rules = new ArrayList<>();
+                index.put(key, rules);
+            }
+            rules.add(rule);
+        }
+
+        /**
+         * @return The rules which may match the path, in definition order.
+         */
+        List<Rule> candidates(Path path) {
+            if (byFileName.isEmpty() && byTopDirectory.isEmpty()) {
+                return rules;
+            }
+            final List<Rule> sameFileName = get(byFileName, path.getFileName());
+            final List<Rule> sameTopDirectory = get(byTopDirectory, path.getNameCount() > 1 ? path.getName(0) : null);
+            if (sameFileName.isEmpty() && sameTopDirectory.isEmpty()) {
+                return unindexed;
+            }
+            final List<Rule> candidates = new ArrayList<>(unindexed);
+            candidates.addAll(sameFileName);
+            candidates.addAll(sameTopDirectory);
+            Collections.sort(candidates, (a, b) -> Integer.compare(positions.get(a), positions.get(b)));
+            return candidates;
+        }
+
+        private static List<Rule> get(Map<String, List<Rule>> index, Path name) {
+            if (name == null) {
+                return Collections.emptyList();
+            }
+            final List<Rule> rules = index.get(name.toString().toLowerCase(Locale.ROOT));
+            return rules == null ? Collections.<Rule>emptyList() : rules;
+        }
+    }
+}
@@ -21,7 +21,13 @@ public class DirectoryRule extends FileRule {
     }
 
     @Override
-    public Boolean matches(String relativePath) {
-        return contentsMatcher.matches(FileSystems.getDefault().getPath(relativePath)) || directoryMatcher.matches(FileSystems.getDefault().getPath(relativePath));
+    protected Boolean matches(String relativePath, Path path) {
+        return contentsMatcher.matches(path) || directoryMatcher.matches(path);
+    }
+
+    @Override
+    public String getRequiredFileName() {
+        // the contents of a directory have any name
+        return null;
     }
 }
@@ -1,11 +1,15 @@
 package io.swagger.codegen.ignore.rules;
 
 import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.List;
 
 public class FileRule extends Rule {
 
+    // characters with a special meaning in glob patterns
+    private static final String GLOB_CHARACTERS = "*?[]{}\\";
+
     private PathMatcher matcher = null;
 
     FileRule(List<Part> syntax, String definition) {
@@ -15,6 +19,43 @@ public class FileRule extends Rule {
 
     @Override
     public Boolean matches(String relativePath) {
-        return matcher.matches(FileSystems.getDefault().getPath(relativePath));
+        return matches(relativePath, FileSystems.getDefault().getPath(relativePath));
+    }
+
+    @Override
+    protected Boolean matches(String relativePath, Path path) {
+        return matcher.matches(path);
+    }
+
+    @Override
+    public String getRequiredFileName() {
+        // e.g. pom.xml or docs/**/README.md, but not *.md or docs/**README.md
+        String pattern = this.getPattern();
+        String name = pattern.substring(pattern.lastIndexOf('/') + 1);
+        return isLiteral(name) ? name : null;
+    }
+
+    @Override
+    public String getRequiredTopDirectory() {
+        // e.g. docs/** or docs/*.md, but not **/docs/*.md or docs*/*.md
+        String pattern = this.getPattern();
+        int separatorIndex = pattern.indexOf('/');
+        if (separatorIndex <= 0) {
+            return null;
+        }
+        String directory = pattern.substring(0, separatorIndex);
+        return isLiteral(directory) ? directory : null;
+    }
+
+    static boolean isLiteral(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(segment.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
     }
 }
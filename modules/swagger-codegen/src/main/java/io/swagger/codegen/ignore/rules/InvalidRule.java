@@ -1,5 +1,6 @@
 package io.swagger.codegen.ignore.rules;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public class InvalidRule extends Rule {
@@ -20,6 +21,11 @@ public class InvalidRule extends Rule {
         return Operation.NOOP;
     }
 
+    @Override
+    public Operation evaluate(String relativePath, Path path) {
+        return Operation.NOOP;
+    }
+
     public String getReason() {
         return reason;
     }
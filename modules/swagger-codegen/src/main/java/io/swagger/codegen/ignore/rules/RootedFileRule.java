@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 public class RootedFileRule extends Rule {
     private String definedFilename = null;
     private String definedExtension = null;
+    private Pattern filenamePattern = null;
 
     RootedFileRule(List<Part> syntax, String definition) {
         super(syntax, definition);
@@ -17,6 +18,15 @@ public class RootedFileRule extends Rule {
         int separatorIndex = definition.lastIndexOf(".");
         definedFilename = getFilenamePart(definition, separatorIndex);
         definedExtension = getExtensionPart(definition, separatorIndex);
+
+        if(definedFilename.contains(IgnoreLineParser.Token.MATCH_ANY.getPattern())) {
+            // TODO: Evaluate any other escape requirements here.
+            filenamePattern = Pattern.compile(
+                    definedFilename
+                            .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
+                            .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
+            );
+        }
     }
 
     private String getFilenamePart(final String input, int stopIndex){
@@ -40,14 +50,8 @@ public class RootedFileRule extends Rule {
             final String extension = getExtensionPart(relativePath, separatorIndex);
             boolean extensionMatches = definedExtension.equals(extension) || definedExtension.equals(IgnoreLineParser.Token.MATCH_ANY.getPattern());
 
-            if(extensionMatches && definedFilename.contains(IgnoreLineParser.Token.MATCH_ANY.getPattern())) {
-                // TODO: Evaluate any other escape requirements here.
-                Pattern regex = Pattern.compile(
-                        definedFilename
-                                .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
-                                .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
-                );
-                return regex.matcher(filename).matches();
+            if(extensionMatches && filenamePattern != null) {
+                return filenamePattern.matcher(filename).matches();
             }
 
             return extensionMatches && definedFilename.equals(filename);
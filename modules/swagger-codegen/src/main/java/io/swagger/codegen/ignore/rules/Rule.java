@@ -1,5 +1,6 @@
 package io.swagger.codegen.ignore.rules;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public abstract class Rule {
@@ -18,6 +19,37 @@ public abstract class Rule {
 
     public abstract Boolean matches(String relativePath);
 
+    /**
+     * Matches a path which has already been parsed, so rules matching against {@link Path}s don't need to parse it again.
+     *
+     * @param relativePath The path relative to the ignore file.
+     * @param path         The same path, as returned by {@link java.nio.file.FileSystem#getPath(String, String...)}.
+     * @return {@code true} if the rule matches the path.
+     */
+    protected Boolean matches(String relativePath, Path path) {
+        return matches(relativePath);
+    }
+
+    /**
+     * The name every path matched by this rule ends with, so that rules which can't match a path can be skipped without
+     * evaluating them. Implementations may return a name which differs in case, but never a different name.
+     *
+     * @return The file name of all matched paths, or {@code null} if it isn't known.
+     */
+    public String getRequiredFileName() {
+        return null;
+    }
+
+    /**
+     * The top-level directory every path matched by this rule is located in, so that rules which can't match a path can be
+     * skipped without evaluating them. Implementations may return a name which differs in case, but never a different name.
+     *
+     * @return The first segment of all matched paths, or {@code null} if it isn't known.
+     */
+    public String getRequiredTopDirectory() {
+        return null;
+    }
+
     public String getDefinition() {
         return this.definition;
     }
@@ -59,7 +91,22 @@ public abstract class Rule {
     }
 
     public Operation evaluate(String relativePath) {
-        if (Boolean.TRUE.equals(matches(relativePath))) {
+        return toOperation(matches(relativePath));
+    }
+
+    /**
+     * Evaluates a path which has already been parsed, see {@link #evaluate(String)}.
+     *
+     * @param relativePath The path relative to the ignore file.
+     * @param path         The same path, as returned by {@link java.nio.file.FileSystem#getPath(String, String...)}.
+     * @return The operation for the path.
+     */
+    public Operation evaluate(String relativePath, Path path) {
+        return toOperation(matches(relativePath, path));
+    }
+
+    private Operation toOperation(Boolean matches) {
+        if (Boolean.TRUE.equals(matches)) {
             if(Boolean.TRUE.equals(this.getNegated())) {
                 return this.getIncludeOperation();
             }
@@ -661,12 +661,12 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegen implements Co
         if (p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
             Property inner = ap.getItems();
-            return getSwaggerType(p) + "<" + getTypeDeclaration(inner) + ">";
+            return resolveSwaggerType(p) + "<" + resolveTypeDeclaration(inner) + ">";
         } else if (p instanceof MapProperty) {
             MapProperty mp = (MapProperty) p;
             Property inner = mp.getAdditionalProperties();
 
-            return getSwaggerType(p) + "<string, " + getTypeDeclaration(inner) + ">";
+            return resolveSwaggerType(p) + "<string, " + resolveTypeDeclaration(inner) + ">";
         }
         return super.getTypeDeclaration(p);
     }
@@ -268,18 +268,18 @@ public abstract class AbstractEiffelCodegen extends DefaultCodegen implements Co
         if (p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
             Property inner = ap.getItems();
-            return "LIST [" + getTypeDeclaration(inner) + "]";
+            return "LIST [" + resolveTypeDeclaration(inner) + "]";
         } else if (p instanceof MapProperty) {
             MapProperty mp = (MapProperty) p;
             Property inner = mp.getAdditionalProperties();
 
-            return getSwaggerType(p) + "[" + getTypeDeclaration(inner) + "]";
+            return resolveSwaggerType(p) + "[" + resolveTypeDeclaration(inner) + "]";
         }
         // return super.getTypeDeclaration(p);
 
         // Not using the supertype invocation, because we want to UpperCamelize
         // the type.
-        String swaggerType = getSwaggerType(p);
+        String swaggerType = resolveSwaggerType(p);
         if (typeMapping.containsKey(swaggerType)) {
             return typeMapping.get(swaggerType);
         }
@@ -545,11 +545,11 @@ public abstract class AbstractEiffelCodegen extends DefaultCodegen implements Co
                 LOGGER.error("No Type defined for Additional Property " + additionalProperties2 + "\n" //
                       + "\tIn Property: " + p);
             }
-            String inner = toModelName(getSwaggerType(additionalProperties2));
+            String inner = toModelName(resolveSwaggerType(additionalProperties2));
             return instantiationTypes.get("map") + " [" + inner + "]";
         } else if (p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
-            String inner = toModelName(getSwaggerType(ap.getItems()));
+            String inner = toModelName(resolveSwaggerType(ap.getItems()));
             return instantiationTypes.get("array") + " [" + inner + "]";
         } else {
             return null;
@@ -220,19 +220,19 @@ public abstract class AbstractGoCodegen extends DefaultCodegen implements Codege
         if(p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
             Property inner = ap.getItems();
-            return "[]" + getTypeDeclaration(inner);
+            return "[]" + resolveTypeDeclaration(inner);
         }
         else if (p instanceof MapProperty) {
             MapProperty mp = (MapProperty) p;
             Property inner = mp.getAdditionalProperties();
 
-            return getSwaggerType(p) + "[string]" + getTypeDeclaration(inner);
+            return resolveSwaggerType(p) + "[string]" + resolveTypeDeclaration(inner);
         }
         //return super.getTypeDeclaration(p);
 
         // Not using the supertype invocation, because we want to UpperCamelize
         // the type.
-        String swaggerType = getSwaggerType(p);
+        String swaggerType = resolveSwaggerType(p);
         if (typeMapping.containsKey(swaggerType)) {
             return typeMapping.get(swaggerType);
         }
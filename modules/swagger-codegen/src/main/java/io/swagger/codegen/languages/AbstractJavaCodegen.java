@@ -621,7 +621,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
                 // TODO maybe better defaulting to StringProperty than returning null
                 return null;
             }
-            return getSwaggerType(p) + "<" + getTypeDeclaration(inner) + ">";
+            return resolveSwaggerType(p) + "<" + resolveTypeDeclaration(inner) + ">";
         } else if (p instanceof MapProperty) {
             MapProperty mp = (MapProperty) p;
             Property inner = mp.getAdditionalProperties();
@@ -630,7 +630,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
                 // TODO maybe better defaulting to StringProperty than returning null
                 return null;
             }
-            return getSwaggerType(p) + "<String, " + getTypeDeclaration(inner) + ">";
+            return resolveSwaggerType(p) + "<String, " + resolveTypeDeclaration(inner) + ">";
         }
         return super.getTypeDeclaration(p);
     }
@@ -657,7 +657,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
                 return null;
             }
 
-            String typeDeclaration = getTypeDeclaration(ap.getItems());
+            String typeDeclaration = resolveTypeDeclaration(ap.getItems());
             Object java8obj = additionalProperties.get("java8");
             if (java8obj != null) {
                 Boolean java8 = Boolean.valueOf(java8obj.toString());
@@ -679,7 +679,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
                 return null;
             }
 
-            String typeDeclaration = String.format("String, %s", getTypeDeclaration(ap.getAdditionalProperties()));
+            String typeDeclaration = String.format("String, %s", resolveTypeDeclaration(ap.getAdditionalProperties()));
             Object java8obj = additionalProperties.get("java8");
             if (java8obj != null) {
                 Boolean java8 = Boolean.valueOf(java8obj.toString());
@@ -304,11 +304,11 @@ public abstract class AbstractPhpCodegen extends DefaultCodegen implements Codeg
         if (p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
             Property inner = ap.getItems();
-            return getTypeDeclaration(inner) + "[]";
+            return resolveTypeDeclaration(inner) + "[]";
         } else if (p instanceof MapProperty) {
             MapProperty mp = (MapProperty) p;
             Property inner = mp.getAdditionalProperties();
-            return getSwaggerType(p) + "[string," + getTypeDeclaration(inner) + "]";
+            return resolveSwaggerType(p) + "[string," + resolveTypeDeclaration(inner) + "]";
         } else if (p instanceof RefProperty) {
             String type = super.getTypeDeclaration(p);
             return (!languageSpecificPrimitives.contains(type))
@@ -90,12 +90,12 @@ public abstract class AbstractScalaCodegen extends DefaultCodegen {
         if (p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
             Property inner = ap.getItems();
-            return getSwaggerType(p) + "[" + getTypeDeclaration(inner) + "]";
+            return resolveSwaggerType(p) + "[" + resolveTypeDeclaration(inner) + "]";
         } else if (p instanceof MapProperty) {
             MapProperty mp = (MapProperty) p;
             Property inner = mp.getAdditionalProperties();
 
-            return getSwaggerType(p) + "[String, " + getTypeDeclaration(inner) + "]";
+            return resolveSwaggerType(p) + "[String, " + resolveTypeDeclaration(inner) + "]";
         }
         return super.getTypeDeclaration(p);
     }
@@ -119,11 +119,11 @@ public abstract class AbstractScalaCodegen extends DefaultCodegen {
     public String toInstantiationType(Property p) {
         if (p instanceof MapProperty) {
             MapProperty ap = (MapProperty) p;
-            String inner = getSwaggerType(ap.getAdditionalProperties());
+            String inner = resolveSwaggerType(ap.getAdditionalProperties());
             return instantiationTypes.get("map") + "[String, " + inner + "]";
         } else if (p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
-            String inner = getSwaggerType(ap.getItems());
+            String inner = resolveSwaggerType(ap.getItems());
             return instantiationTypes.get("array") + "[" + inner + "]";
         } else {
             return null;
@@ -150,11 +150,11 @@ public abstract class AbstractScalaCodegen extends DefaultCodegen {
             return "null";
         } else if (p instanceof MapProperty) {
             MapProperty ap = (MapProperty) p;
-            String inner = getSwaggerType(ap.getAdditionalProperties());
+            String inner = resolveSwaggerType(ap.getAdditionalProperties());
             return "new HashMap[String, " + inner + "]() ";
         } else if (p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
-            String inner = getSwaggerType(ap.getItems());
+            String inner = resolveSwaggerType(ap.getItems());
             return "new ListBuffer[" + inner + "]() ";
         } else {
             return "null";
@@ -223,11 +223,11 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegen imp
         if (p instanceof ArrayProperty) {
             ArrayProperty ap = (ArrayProperty) p;
             Property inner = ap.getItems();
-            return getSwaggerType(p) + "<" + getTypeDeclaration(inner) + ">";
+            return resolveSwaggerType(p) + "<" + resolveTypeDeclaration(inner) + ">";
         } else if (p instanceof MapProperty) {
             MapProperty mp = (MapProperty) p;
             Property inner = mp.getAdditionalProperties();
-            return "{ [key: string]: "+ getTypeDeclaration(inner) + "; }";
+            return "{ [key: string]: "+ resolveTypeDeclaration(inner) + "; }";
         } else if (p instanceof FileProperty) {
             return "any";
         }
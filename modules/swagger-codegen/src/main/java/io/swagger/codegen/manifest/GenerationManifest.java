@@ -0,0 +1,225 @@
+package io.swagger.codegen.manifest;
+
+import com.google.common.collect.ImmutableSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records a hash of the inputs of every generated file, so that a later run can skip rendering and writing files whose
+ * inputs did not change. The manifest is stored in {@code .swagger-codegen/manifest} below the output directory.
+ *
+ * <p>Besides the input hash, the size and modification time of each file are recorded after writing it. A file whose
+ * size or modification time changed since, e.g. because it was edited manually, is always generated again.
+ */
+public class GenerationManifest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationManifest.class);
+
+    public static final String MANIFEST_FILE = ".swagger-codegen" + File.separator + "manifest";
+
+    private static final String HEADER = "# swagger-codegen manifest v1: <input hash> <size> <last modified> <path>";
+
+    /**
+     * Template data keys whose values change on every run and are therefore not part of the input hash.
+     */
+    private static final Set<String> VOLATILE_KEYS = ImmutableSet.of("generatedDate");
+
+    private final Path outputDirectory;
+    private final String runFingerprint;
+    private final Map<String, Entry> previousEntries;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final InputFingerprint.SharedValues sharedValues = new InputFingerprint.SharedValues();
+
+    GenerationManifest(Path outputDirectory, String runFingerprint, Map<String, Entry> previousEntries) {
+        this.outputDirectory = outputDirectory;
+        this.runFingerprint = runFingerprint;
+        this.previousEntries = previousEntries;
+    }
+
+    /**
+     * Loads the manifest of the previous run from the given output directory. A missing or unreadable manifest results in
+     * an empty one, so that all files are generated.
+     *
+     * @param outputFolder the output directory of the generator
+     * @param runFingerprint a hash of the inputs shared by all files of this run, e.g. generator and templates
+     * @return the manifest
+     */
+    public static GenerationManifest load(String outputFolder, String runFingerprint) {
+        final Path outputDirectory = new File(outputFolder).getAbsoluteFile().toPath().normalize();
+        final Path manifestFile = outputDirectory.resolve(MANIFEST_FILE);
+        final Map<String, Entry> previousEntries = new HashMap<>();
+
+        if (Files.isRegularFile(manifestFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    final String[] parts = line.split(" ", 4);
+                    if (parts.length != 4) {
+                        LOGGER.warn("Ignoring malformed manifest line: " + line);
+                        continue;
+                    }
+                    try {
+                        previousEntries.put(parts[3], new Entry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                    } catch (NumberFormatException e) {
+                        LOGGER.warn("Ignoring malformed manifest line: " + line);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not read manifest " + manifestFile + ", generating all files", e);
+                previousEntries.clear();
+            }
+        }
+
+        return new GenerationManifest(outputDirectory, runFingerprint, previousEntries);
+    }
+
+    /**
+     * Registers values which are part of the template data of many files, such as the additional properties, so that
+     * {@link #hashInputs(String, Map)} only walks them once. The values must not change for the rest of the run.
+     *
+     * @param values the shared values
+     */
+    public void addSharedValues(Collection<?> values) {
+        sharedValues.addAll(values);
+    }
+
+    /**
+     * Computes the input hash of a file rendered from the given template and data.
+     *
+     * @param templateName the name of the template
+     * @param templateData the data passed to the template
+     * @return the input hash
+     */
+    public String hashInputs(String templateName, Map<String, Object> templateData) {
+        return new InputFingerprint(VOLATILE_KEYS, sharedValues)
+                .add(runFingerprint)
+                .add(templateName)
+                .add(templateData)
+                .toHex();
+    }
+
+    /**
+     * Checks whether {@code file} was generated from the same inputs by the previous run and was not modified since. An
+     * up-to-date file is kept in the manifest.
+     *
+     * @param file the generated file
+     * @param inputHash the hash of the inputs of this run, see {@link #hashInputs(String, Map)}
+     * @return {@code true} if the file does not need to be generated again
+     */
+    public boolean isUpToDate(File file, String inputHash) {
+        final String path = relativePath(file);
+        final Entry previous = previousEntries.get(path);
+        if (previous == null || !previous.inputHash.equals(inputHash)) {
+            return false;
+        }
+        final Entry current;
+        try {
+            current = Entry.of(file.toPath(), inputHash);
+        } catch (IOException e) {
+            // e.g. the file was removed
+            return false;
+        }
+        if (current.size != previous.size || current.lastModified != previous.lastModified) {
+            return false;
+        }
+        entries.put(path, previous);
+        return true;
+    }
+
+    /**
+     * Records a file written by this run.
+     *
+     * @param file the generated file
+     * @param inputHash the hash of its inputs, see {@link #hashInputs(String, Map)}
+     * @throws IOException if the file attributes cannot be read
+     */
+    public void record(File file, String inputHash) throws IOException {
+        entries.put(relativePath(file), Entry.of(file.toPath(), inputHash));
+    }
+
+    /**
+     * Returns the files recorded by the previous run which were not generated by this run, but still exist. Only
+     * meaningful if this run generated all files, rather than a selection of them.
+     *
+     * @return the paths of the stale files, relative to the output directory
+     */
+    public List<String> getStaleFiles() {
+        final List<String> staleFiles = new ArrayList<>();
+        for (String path : previousEntries.keySet()) {
+            if (!entries.containsKey(path) && Files.exists(outputDirectory.resolve(path))) {
+                staleFiles.add(path);
+            }
+        }
+        Collections.sort(staleFiles);
+        return staleFiles;
+    }
+
+    /**
+     * Writes the manifest. Files of the previous run which were not generated by this run are kept in the manifest as long
+     * as they exist, so that they are still known after generating only a selection of files.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    public void save() throws IOException {
+        final Map<String, Entry> sorted = new TreeMap<>(entries);
+        for (Map.Entry<String, Entry> previous : previousEntries.entrySet()) {
+            if (!sorted.containsKey(previous.getKey()) && Files.exists(outputDirectory.resolve(previous.getKey()))) {
+                sorted.put(previous.getKey(), previous.getValue());
+            }
+        }
+
+        final Path manifestFile = outputDirectory.resolve(MANIFEST_FILE);
+        Files.createDirectories(manifestFile.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Map.Entry<String, Entry> entry : sorted.entrySet()) {
+                final Entry value = entry.getValue();
+                writer.write(value.inputHash + " " + value.size + " " + value.lastModified + " " + entry.getKey());
+                writer.newLine();
+            }
+        }
+    }
+
+    private String relativePath(File file) {
+        final Path path = file.getAbsoluteFile().toPath().normalize();
+        return outputDirectory.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    static class Entry {
+        final String inputHash;
+        final long size;
+        final long lastModified;
+
+        Entry(String inputHash, long size, long lastModified) {
+            this.inputHash = inputHash;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static Entry of(Path file, String inputHash) throws IOException {
+            return new Entry(inputHash, Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package io.swagger.codegen.manifest;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.collect.MapMaker;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import io.swagger.codegen.CodegenConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Computes a SHA-256 hash over the inputs of a generated file, so that unchanged inputs can be recognized on the next run.
+ *
+ * <p>Values are walked structurally: maps, collections and arrays element by element, swagger and codegen objects field by
+ * field (skipping static and transient fields), and any other object by its {@code toString()} if it provides one, or by
+ * its JSON serialization otherwise. A {@link CodegenConfig} only contributes its class name, since its state reaches the
+ * templates through the template data anyway. Objects referenced more than once are only walked the first time, and
+ * {@link SharedValues shared values} only once per run.
+ */
+public class InputFingerprint {
+
+    private static final ConcurrentMap<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+
+    private final MessageDigest digest;
+    private final Set<String> ignoredKeys;
+    private final SharedValues sharedValues;
+    private final Map<Object, Integer> visited = new IdentityHashMap<>();
+
+    /**
+     * Creates a new fingerprint.
+     *
+     * @param ignoredKeys map keys whose values are left out, e.g. values which change on every run
+     * @param sharedValues the values whose hashes are computed once and reused, or {@code null}
+     */
+    public InputFingerprint(Set<String> ignoredKeys, SharedValues sharedValues) {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        this.ignoredKeys = ignoredKeys;
+        this.sharedValues = sharedValues;
+    }
+
+    /**
+     * Creates a new fingerprint.
+     *
+     * @param ignoredKeys map keys whose values are left out, e.g. values which change on every run
+     */
+    public InputFingerprint(Set<String> ignoredKeys) {
+        this(ignoredKeys, null);
+    }
+
+    public InputFingerprint() {
+        this(Collections.<String>emptySet());
+    }
+
+    /**
+     * Adds a value, including everything reachable from it, to the fingerprint.
+     *
+     * @param value the value to add
+     * @return this fingerprint
+     */
+    public InputFingerprint add(Object value) {
+        if (value == null) {
+            put('N', "");
+        } else if (sharedValues != null && sharedValues.contains(value)) {
+            put('H', sharedValues.hashOf(value, ignoredKeys));
+        } else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum) {
+            put('V', value.toString());
+        } else if (value instanceof Class) {
+            put('T', ((Class<?>) value).getName());
+        } else if (value instanceof CodegenConfig) {
+            put('C', value.getClass().getName());
+        } else if (!markVisited(value)) {
+            // already walked, only record the reference
+            put('R', String.valueOf(visited.get(value)));
+        } else if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            put('M', String.valueOf(map.size()));
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getKey() instanceof String && ignoredKeys.contains(entry.getKey())) {
+                    continue;
+                }
+                add(entry.getKey());
+                add(entry.getValue());
+            }
+        } else if (value instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) value;
+            put('L', String.valueOf(collection.size()));
+            for (Object element : collection) {
+                add(element);
+            }
+        } else if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            put('A', String.valueOf(length));
+            for (int i = 0; i < length; i++) {
+                add(Array.get(value, i));
+            }
+        } else if (value.getClass().getName().startsWith("io.swagger.")) {
+            put('O', value.getClass().getName());
+            for (Field field : fieldsOf(value.getClass())) {
+                put('F', field.getName());
+                try {
+                    add(field.get(value));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot read field " + field, e);
+                }
+            }
+        } else if (value.getClass().isSynthetic()) {
+            // the class names of lambdas are not stable between runs
+            put('S', "");
+        } else if (hasToString(value.getClass())) {
+            put('V', value.toString());
+        } else {
+            put('T', value.getClass().getName());
+            addSerialized(value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the JSON serialization of an object, so that changes of its state are noticed. Objects which cannot be
+     * serialized, e.g. due to cycles, only contribute their class name.
+     */
+    private void addSerialized(Object value) {
+        final byte[] json;
+        try {
+            json = MAPPER.writeValueAsBytes(value);
+        } catch (IOException | RuntimeException e) {
+            put('N', "");
+            return;
+        }
+        put('J', String.valueOf(json.length));
+        digest.update(json);
+    }
+
+    /**
+     * Adds the relative paths and contents of all files below {@code directory} to the fingerprint.
+     *
+     * @param directory the directory to add. If it does not exist, only its absence is recorded.
+     * @return this fingerprint
+     * @throws IOException if a file cannot be read
+     */
+    public InputFingerprint addDirectory(File directory) throws IOException {
+        if (!directory.isDirectory()) {
+            put('N', "");
+            return this;
+        }
+        final Path root = directory.toPath();
+        final List<Path> files;
+        try (Stream<Path> paths = Files.walk(root)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            put('P', root.relativize(file).toString().replace(File.separatorChar, '/'));
+            addFile(file.toFile());
+        }
+        return this;
+    }
+
+    /**
+     * Adds the relative paths and contents of all resources below {@code directory} on the classpath to the fingerprint,
+     * from every classpath entry containing the directory, in classpath order. Resources in directories and JAR files are
+     * supported.
+     *
+     * @param classLoader the class loader to search
+     * @param directory the resource path of the directory, e.g. {@code Java}
+     * @return this fingerprint
+     * @throws IOException if a resource cannot be read
+     */
+    public InputFingerprint addClasspathDirectory(ClassLoader classLoader, String directory) throws IOException {
+        final String prefix = directory.endsWith("/") ? directory : directory + "/";
+        final Enumeration<URL> roots = classLoader.getResources(prefix);
+        while (roots.hasMoreElements()) {
+            final URL root = roots.nextElement();
+            put('U', "");
+            if ("file".equals(root.getProtocol())) {
+                try {
+                    addDirectory(new File(root.toURI()));
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    throw new IOException("Cannot read templates from " + root, e);
+                }
+                continue;
+            }
+            final URLConnection connection = root.openConnection();
+            if (!(connection instanceof JarURLConnection)) {
+                throw new IOException("Cannot list templates in " + root);
+            }
+            connection.setUseCaches(false);
+            final String entryPrefix = ((JarURLConnection) connection).getEntryName();
+            try (JarFile jarFile = ((JarURLConnection) connection).getJarFile()) {
+                // the order of the entries is unspecified
+                final Map<String, JarEntry> entries = new TreeMap<>();
+                final Enumeration<JarEntry> jarEntries = jarFile.entries();
+                while (jarEntries.hasMoreElements()) {
+                    final JarEntry entry = jarEntries.nextElement();
+                    if (!entry.isDirectory() && entry.getName().startsWith(entryPrefix)) {
+                        entries.put(entry.getName().substring(entryPrefix.length()), entry);
+                    }
+                }
+                for (Map.Entry<String, JarEntry> entry : entries.entrySet()) {
+                    put('P', entry.getKey());
+                    try (InputStream inputStream = jarFile.getInputStream(entry.getValue())) {
+                        final byte[] content = ByteStreams.toByteArray(inputStream);
+                        put('B', String.valueOf(content.length));
+                        digest.update(content);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the content of a file to the fingerprint.
+     *
+     * @param file the file to add. If it does not exist, only its absence is recorded.
+     * @return this fingerprint
+     * @throws IOException if the file cannot be read
+     */
+    public InputFingerprint addFile(File file) throws IOException {
+        if (!file.isFile()) {
+            put('N', "");
+            return this;
+        }
+        final byte[] content = Files.readAllBytes(file.toPath());
+        put('B', String.valueOf(content.length));
+        digest.update(content);
+        return this;
+    }
+
+    /**
+     * Returns the hash of everything added so far, as hex string. The fingerprint must not be used afterwards.
+     *
+     * @return the hash
+     */
+    public String toHex() {
+        return BaseEncoding.base16().lowerCase().encode(digest.digest());
+    }
+
+    private boolean markVisited(Object value) {
+        if (visited.containsKey(value)) {
+            return false;
+        }
+        visited.put(value, visited.size());
+        return true;
+    }
+
+    private void put(char tag, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) tag);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private static boolean hasToString(Class<?> type) {
+        try {
+            return type.getMethod("toString").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static List<Field> fieldsOf(Class<?> type) {
+        List<Field> fields = FIELDS.get(type);
+        if (fields == null) {
+            fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            // the order of getDeclaredFields() is unspecified
+            Collections.sort(fields, new Comparator<Field>() {
+                @Override
+                public int compare(Field a, Field b) {
+                    final int byName = a.getName().compareTo(b.getName());
+                    return byName != 0 ? byName : a.getDeclaringClass().getName().compareTo(b.getDeclaringClass().getName());
+                }
+            });
+            FIELDS.putIfAbsent(type, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Values referenced by the inputs of many files, such as the additional properties or the swagger model. The hash of
+     * each value is computed the first time it is needed and reused afterwards, so the value must not change during the
+     * run. Values are compared by identity and only weakly referenced.
+     */
+    public static class SharedValues {
+
+        private static final int MIN_SHARED_LENGTH = 4096;
+
+        private final ConcurrentMap<Object, Boolean> values = new MapMaker().weakKeys().makeMap();
+        private final ConcurrentMap<Object, String> hashes = new MapMaker().weakKeys().makeMap();
+
+        /**
+         * Registers values as shared. Values which are cheap to hash anyway, like short strings and numbers, are ignored.
+         *
+         * @param sharedValues the values
+         */
+        public void addAll(Collection<?> sharedValues) {
+            for (Object value : sharedValues) {
+                if (value instanceof CharSequence ? ((CharSequence) value).length() >= MIN_SHARED_LENGTH
+                        : value instanceof Map || value instanceof Collection
+                        || value != null && (value.getClass().isArray() || value.getClass().getName().startsWith("io.swagger."))) {
+                    values.put(value, Boolean.TRUE);
+                }
+            }
+        }
+
+        boolean contains(Object value) {
+            return values.containsKey(value);
+        }
+
+        String hashOf(Object value, Set<String> ignoredKeys) {
+            String hash = hashes.get(value);
+            if (hash == null) {
+                hash = new InputFingerprint(ignoredKeys).add(value).toHex();
+                final String previous = hashes.putIfAbsent(value, hash);
+                if (previous != null) {
+                    hash = previous;
+                }
+            }
+            return hash;
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package io.swagger.codegen.template;
 
 import io.swagger.codegen.CodegenConfig;
-import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.Map;
 
 /**
@@ -36,6 +37,21 @@ public class ExactCopyTemplateEngine extends AbstractTemplateEngine {
         return readTemplate(findTemplateFile(name));
     }
 
+    /**
+     * Copies the content of the provided file to {@code writer}.
+     *
+     * @param name the name of the template to read
+     * @param data will be ignored
+     * @param writer the writer receiving the content of {@code file}
+     * @throws IOException if the file does not exist
+     */
+    @Override
+    public void renderTemplate(String name, Map<String, Object> data, Writer writer) throws IOException {
+        try (Reader reader = findTemplateFile(name).getReader()) {
+            IOUtils.copy(reader, writer);
+        }
+    }
+
     @Override
     public String getFileExtension() {
         return null;
@@ -10,6 +10,7 @@ import com.github.jknack.handlebars.io.*;
 import io.swagger.codegen.CodegenConfig;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 
 import static com.google.common.base.Objects.equal;
@@ -61,18 +62,35 @@ public class HandlebarsTemplateEngine extends AbstractTemplateEngine {
      */
     @Override
     public String renderTemplate(String templateName, Map<String, Object> templateData) throws IOException {
-        final Template template = handlebars.compile(templateName);
+        return handlebars.compile(templateName).apply(newContext(templateData));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void renderTemplate(String templateName, Map<String, Object> templateData, Writer writer) throws IOException {
+        handlebars.compile(templateName).apply(newContext(templateData), writer);
+    }
 
-        final Context context = Context
+    private static Context newContext(Map<String, Object> templateData) {
+        // getters come before fields, so that e.g. getJsonSchema() is used rather than the deprecated jsonSchema field
+        return Context
                 .newBuilder(templateData)
                 .resolver(
                         MapValueResolver.INSTANCE,
+                        JavaBeanValueResolver.INSTANCE,
                         FieldValueResolver.INSTANCE,
-                        MethodValueResolver.INSTANCE,
-                        JavaBeanValueResolver.INSTANCE
+                        MethodValueResolver.INSTANCE
                 ).build();
+    }
 
-        return template.apply(context);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearCache() {
+        handlebars.getCache().clear();
     }
 
     /**
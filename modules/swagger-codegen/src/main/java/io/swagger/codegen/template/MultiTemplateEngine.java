@@ -4,6 +4,7 @@ import io.swagger.codegen.CodegenConfig;
 import org.apache.commons.io.FilenameUtils;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -45,14 +46,15 @@ public class MultiTemplateEngine extends AbstractTemplateEngine {
      */
     @Override
     public String renderTemplate(String name, Map<String, Object> data) throws IOException {
-        final TemplatePath template = findTemplateFile(name);
-        final String extension = FilenameUtils.getExtension(template.getPath());
-
-        if (templateEngines.containsKey(extension)) {
-            return templateEngines.get(extension).renderTemplate(name, data);
-        }
+        return selectEngine(name).renderTemplate(name, data);
+    }
 
-        return exactCopyTemplateEngine.renderTemplate(name, data);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void renderTemplate(String name, Map<String, Object> data, Writer writer) throws IOException {
+        selectEngine(name).renderTemplate(name, data, writer);
     }
 
     /**
@@ -63,6 +65,28 @@ public class MultiTemplateEngine extends AbstractTemplateEngine {
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearCache() {
+        for (TemplateEngine engine : templateEngines.values()) {
+            engine.clearCache();
+        }
+        exactCopyTemplateEngine.clearCache();
+    }
+
+    private TemplateEngine selectEngine(String name) throws IOException {
+        final TemplatePath template = findTemplateFile(name);
+        final String extension = FilenameUtils.getExtension(template.getPath());
+
+        if (templateEngines.containsKey(extension)) {
+            return templateEngines.get(extension);
+        }
+
+        return exactCopyTemplateEngine;
+    }
+
     /**
      * Register an additional template engine for files with the engines predefined file extension (as determined by {@link TemplateEngine#getFileExtension()}).
      *
@@ -1,28 +1,25 @@
 package io.swagger.codegen.template;
 
-import com.github.jknack.handlebars.*;
-import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
-import com.github.jknack.handlebars.context.FieldValueResolver;
-import com.github.jknack.handlebars.context.JavaBeanValueResolver;
-import com.github.jknack.handlebars.context.MapValueResolver;
-import com.github.jknack.handlebars.context.MethodValueResolver;
-import com.github.jknack.handlebars.io.FileTemplateLoader;
 import com.samskivert.mustache.*;
 import com.samskivert.mustache.Template;
 import io.swagger.codegen.CodegenConfig;
-import org.apache.commons.io.Charsets;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.Reader;
-import java.nio.charset.Charset;
+import java.io.StringReader;
+import java.io.Writer;
 import java.util.Map;
-
-import static com.google.common.base.Objects.equal;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A template engine using {@code mustache.js} syntax.
  *
+ * <p>Compiled templates are cached per engine instance, keyed by their resolved {@link TemplatePath}. Partials are compiled
+ * together with the template including them, and their source is cached as well. Since a new engine is created for every
+ * generator run, changes to custom templates are picked up by the next run. Use {@link #clearCache()} to discard the cache
+ * earlier.
+ *
  * @author Simon Marti
  */
 public class MustacheTemplateEngine extends AbstractTemplateEngine {
@@ -30,6 +27,8 @@ public class MustacheTemplateEngine extends AbstractTemplateEngine {
     static final String MUSTACHE_EXTENSION = "mustache";
 
     private final Mustache.Compiler compiler;
+    private final ConcurrentMap<TemplatePath, Template> compiledTemplates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TemplatePath, String> partialSources = new ConcurrentHashMap<>();
 
     /**
      * Creates a new instance with the given {@code config}.
@@ -48,8 +47,45 @@ public class MustacheTemplateEngine extends AbstractTemplateEngine {
      */
     @Override
     public String renderTemplate(String name, Map<String, Object> data) throws IOException {
-        final Template compiledTemplate = compiler.compile(findTemplateFile(name).getReader());
-        return compiledTemplate.execute(data);
+        return compileTemplate(findTemplateFile(name)).execute(data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void renderTemplate(String name, Map<String, Object> data, Writer writer) throws IOException {
+        compileTemplate(findTemplateFile(name)).execute(data, writer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearCache() {
+        compiledTemplates.clear();
+        partialSources.clear();
+    }
+
+    /**
+     * Returns the compiled template for the given path, compiling it on first use.
+     *
+     * @param templatePath the resolved template file
+     * @return the compiled template
+     * @throws IOException if the template file cannot be read
+     */
+    protected Template compileTemplate(TemplatePath templatePath) throws IOException {
+        Template compiledTemplate = compiledTemplates.get(templatePath);
+        if (compiledTemplate == null) {
+            try (Reader reader = templatePath.getReader()) {
+                compiledTemplate = compiler.compile(reader);
+            }
+            final Template existing = compiledTemplates.putIfAbsent(templatePath, compiledTemplate);
+            if (existing != null) {
+                compiledTemplate = existing;
+            }
+        }
+        return compiledTemplate;
     }
 
     /**
@@ -66,7 +102,13 @@ public class MustacheTemplateEngine extends AbstractTemplateEngine {
     private class TemplateLoader implements Mustache.TemplateLoader {
         @Override
         public Reader getTemplate(String name) throws Exception {
-            return findTemplateFile(name).getReader();
+            final TemplatePath templatePath = findTemplateFile(name);
+            String source = partialSources.get(templatePath);
+            if (source == null) {
+                source = readTemplate(templatePath);
+                partialSources.putIfAbsent(templatePath, source);
+            }
+            return new StringReader(source);
         }
     }
 
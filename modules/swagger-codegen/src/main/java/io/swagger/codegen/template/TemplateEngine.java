@@ -1,6 +1,7 @@
 package io.swagger.codegen.template;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 
 /**
@@ -19,10 +20,35 @@ public interface TemplateEngine {
      */
     String renderTemplate(String name, Map<String, Object> data) throws IOException;
 
+    /**
+     * Processes the provided document like {@link #renderTemplate(String, Map)}, but writes the result to {@code writer}
+     * instead of returning it, so that large documents do not have to be held in memory.
+     *
+     * <p>The default implementation renders the complete document and writes it in one go. Engines able to render
+     * incrementally should override this method.
+     *
+     * @param name the template basename
+     * @param data the data available to the template
+     * @param writer the writer receiving the processed template text. It is not closed by this method.
+     * @throws IOException if the template does not exist or writing fails
+     */
+    default void renderTemplate(String name, Map<String, Object> data, Writer writer) throws IOException {
+        writer.write(renderTemplate(name, data));
+    }
+
     /**
      * Provides a default file extension for this {@link TemplateEngine}.
      *
      * @return the default file extension. May be {@code null} if this {@link TemplateEngine} works with any text file.
      */
     String getFileExtension();
+
+    /**
+     * Discards any compiled templates held by this {@link TemplateEngine}, so that subsequent calls to
+     * {@link #renderTemplate(String, Map)} read the template files again.
+     *
+     * <p>Engines without a cache do not need to override this method.
+     */
+    default void clearCache() {
+    }
 }
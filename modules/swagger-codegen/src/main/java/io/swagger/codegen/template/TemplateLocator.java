@@ -13,6 +13,9 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import static io.swagger.codegen.template.MustacheTemplateEngine.MUSTACHE_EXTENSION;
@@ -21,6 +24,9 @@ import static java.util.Arrays.asList;
 /**
  * Locates template files in configurable locations.
  *
+ * <p>Resolved templates are memoized per instance, keyed by the template and library folders of the configuration and the
+ * requested name. Lookups of embedded templates on the classpath are memoized as well, including misses.
+ *
  * @see #findTemplateFile(CodegenConfig, String)}
  *
  * @author Simon Marti
@@ -31,6 +37,8 @@ public class TemplateLocator {
     private static final String LEGACY_TEMPLATE_EXTENSION = "." + MUSTACHE_EXTENSION;
 
     private final List<String> templateExtensions = new ArrayList<>();
+    private final ConcurrentMap<List<String>, Optional<TemplatePath>> resolvedTemplates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Optional<URL>> classpathIndex = new ConcurrentHashMap<>();
 
     /**
      * Creates a new instance which locates template files by exact match only.
@@ -70,9 +78,19 @@ public class TemplateLocator {
     public void addTemplateExtension(String extension) {
         if (!templateExtensions.contains(extension)) {
             templateExtensions.add(extension);
+            clearCache();
         }
     }
 
+    /**
+     * Discards all memoized lookups, so that subsequent calls to {@link #findTemplateFile(CodegenConfig, String)} probe the
+     * template folders again.
+     */
+    public void clearCache() {
+        resolvedTemplates.clear();
+        classpathIndex.clear();
+    }
+
     /**
      * Find a template file by name.
      *
@@ -94,6 +112,16 @@ public class TemplateLocator {
             name = name.substring(0, name.length() - LEGACY_TEMPLATE_EXTENSION.length());
         }
 
+        final List<String> key = asList(config.templateDir(), config.embeddedTemplateDir(), config.getCommonTemplateDir(), config.getLibrary(), name);
+        Optional<TemplatePath> templatePath = resolvedTemplates.get(key);
+        if (templatePath == null) {
+            templatePath = Optional.ofNullable(resolveTemplateFile(config, name));
+            resolvedTemplates.putIfAbsent(key, templatePath);
+        }
+        return templatePath.orElse(null);
+    }
+
+    private TemplatePath resolveTemplateFile(CodegenConfig config, String name) {
         // Check the supplied template library folder for the file
         final String library = config.getLibrary();
         if (StringUtils.isNotEmpty(library)) {
@@ -160,7 +188,7 @@ public class TemplateLocator {
         for (String extension : templateExtensions) {
             final String filename = buildFilename(name, extension);
             final String path = getCPResourcePath(folder.resolve(filename).toString());
-            final URL resource = getClass().getClassLoader().getResource(path);
+            final URL resource = findResource(path);
             if (resource != null) {
                 return new TemplatePath.ResourcePath(resource);
             }
@@ -168,6 +196,15 @@ public class TemplateLocator {
         return null;
     }
 
+    private URL findResource(String path) {
+        Optional<URL> resource = classpathIndex.get(path);
+        if (resource == null) {
+            resource = Optional.ofNullable(getClass().getClassLoader().getResource(path));
+            classpathIndex.putIfAbsent(path, resource);
+        }
+        return resource.orElse(null);
+    }
+
     private String buildFilename(String name, String extension) {
         if (extension == null) {
             return name;
@@ -8,6 +8,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Objects;
 
 import static java.nio.file.Files.newInputStream;
 
@@ -65,6 +66,16 @@ public abstract class TemplatePath {
         public String getPath() {
             return path.toString();
         }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FilePath && Objects.equals(path, ((FilePath) o).path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(path);
+        }
     }
 
     /**
@@ -89,5 +100,20 @@ public abstract class TemplatePath {
         public String getPath() {
             return resource.getPath();
         }
+
+        @Override
+        public boolean equals(Object o) {
+            // URL#equals() may resolve host names, so compare the textual representation instead
+            return o instanceof ResourcePath && Objects.equals(externalForm(), ((ResourcePath) o).externalForm());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(externalForm());
+        }
+
+        private String externalForm() {
+            return resource == null ? null : resource.toExternalForm();
+        }
     }
 }
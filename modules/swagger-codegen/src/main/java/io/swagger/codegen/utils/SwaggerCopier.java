@@ -0,0 +1,155 @@
+package io.swagger.codegen.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.models.Swagger;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Copies a {@link Swagger} deeply, so that a generator can modify the copy in place.
+ *
+ * <p>Serializing the spec and parsing it again isn't a faithful copy, as some state of the models isn't part of their
+ * JSON, e.g. which part of a composed model is its parent. Values are therefore copied structurally: maps and
+ * collections element by element, swagger objects field by field, and JSON nodes by {@link JsonNode#deepCopy()}.
+ * Strings, numbers, booleans and enums are shared, as they can't be modified. Objects referenced more than once are
+ * copied once, so the copy references them the same way.
+ *
+ * <p>Copying is much cheaper than parsing the spec again, so a spec parsed once can be generated for several targets.
+ */
+public final class SwaggerCopier {
+
+    private static final ConcurrentMap<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<Class<?>, List<Field>>();
+
+    private final Map<Object, Object> copies = new IdentityHashMap<Object, Object>();
+
+    private SwaggerCopier() {
+    }
+
+    /**
+     * @param swagger the spec to copy
+     * @return a copy which shares no modifiable object with {@code swagger}
+     * @throws IllegalArgumentException if the spec references an object which can't be copied
+     */
+    public static Swagger copy(Swagger swagger) {
+        return (Swagger) new SwaggerCopier().copyValue(swagger);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof Class || isImmutableNumber(value)) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+        if (value instanceof JsonNode) {
+            copy = ((JsonNode) value).deepCopy();
+            copies.put(value, copy);
+        } else if (value instanceof Map) {
+            final Map<Object, Object> map = newMap((Map<Object, Object>) value);
+            copies.put(value, map);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+            }
+            copy = map;
+        } else if (value instanceof Collection) {
+            final Collection<Object> collection = newCollection((Collection<Object>) value);
+            copies.put(value, collection);
+            for (Object element : (Collection<?>) value) {
+                collection.add(copyValue(element));
+            }
+            copy = collection;
+        } else if (value.getClass().getName().startsWith("io.swagger.models.")) {
+            copy = newInstance(value.getClass());
+            copies.put(value, copy);
+            for (Field field : fieldsOf(value.getClass())) {
+                try {
+                    field.set(copy, copyValue(field.get(value)));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot copy field " + field, e);
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("Cannot copy " + value.getClass().getName());
+        }
+        return copy;
+    }
+
+    private static boolean isImmutableNumber(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float
+                || value instanceof Short || value instanceof Byte || value instanceof BigDecimal
+                || value instanceof BigInteger;
+    }
+
+    private static Map<Object, Object> newMap(Map<Object, Object> map) {
+        if (map instanceof SortedMap) {
+            return new TreeMap<Object, Object>(((SortedMap<Object, Object>) map).comparator());
+        } else if (map.getClass() == HashMap.class) {
+            return new HashMap<Object, Object>(map.size() * 2);
+        }
+        return new LinkedHashMap<Object, Object>(map.size() * 2);
+    }
+
+    private static Collection<Object> newCollection(Collection<Object> collection) {
+        if (collection instanceof SortedSet) {
+            return new TreeSet<Object>(((SortedSet<Object>) collection).comparator());
+        } else if (collection.getClass() == HashSet.class) {
+            return new HashSet<Object>(collection.size() * 2);
+        } else if (collection instanceof Set) {
+            return new LinkedHashSet<Object>(collection.size() * 2);
+        }
+        return new ArrayList<Object>(collection.size());
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            final Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Cannot copy " + type.getName() + " without a default constructor", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate " + type.getName(), e);
+        }
+    }
+
+    private static List<Field> fieldsOf(Class<?> type) {
+        List<Field> fields = FIELDS.get(type);
+        if (fields == null) {
+            fields = new ArrayList<Field>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            FIELDS.putIfAbsent(type, fields);
+        }
+        return fields;
+    }
+}
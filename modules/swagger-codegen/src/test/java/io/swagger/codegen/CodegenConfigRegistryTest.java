@@ -0,0 +1,105 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.codegen.languages.PythonClientCodegen;
+import org.testng.annotations.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class CodegenConfigRegistryTest {
+
+    @Test
+    public void testEntriesDescribeConfigs() {
+        final CodegenConfigRegistry.Entry entry = CodegenConfigRegistry.getInstance().getEntry("java");
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+
+        assertEquals(entry.getConfigClass(), JavaClientCodegen.class);
+        assertEquals(entry.getTag(), CodegenType.CLIENT);
+        assertEquals(entry.getHelp(), codegen.getHelp());
+        assertEquals(options(entry.getCliOptions()), options(codegen.cliOptions()));
+        assertNull(CodegenConfigRegistry.getInstance().getEntry("unknown"));
+    }
+
+    @Test
+    public void testCliOptionsAreCopies() {
+        final CodegenConfigRegistry.Entry entry = CodegenConfigRegistry.getInstance().getEntry("java");
+        final CliOption option = entry.getCliOptions().get(0);
+        final String description = option.getDescription();
+
+        option.setDescription("modified");
+        entry.getCliOptions().clear();
+
+        assertEquals(entry.getCliOptions().get(0).getDescription(), description);
+        assertNotSame(entry.getCliOptions().get(0), entry.getCliOptions().get(0));
+    }
+
+    @Test
+    public void testNewInstanceIsNotShared() {
+        final CodegenConfigRegistry registry = new CodegenConfigRegistry(
+                Arrays.<CodegenConfig>asList(new JavaClientCodegen(), new PythonClientCodegen()));
+
+        final CodegenConfig first = registry.newInstance("java");
+        first.additionalProperties().put("modified", true);
+        final CodegenConfig second = registry.newInstance("java");
+
+        assertEquals(second.getClass(), JavaClientCodegen.class);
+        assertNotSame(second, first);
+        assertTrue(!second.additionalProperties().containsKey("modified"));
+        assertNull(registry.newInstance("unknown"));
+    }
+
+    @Test
+    public void testNewInstanceAfterWarmUp() {
+        final CodegenConfigRegistry registry = new CodegenConfigRegistry(
+                Arrays.<CodegenConfig>asList(new JavaClientCodegen(), new PythonClientCodegen()));
+        registry.warmUp();
+
+        final List<CodegenConfig> configs = new ArrayList<CodegenConfig>();
+        for (int i = 0; i < 20; i++) {
+            final CodegenConfig config = registry.newInstance(i % 2 == 0 ? "java" : "python");
+            for (CodegenConfig other : configs) {
+                assertNotSame(config, other);
+            }
+            configs.add(config);
+        }
+        assertEquals(configs.get(0).getClass(), JavaClientCodegen.class);
+        assertEquals(configs.get(1).getClass(), PythonClientCodegen.class);
+    }
+
+    @Test
+    public void testForNameDoesNotBuildTheRegistry() throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        // a class loader without a registry yet
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            thread.setContextClassLoader(classLoader);
+
+            assertEquals(CodegenConfigLoader.forName("java").getClass(), JavaClientCodegen.class);
+            assertNull(CodegenConfigRegistry.getInstanceIfPresent());
+
+            final CodegenConfigRegistry registry = CodegenConfigRegistry.getInstance();
+            assertSame(CodegenConfigRegistry.getInstanceIfPresent(), registry);
+            assertEquals(CodegenConfigLoader.forName("java").getClass(), JavaClientCodegen.class);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static List<String> options(List<CliOption> cliOptions) {
+        final List<String> options = new ArrayList<String>();
+        for (CliOption option : cliOptions) {
+            options.add(option.getOpt());
+        }
+        return options;
+    }
+}
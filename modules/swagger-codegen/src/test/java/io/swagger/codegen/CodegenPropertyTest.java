@@ -0,0 +1,41 @@
+package io.swagger.codegen;
+
+import io.swagger.util.Json;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+public class CodegenPropertyTest {
+
+    @Test
+    public void testComparingDoesNotSerializeJsonSchema() {
+        final CountingSource source = new CountingSource();
+        final CodegenProperty property = new CodegenProperty();
+        property.setJsonSchemaSource(source);
+        final CodegenProperty same = property.clone();
+
+        assertEquals(same, property);
+        assertEquals(same.hashCode(), property.hashCode());
+        assertEquals(source.serialized.get(), 0);
+
+        final CodegenProperty other = new CodegenProperty();
+        other.setJsonSchemaSource(new CountingSource());
+        assertNotEquals(other, property);
+        assertEquals(source.serialized.get(), 0);
+
+        assertEquals(property.getJsonSchema(), Json.pretty(new CountingSource()));
+        assertEquals(source.serialized.get(), 1);
+    }
+
+    public static class CountingSource {
+        final AtomicInteger serialized = new AtomicInteger();
+
+        public String getValue() {
+            serialized.incrementAndGet();
+            return "value";
+        }
+    }
+}
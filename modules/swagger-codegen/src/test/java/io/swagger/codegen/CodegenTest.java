@@ -1,15 +1,35 @@
 package io.swagger.codegen;
 
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.HttpMethod;
 import io.swagger.models.Model;
 import io.swagger.models.Operation;
+import io.swagger.models.Path;
 import io.swagger.models.Swagger;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.MapProperty;
 import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
 import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeMap;
 
 public class CodegenTest {
 
@@ -431,4 +451,160 @@ public class CodegenTest {
 
         Assert.assertTrue(op.isDeprecated);
     }
+
+    @Test(description = "types resolved during a generation are reused for properties of the same shape")
+    public void typeResolutionCacheTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/petstore.json");
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.processOpts();
+        final JavaClientCodegen cachedCodegen = new JavaClientCodegen();
+        cachedCodegen.processOpts();
+        final TypeResolutionCache cache = new TypeResolutionCache();
+        cachedCodegen.setTypeResolutionCache(cache);
+
+        for (int i = 0; i < 2; i++) {
+            for (Map.Entry<String, Model> definition : model.getDefinitions().entrySet()) {
+                final CodegenModel expected = codegen.fromModel(definition.getKey(), definition.getValue(), model.getDefinitions());
+                final CodegenModel actual = cachedCodegen.fromModel(definition.getKey(), definition.getValue(), model.getDefinitions());
+                Assert.assertEquals(actual.vars.size(), expected.vars.size());
+                for (int v = 0; v < expected.vars.size(); v++) {
+                    Assert.assertEquals(actual.vars.get(v).datatype, expected.vars.get(v).datatype);
+                    Assert.assertEquals(actual.vars.get(v).baseType, expected.vars.get(v).baseType);
+                    Assert.assertEquals(actual.vars.get(v).complexType, expected.vars.get(v).complexType);
+                }
+                Assert.assertEquals(actual.imports, expected.imports);
+            }
+        }
+        Assert.assertTrue(cache.getHitCount() > 0);
+
+        // the shape of the items and references tell the properties apart
+        Assert.assertEquals(cachedCodegen.resolveTypeDeclaration(new ArrayProperty(new StringProperty())), "List<String>");
+        Assert.assertEquals(cachedCodegen.resolveTypeDeclaration(new ArrayProperty(new IntegerProperty())), "List<Integer>");
+        Assert.assertEquals(cachedCodegen.resolveTypeDeclaration(new MapProperty(new RefProperty("Pet"))), "Map<String, Pet>");
+        Assert.assertEquals(cachedCodegen.resolveTypeDeclaration(new MapProperty(new RefProperty("Tag"))), "Map<String, Tag>");
+
+        // outside of a generation every type is resolved
+        cachedCodegen.setTypeResolutionCache(null);
+        Assert.assertEquals(cachedCodegen.resolveTypeDeclaration(new ArrayProperty(new StringProperty())), "List<String>");
+    }
+
+    @DataProvider(name = "languages")
+    public static Object[][] languages() {
+        final List<Object[]> languages = new ArrayList<Object[]>();
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class)) {
+            languages.add(new Object[]{config.getName()});
+        }
+        return languages.toArray(new Object[languages.size()][]);
+    }
+
+    @Test(dataProvider = "languages",
+            description = "the type methods of each bundled language only depend on the shape of a property, which the cache assumes")
+    public void typeResolutionCacheMatchesResolvedTypesTest(String language) throws Exception {
+        final String spec = "src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml";
+        final File outputFolder = Files.createTempDirectory("type-resolution").toFile();
+        try {
+            final String expected = describeTypes(language, parseAndPrepareSwagger(spec), outputFolder, false);
+            final String actual = describeTypes(language, parseAndPrepareSwagger(spec), outputFolder, true);
+            Assert.assertEquals(actual, expected);
+        } finally {
+            FileUtils.deleteQuietly(outputFolder);
+        }
+    }
+
+    /**
+     * Resolves the types of all models and operations of the spec, sharing one cache for the whole spec like a
+     * generation does, unless the language turns it off.
+     */
+    private static String describeTypes(String language, Swagger swagger, File outputFolder, boolean cached) {
+        final CodegenConfig config = CodegenConfigLoader.forName(language);
+        config.setOutputDir(outputFolder.getAbsolutePath());
+        final StringBuilder types = new StringBuilder();
+        try {
+            config.processOpts();
+            config.setTypeResolutionCache(cached && config.isTypeResolutionCacheEnabled() ? new TypeResolutionCache() : null);
+            final Map<String, Model> definitions = swagger.getDefinitions();
+            for (String name : new TreeMap<String, Model>(definitions).keySet()) {
+                final CodegenModel model = config.fromModel(name, definitions.get(name), definitions);
+                types.append("model ").append(name).append(" parent=").append(model.parent).append('\n');
+                for (CodegenProperty property : model.vars) {
+                    describe(types, property);
+                }
+            }
+            for (String path : new TreeMap<String, Path>(swagger.getPaths()).keySet()) {
+                for (Map.Entry<HttpMethod, Operation> entry : swagger.getPaths().get(path).getOperationMap().entrySet()) {
+                    final CodegenOperation operation = config.fromOperation(path,
+                            entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue(), definitions, swagger);
+                    types.append("operation ").append(entry.getKey()).append(' ').append(path)
+                            .append(" returns ").append(operation.returnType).append(' ').append(operation.returnBaseType)
+                            .append(' ').append(operation.returnContainer).append('\n');
+                    for (CodegenParameter parameter : operation.allParams) {
+                        types.append("  parameter ").append(parameter.paramName).append(' ').append(parameter.dataType)
+                                .append(' ').append(parameter.baseType).append('\n');
+                        if (parameter.items != null) {
+                            describe(types, parameter.items);
+                        }
+                    }
+                    for (CodegenResponse response : operation.responses) {
+                        types.append("  response ").append(response.code).append(' ').append(response.dataType)
+                                .append(' ').append(response.baseType).append('\n');
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // languages which can't handle the spec must fail alike
+            types.append("failed: ").append(e);
+        } finally {
+            config.setTypeResolutionCache(null);
+        }
+        return types.toString();
+    }
+
+    private static void describe(StringBuilder types, CodegenProperty property) {
+        types.append("  property ").append(property.baseName).append(' ').append(property.datatype)
+                .append(' ').append(property.datatypeWithEnum).append(' ').append(property.baseType)
+                .append(' ').append(property.complexType).append(' ').append(property.containerType).append('\n');
+        if (property.items != null) {
+            describe(types, property.items);
+        }
+    }
+
+    @Test(description = "properties inherited by composed models are converted once and copied to each model")
+    public void inheritedPropertiesTest() {
+        final Swagger model = parseAndPrepareSwagger("src/test/resources/2_0/allOfTest.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.supportsInheritance = true;
+        final DefaultCodegen cachedCodegen = new DefaultCodegen();
+        cachedCodegen.supportsInheritance = true;
+        final TypeResolutionCache cache = new TypeResolutionCache();
+        cachedCodegen.setTypeResolutionCache(cache);
+
+        final List<CodegenProperty> converted = new ArrayList<CodegenProperty>();
+        for (Map.Entry<String, Model> definition : model.getDefinitions().entrySet()) {
+            final CodegenModel expected = codegen.fromModel(definition.getKey(), definition.getValue(), model.getDefinitions());
+            final CodegenModel actual = cachedCodegen.fromModel(definition.getKey(), definition.getValue(), model.getDefinitions());
+            assertSameProperties(actual.vars, expected.vars);
+            assertSameProperties(actual.allVars, expected.allVars);
+            assertSameProperties(actual.requiredVars, expected.requiredVars);
+            Assert.assertEquals(actual.hasRequired, expected.hasRequired);
+            converted.addAll(actual.vars);
+            if (actual.allVars != actual.vars) {
+                converted.addAll(actual.allVars);
+            }
+        }
+        Assert.assertTrue(cache.getHitCount() > 0);
+
+        // each model gets its own copy, which it may change
+        final Set<CodegenProperty> distinct = Collections.newSetFromMap(new IdentityHashMap<CodegenProperty, Boolean>());
+        distinct.addAll(converted);
+        Assert.assertEquals(distinct.size(), converted.size());
+    }
+
+    private static void assertSameProperties(List<CodegenProperty> actual, List<CodegenProperty> expected) {
+        Assert.assertEquals(actual, expected);
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(actual.get(i).required, expected.get(i).required);
+            Assert.assertEquals(actual.get(i).hasMore, expected.get(i).hasMore);
+            Assert.assertEquals(actual.get(i).hasMoreNonReadOnly, expected.get(i).hasMoreNonReadOnly);
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ComparingFileOutputStreamTest {
+
+    private static final FileTime OLD = FileTime.fromMillis(1000000000000L);
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testEqualContentIsNotWritten() throws Exception {
+        final File file = existingFile("hello world");
+        assertFalse(write(file, "hello ", "world"));
+        assertEquals(Files.getLastModifiedTime(file.toPath()), OLD);
+    }
+
+    @Test
+    public void testNewFile() throws Exception {
+        final File file = new File(folder.getRoot(), "new.txt");
+        assertTrue(write(file, "hello"));
+        assertEquals(FileUtils.readFileToString(file, UTF_8), "hello");
+    }
+
+    @Test
+    public void testChangedContent() throws Exception {
+        final File file = existingFile("hello world");
+        assertTrue(write(file, "hello ", "there"));
+        assertEquals(FileUtils.readFileToString(file, UTF_8), "hello there");
+    }
+
+    @Test
+    public void testLongerContent() throws Exception {
+        final File file = existingFile("hello");
+        assertTrue(write(file, "hello", " world"));
+        assertEquals(FileUtils.readFileToString(file, UTF_8), "hello world");
+    }
+
+    @Test
+    public void testShorterContent() throws Exception {
+        final File file = existingFile("hello world");
+        assertTrue(write(file, "hello"));
+        assertEquals(FileUtils.readFileToString(file, UTF_8), "hello");
+    }
+
+    @Test
+    public void testUncommittedContentLeavesFileUntouched() throws Exception {
+        final File file = existingFile("hello world");
+        final ComparingFileOutputStream stream = new ComparingFileOutputStream(file.toPath());
+        try {
+            stream.write("hello there".getBytes(UTF_8));
+            stream.close();
+        } finally {
+            assertTrue(stream.discard());
+        }
+        assertEquals(FileUtils.readFileToString(file, UTF_8), "hello world");
+        assertEquals(Files.getLastModifiedTime(file.toPath()), OLD);
+        assertEquals(folder.getRoot().list(), new String[]{"existing.txt"});
+    }
+
+    @Test
+    public void testUncommittedNewFileIsNotCreated() throws Exception {
+        final File file = new File(folder.getRoot(), "new.txt");
+        final ComparingFileOutputStream stream = new ComparingFileOutputStream(file.toPath());
+        try {
+            stream.write("hello".getBytes(UTF_8));
+            stream.close();
+        } finally {
+            assertTrue(stream.discard());
+        }
+        assertFalse(file.exists());
+        assertEquals(folder.getRoot().list().length, 0);
+    }
+
+    private File existingFile(String content) throws IOException {
+        final File file = new File(folder.getRoot(), "existing.txt");
+        FileUtils.writeStringToFile(file, content, UTF_8);
+        Files.setLastModifiedTime(file.toPath(), OLD);
+        return file;
+    }
+
+    private boolean write(File file, String... chunks) throws IOException {
+        final ComparingFileOutputStream stream = new ComparingFileOutputStream(file.toPath());
+        try {
+            for (String chunk : chunks) {
+                stream.write(chunk.getBytes(UTF_8));
+            }
+            stream.close();
+            stream.commit();
+        } finally {
+            assertTrue(stream.discard());
+        }
+        return stream.isModified();
+    }
+}
@@ -0,0 +1,231 @@
+package io.swagger.codegen;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Compares the naming utilities of {@link DefaultCodegen} with their previous, uncached implementations, which are kept
+ * below as reference.
+ */
+public class DefaultCodegenNamingTest {
+
+    private static final List<String> NAMES = Arrays.asList("", "_", "__", "-", "$", "$$", ".", "/", " ", "[]", "[[]]",
+            "input[]", "input[a][b]", "input(a)(b)", "input.name", "input-name", "input name and age", "$php_variable",
+            "123abc", "1", "_123", "abc_", "ABC", "AbcDef", "abcDef", "ABCDef", "ABCdef", "abc_def", "abc__def",
+            "_abc_def", "abc_DEF", "abc-def", "abc--def", "-abc-def", "abc-DEF", "abc def", "io.swagger.model.Pet",
+            "io/swagger/model/pet", "Outer$Inner", "a$b_c", "some-$dollar", "some_$dollar", "pet.Pet$", "x_1_2",
+            "x-1-2", "userId", "UserID", "HTTPResponseCode", "getHTTPResponse", "ns:name", "a\tb", "a\nb", "\n1",
+            "1\n", "ünïcödé", "名前", "Über_größe", "naïve-café", "emoji😀name", "snake_case_with_numbers_123",
+            "application/json", "text/plain; charset=utf-8", "x-rate-limit", "+1", "-1", "3.14", "a..b", "a//b");
+
+    private static final String ALPHABET = "aAbBzZ09_-$./ []()\t\n:;+é名";
+
+    @Test
+    public void testCamelizeMatchesReference() {
+        for (String name : inputs()) {
+            assertEquals(camelizeOutcome(name, false), legacyCamelizeOutcome(name, false), name);
+            assertEquals(camelizeOutcome(name, true), legacyCamelizeOutcome(name, true), name);
+            // the second call is served from the cache
+            assertEquals(camelizeOutcome(name, true), legacyCamelizeOutcome(name, true), name);
+        }
+    }
+
+    @Test
+    public void testUnderscoreMatchesReference() {
+        for (String name : inputs()) {
+            assertEquals(DefaultCodegen.underscore(name), referenceUnderscore(name), name);
+            assertEquals(DefaultCodegen.underscore(name), referenceUnderscore(name), name);
+        }
+    }
+
+    @Test
+    public void testDashizeMatchesReference() {
+        for (String name : inputs()) {
+            assertEquals(new DefaultCodegen().dashize(name), referenceUnderscore(name).replaceAll("[_ ]", "-"), name);
+        }
+    }
+
+    @Test
+    public void testSanitizeNameMatchesReference() {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final DefaultCodegen unicodeCodegen = new DefaultCodegen();
+        unicodeCodegen.additionalProperties().put(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS, true);
+        unicodeCodegen.processOpts();
+        for (String name : inputs()) {
+            assertEquals(codegen.sanitizeName(name), referenceSanitizeName(name, false), name);
+            assertEquals(unicodeCodegen.sanitizeName(name), referenceSanitizeName(name, true), name);
+            assertEquals(codegen.sanitizeName(name), referenceSanitizeName(name, false), name);
+        }
+        assertEquals(codegen.sanitizeName(null), "ERROR_UNKNOWN");
+    }
+
+    @Test
+    public void testSanitizeTagMatchesReference() {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        for (String name : inputs()) {
+            assertEquals(codegen.sanitizeTag(name), referenceSanitizeTag(codegen, name), name);
+        }
+    }
+
+    @Test
+    public void testToEnumVarNameMatchesReference() {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        for (String name : inputs()) {
+            assertEquals(codegen.toEnumVarName(name, "String"), referenceToEnumVarName(name), name);
+            assertEquals(codegen.toEnumVarName(name, "String"), referenceToEnumVarName(name), name);
+        }
+    }
+
+    private static List<String> inputs() {
+        final List<String> inputs = new ArrayList<>(NAMES);
+        final Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            inputs.add(sb.toString());
+        }
+        return inputs;
+    }
+
+    /**
+     * Some inputs, e.g. containing {@code $}, make camelize fail. The new implementation has to fail the same way.
+     */
+    private static String camelizeOutcome(String word, boolean lowercaseFirstLetter) {
+        try {
+            return DefaultCodegen.camelize(word, lowercaseFirstLetter);
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static String legacyCamelizeOutcome(String word, boolean lowercaseFirstLetter) {
+        try {
+            return legacyCamelize(word, lowercaseFirstLetter);
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static String legacyCamelize(String word, boolean lowercaseFirstLetter) {
+        Pattern p = Pattern.compile("\\/(.?)");
+        Matcher m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/);
+            m = p.matcher(word);
+        }
+
+        String[] parts = word.split("\\.");
+        StringBuilder f = new StringBuilder();
+        for (String z : parts) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1));
+            m = p.matcher(word);
+        }
+
+        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+        m = p.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+
+        p = Pattern.compile("(_)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            String original = m.group(2);
+            String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                word = word.replaceFirst("_", "");
+            } else {
+                word = m.replaceFirst(upperCase);
+            }
+            m = p.matcher(word);
+        }
+
+        p = Pattern.compile("(-)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = p.matcher(word);
+        }
+
+        if (lowercaseFirstLetter && word.length() > 0) {
+            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        }
+
+        return word;
+    }
+
+    private static String referenceUnderscore(String word) {
+        String firstPattern = "([A-Z]+)([A-Z][a-z])";
+        String secondPattern = "([a-z\\d])([A-Z])";
+        String replacementPattern = "$1_$2";
+        word = word.replaceAll("\\.", "/");
+        word = word.replaceAll("\\$", "__");
+        word = word.replaceAll(firstPattern, replacementPattern);
+        word = word.replaceAll(secondPattern, replacementPattern);
+        word = word.replace('-', '_');
+        word = word.replace(' ', '_');
+        word = word.toLowerCase();
+        return word;
+    }
+
+    private static String referenceSanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        if ("$".equals(name)) {
+            return "value";
+        }
+        name = name.replaceAll("\\[\\]", "");
+        name = name.replaceAll("\\[", "_");
+        name = name.replaceAll("\\]", "");
+        name = name.replaceAll("\\(", "_");
+        name = name.replaceAll("\\)", "");
+        name = name.replaceAll("\\.", "_");
+        name = name.replaceAll("-", "_");
+        name = name.replaceAll(" ", "_");
+        if (allowUnicodeIdentifiers) {
+            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
+        } else {
+            name = name.replaceAll("\\W", "");
+        }
+        return name;
+    }
+
+    private static String referenceSanitizeTag(DefaultCodegen codegen, String tag) {
+        tag = DefaultCodegen.camelize(referenceSanitizeName(tag, false));
+        if (tag.matches("^\\d.*")) {
+            tag = "Class" + tag;
+        }
+        return tag;
+    }
+
+    private static String referenceToEnumVarName(String value) {
+        if (value.length() == 0) {
+            return "EMPTY";
+        }
+        String var = value.replaceAll("\\W+", "_").toUpperCase();
+        if (var.matches("\\d.*")) {
+            return "_" + var;
+        } else {
+            return var;
+        }
+    }
+}
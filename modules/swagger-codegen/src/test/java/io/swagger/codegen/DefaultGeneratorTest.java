@@ -1,9 +1,21 @@
 package io.swagger.codegen;
 
+import io.swagger.codegen.languages.AkkaScalaClientCodegen;
 import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.codegen.manifest.GenerationManifest;
+import io.swagger.models.ComposedModel;
 import io.swagger.models.ExternalDocs;
+import io.swagger.models.Info;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.RefModel;
+import io.swagger.models.Response;
 import io.swagger.models.Swagger;
 import io.swagger.models.Tag;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.LongProperty;
+import io.swagger.models.properties.StringProperty;
 import io.swagger.parser.SwaggerParser;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -16,7 +28,14 @@ import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.swagger.codegen.CodegenConstants.TEMPLATE_DIR;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -256,6 +275,414 @@ public class DefaultGeneratorTest {
         assertTrue(containsOverloadedComments(apiClient, LIBRARY_COMMENT));
     }
 
+    @Test
+    public void testParallelRenderingMatchesSequential() throws Exception {
+        final File sequentialOutput = folder.newFolder("sequential");
+        final File parallelOutput = folder.newFolder("parallel");
+
+        final List<File> sequentialFiles = generatePetstore(sequentialOutput, "1");
+        final List<File> parallelFiles = generatePetstore(parallelOutput, "4");
+
+        assertSameOutput(sequentialOutput, sequentialFiles, parallelOutput, parallelFiles);
+    }
+
+    @Test
+    public void testParallelRenderingKeepsAdditionalPropertiesOfEachTag() throws Exception {
+        final File sequentialOutput = folder.newFolder("sequential");
+        final File parallelOutput = folder.newFolder("parallel");
+
+        // the akka-scala client puts the non-standard status codes of each tag into the additional properties
+        final List<File> sequentialFiles = generateNonStandardStatusCodes(sequentialOutput, "1");
+        final List<File> parallelFiles = generateNonStandardStatusCodes(parallelOutput, "4");
+
+        assertSameOutput(sequentialOutput, sequentialFiles, parallelOutput, parallelFiles);
+        for (File file : parallelFiles) {
+            if (file.getName().equals("AlphaApi.scala")) {
+                assertEquals(StringUtils.countMatches(FileUtils.readFileToString(file, UTF_8), "addCustomStatusCode"), 2);
+            } else if (file.getName().equals("BetaApi.scala")) {
+                assertEquals(StringUtils.countMatches(FileUtils.readFileToString(file, UTF_8), "addCustomStatusCode"), 1);
+            }
+        }
+    }
+
+    private List<File> generateNonStandardStatusCodes(File output, String threads) {
+        final Swagger swagger = new Swagger().info(new Info().title("Status codes").version("1.0.0"));
+        swagger.path("/alpha", new Path().get(new Operation().operationId("getAlpha").tag("alpha")
+                .response(200, new Response().description("OK"))
+                .response(600, new Response().description("Custom"))
+                .response(601, new Response().description("Custom"))));
+        swagger.path("/beta", new Path().get(new Operation().operationId("getBeta").tag("beta")
+                .response(200, new Response().description("OK"))
+                .response(602, new Response().description("Custom"))));
+
+        CodegenConfig codegenConfig = new AkkaScalaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.THREADS, threads);
+        return generator.opts(clientOptInput).generate();
+    }
+
+    private static void assertSameOutput(File expectedOutput, List<File> expectedFiles, File actualOutput, List<File> actualFiles) throws IOException {
+        assertEquals(actualFiles.size(), expectedFiles.size());
+        for (int i = 0; i < expectedFiles.size(); i++) {
+            final String expectedPath = expectedOutput.toURI().relativize(expectedFiles.get(i).toURI()).getPath();
+            final String actualPath = actualOutput.toURI().relativize(actualFiles.get(i).toURI()).getPath();
+            assertEquals(actualPath, expectedPath);
+            assertEquals(FileUtils.readFileToByteArray(actualFiles.get(i)), FileUtils.readFileToByteArray(expectedFiles.get(i)), actualPath);
+        }
+    }
+
+    @Test
+    public void testConcurrentGenerationsKeepTheirSettings() throws Exception {
+        final int generations = 24;
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<List<String>>> results = new ArrayList<Future<List<String>>>();
+            for (int i = 0; i < generations; i++) {
+                final File output = folder.newFolder("generation" + i);
+                // alternate between generating only one model and only one api
+                final GeneratorSettings settings = i % 2 == 0
+                        ? new GeneratorSettings().set(CodegenConstants.MODELS, "Pet")
+                                .set(CodegenConstants.MODEL_TESTS, "false").set(CodegenConstants.MODEL_DOCS, "false")
+                        : new GeneratorSettings().set(CodegenConstants.APIS, "Store")
+                                .set(CodegenConstants.API_TESTS, "false").set(CodegenConstants.API_DOCS, "false");
+                results.add(executor.submit(() -> {
+                    final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+                    final CodegenConfig codegenConfig = new JavaClientCodegen();
+                    codegenConfig.setOutputDir(output.getAbsolutePath());
+                    final ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger)
+                            .config(codegenConfig).settings(settings);
+                    start.await();
+                    final List<String> paths = new ArrayList<String>();
+                    for (File file : new DefaultGenerator().opts(clientOptInput).generate()) {
+                        paths.add(output.toURI().relativize(file.toURI()).getPath());
+                    }
+                    return paths;
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < generations; i++) {
+                assertEquals(results.get(i).get(), Collections.singletonList(i % 2 == 0
+                        ? "src/main/java/io/swagger/client/model/Pet.java"
+                        : "src/main/java/io/swagger/client/api/StoreApi.java"), "generation " + i);
+            }
+            assertNull(System.getProperty(CodegenConstants.MODELS));
+            assertNull(System.getProperty(CodegenConstants.APIS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<File> generatePetstore(File output, String threads) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.THREADS, threads);
+        return generator.opts(clientOptInput).generate();
+    }
+
+    @Test
+    public void testOutputSinkReplacesFileSystem() throws Exception {
+        final File fileSystemOutput = folder.newFolder("fileSystem");
+        final File sinkOutput = new File(folder.getRoot(), "sink");
+        final List<File> expectedFiles = generatePetstore(fileSystemOutput, "4");
+
+        final Map<String, String> sinkFiles = new ConcurrentHashMap<String, String>();
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(sinkOutput.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.THREADS, "4");
+        generator.setOutputSink((file, contents) -> {
+            final StringWriter writer = new StringWriter();
+            contents.writeTo(writer);
+            sinkFiles.put(sinkOutput.toURI().relativize(file.toURI()).getPath(), writer.toString());
+        });
+        final List<File> files = generator.opts(clientOptInput).generate();
+
+        assertFalse(sinkOutput.exists());
+        assertEquals(files.size(), expectedFiles.size());
+        assertEquals(sinkFiles.size(), expectedFiles.size());
+        for (File expectedFile : expectedFiles) {
+            final String path = fileSystemOutput.toURI().relativize(expectedFile.toURI()).getPath();
+            assertEquals(sinkFiles.get(path), FileUtils.readFileToString(expectedFile, UTF_8), path);
+        }
+    }
+
+    @Test
+    public void testIncrementalGeneration() throws Exception {
+        final File output = folder.getRoot();
+        final File orderFile = new File(output, MODEL_ORDER_FILE);
+        final File petFile = new File(output, "/src/main/java/io/swagger/client/model/Pet.java");
+
+        generateIncrementally(output, new SwaggerParser().read("src/test/resources/petstore.json"));
+        assertTrue(new File(output, GenerationManifest.MANIFEST_FILE).exists());
+        final FileTime petModified = Files.getLastModifiedTime(petFile.toPath());
+        final FileTime pomModified = Files.getLastModifiedTime(new File(output, POM_FILE).toPath());
+
+        // inputs changed for Order only, and the generated ApiClient was edited manually
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        swagger.getDefinitions().get("Order").setDescription("An order, changed");
+        final File apiClientFile = new File(output, API_CLIENT_FILE);
+        final String apiClient = FileUtils.readFileToString(apiClientFile, UTF_8);
+        FileUtils.writeStringToFile(apiClientFile, "edited", UTF_8);
+
+        final List<File> files = generateIncrementally(output, swagger);
+        assertTrue(files.contains(petFile));
+        assertEquals(Files.getLastModifiedTime(petFile.toPath()), petModified);
+        assertEquals(Files.getLastModifiedTime(new File(output, POM_FILE).toPath()), pomModified);
+        assertTrue(FileUtils.readFileToString(orderFile, UTF_8).contains("An order, changed"));
+        assertEquals(FileUtils.readFileToString(apiClientFile, UTF_8), apiClient);
+    }
+
+    private List<File> generateIncrementally(File output, Swagger swagger) {
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.INCREMENTAL, "true");
+        return generator.opts(clientOptInput).generate();
+    }
+
+    @Test
+    public void testSkipUnchangedFiles() throws Exception {
+        final File output = folder.getRoot();
+        final File orderFile = new File(output, MODEL_ORDER_FILE);
+
+        final DefaultGenerator first = new DefaultGenerator();
+        generateSkippingUnchanged(first, output, new SwaggerParser().read("src/test/resources/petstore.json"));
+        assertTrue(first.getWrittenFileCount() > 0);
+        assertEquals(first.getUnchangedFileCount(), 0);
+        // metrics are only recorded on request
+        assertNull(first.getMetrics());
+        final FileTime petModified = Files.getLastModifiedTime(new File(output, "/src/main/java/io/swagger/client/model/Pet.java").toPath());
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        swagger.getDefinitions().get("Order").setDescription("An order, changed");
+        final DefaultGenerator second = new DefaultGenerator();
+        final List<File> files = generateSkippingUnchanged(second, output, swagger);
+
+        assertEquals(Files.getLastModifiedTime(new File(output, "/src/main/java/io/swagger/client/model/Pet.java").toPath()), petModified);
+        assertTrue(FileUtils.readFileToString(orderFile, UTF_8).contains("An order, changed"));
+        // only Order.java changed
+        assertEquals(second.getWrittenFileCount(), 1);
+        assertEquals(second.getUnchangedFileCount(), files.size() - 1);
+    }
+
+    @Test
+    public void testFailingTemplateKeepsExistingFile() throws Exception {
+        final File file = new File(folder.getRoot(), "Existing.java");
+        FileUtils.writeStringToFile(file, "class Existing {}", UTF_8);
+
+        for (boolean skipUnchangedFiles : new boolean[]{false, true}) {
+            final DefaultGenerator generator = new DefaultGenerator();
+            generator.setSkipUnchangedFiles(skipUnchangedFiles);
+            try {
+                generator.writeToFile(file.getPath(), writer -> {
+                    // differs from the existing content, then fails like a template with an error
+                    writer.write("class Existing { int changed; ");
+                    writer.flush();
+                    throw new IllegalStateException("template failed");
+                });
+                fail("Expected the template to fail");
+            } catch (IllegalStateException e) {
+                assertEquals(e.getMessage(), "template failed");
+            }
+
+            assertEquals(FileUtils.readFileToString(file, UTF_8), "class Existing {}");
+            // no temporary file is left behind
+            assertEquals(folder.getRoot().list(), new String[]{"Existing.java"});
+        }
+    }
+
+    @Test
+    public void testMetricsCountFilesAndTimePhases() throws Exception {
+        final File output = folder.getRoot();
+
+        final DefaultGenerator first = new DefaultGenerator();
+        final GenerationMetrics metrics = new GenerationMetrics();
+        final List<File> files = generateSkippingUnchanged(first, output, new SwaggerParser().read("src/test/resources/petstore.json"), metrics);
+        assertSame(first.getMetrics(), metrics);
+
+        assertEquals(metrics.getWrittenFileCount(), files.size());
+        assertEquals(metrics.getUnchangedFileCount(), 0);
+        long bytes = 0;
+        for (File file : files) {
+            bytes += file.length();
+        }
+        assertEquals(metrics.getByteCount(), bytes);
+        int renderedFiles = 0;
+        for (GenerationMetrics.TemplateTiming timing : metrics.getTemplateTimings().values()) {
+            renderedFiles += timing.getCount();
+        }
+        // .swagger-codegen-ignore and .swagger-codegen/VERSION are not rendered from templates
+        assertEquals(renderedFiles, files.size() - 2);
+        assertTrue(metrics.getTemplateTimings().containsKey("model.mustache"));
+        for (GenerationMetrics.Phase phase : Arrays.asList(GenerationMetrics.Phase.FLATTEN, GenerationMetrics.Phase.PROCESS_MODELS,
+                GenerationMetrics.Phase.PROCESS_PATHS, GenerationMetrics.Phase.PROCESS_OPERATIONS, GenerationMetrics.Phase.SUPPORTING_FILES,
+                GenerationMetrics.Phase.RENDER, GenerationMetrics.Phase.WRITE)) {
+            assertTrue(metrics.getNanos(phase) > 0, phase.name());
+            assertTrue(metrics.getNanos(phase) <= metrics.getNanos(GenerationMetrics.Phase.TOTAL), phase.name());
+        }
+        assertTrue(metrics.format(3).contains(files.size() + " files written, 0 unchanged, 0 skipped, " + bytes + " bytes"));
+
+        final DefaultGenerator second = new DefaultGenerator();
+        final List<File> secondFiles = generateSkippingUnchanged(second, output, new SwaggerParser().read("src/test/resources/petstore.json"),
+                new GenerationMetrics());
+        assertEquals(second.getMetrics().getWrittenFileCount(), 0);
+        assertEquals(second.getMetrics().getUnchangedFileCount(), secondFiles.size());
+        // existing api tests are never overwritten
+        assertEquals(second.getMetrics().getSkippedFileCount(), 3);
+    }
+
+    private List<File> generateSkippingUnchanged(DefaultGenerator generator, File output, Swagger swagger) {
+        return generateSkippingUnchanged(generator, output, swagger, null);
+    }
+
+    private List<File> generateSkippingUnchanged(DefaultGenerator generator, File output, Swagger swagger, GenerationMetrics metrics) {
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).metrics(metrics);
+        generator.setGeneratorPropertyDefault(CodegenConstants.SKIP_UNCHANGED_FILES, "true");
+        return generator.opts(clientOptInput).generate();
+    }
+
+    @Test
+    public void testApiBookkeepingIsLinearInTagCount() {
+        final int tagCount = 2000;
+        final AtomicInteger tagReads = new AtomicInteger();
+        final Swagger swagger = new Swagger().info(new Info().title("Tags").version("1.0.0"));
+        final List<Tag> tags = new ArrayList<Tag>() {
+            @Override
+            public Iterator<Tag> iterator() {
+                final Iterator<Tag> iterator = super.iterator();
+                return new Iterator<Tag>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Tag next() {
+                        tagReads.incrementAndGet();
+                        return iterator.next();
+                    }
+                };
+            }
+
+            @Override
+            public Tag get(int index) {
+                tagReads.incrementAndGet();
+                return super.get(index);
+            }
+        };
+        for (int i = 0; i < tagCount; i++) {
+            final String tag = "tag" + i;
+            tags.add(new Tag().name(tag).description("Tag number " + i));
+            final Operation operation = new Operation().operationId("operation" + i).tag(tag)
+                    .response(200, new Response().description("OK"));
+            swagger.path("/resource" + i, new Path().get(operation));
+        }
+        swagger.setTags(tags);
+
+        final List<Object> apis = new ArrayList<Object>();
+        CodegenConfig codegenConfig = new JavaClientCodegen() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+                apis.addAll((List<Object>) ((Map<String, Object>) objs.get("apiInfo")).get("apis"));
+                return super.postProcessSupportingFileData(objs);
+            }
+        };
+        codegenConfig.setOutputDir(folder.getRoot().getAbsolutePath());
+        codegenConfig.apiTemplateFiles().clear();
+        codegenConfig.apiTestTemplateFiles().clear();
+        codegenConfig.apiDocTemplateFiles().clear();
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.APIS, "true");
+        assertEquals(generator.opts(clientOptInput).generate(), Collections.emptyList());
+
+        // searching the tags of the spec for the tag of every operation reads about tagCount * tagCount / 2 tags
+        assertTrue(tagReads.get() <= 2 * tagCount, tagReads + " tags read");
+        // every api but the last one has more
+        assertEquals(apis.size(), tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            assertEquals(((Map<?, ?>) apis.get(i)).get("hasMore"), i < tagCount - 1 ? "true" : null, "api " + i);
+        }
+    }
+
+    @Test
+    public void testModelsAreOrderedByInheritanceDepth() {
+        final Swagger swagger = new Swagger().info(new Info().title("Inheritance").version("1.0.0"));
+        swagger.addDefinition("Puppy", childOf("Dog"));
+        swagger.addDefinition("Dog", childOf("Animal"));
+        swagger.addDefinition("Aardvark", childOf("Animal"));
+        swagger.addDefinition("Animal", new ModelImpl().type("object").property("name", new StringProperty()));
+        swagger.addDefinition("Zoo", new ModelImpl().type("object").property("size", new IntegerProperty()));
+
+        assertEquals(generateModelNames(swagger), Arrays.asList("Animal", "Zoo", "Aardvark", "Dog", "Puppy"));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = ".*cycle: (Cat -> Lion -> Cat|Lion -> Cat -> Lion)")
+    public void testModelInheritanceCycleIsRejected() {
+        final Swagger swagger = new Swagger().info(new Info().title("Inheritance").version("1.0.0"));
+        swagger.addDefinition("Cat", childOf("Lion"));
+        swagger.addDefinition("Lion", childOf("Cat"));
+
+        generateModelNames(swagger);
+    }
+
+    private static ComposedModel childOf(String parent) {
+        return new ComposedModel()
+                .parent(new RefModel(parent))
+                .child(new ModelImpl().type("object").property("id", new LongProperty()));
+    }
+
+    /**
+     * Generates the models of the spec without rendering any file.
+     *
+     * @return the names of the processed models, in the order they were processed
+     */
+    private List<String> generateModelNames(Swagger swagger) {
+        final List<String> modelNames = new ArrayList<String>();
+        CodegenConfig codegenConfig = new JavaClientCodegen() {
+            @Override
+            public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
+                modelNames.addAll(objs.keySet());
+                return super.postProcessAllModels(objs);
+            }
+        };
+        codegenConfig.setOutputDir(folder.getRoot().getAbsolutePath());
+        codegenConfig.modelTemplateFiles().clear();
+        codegenConfig.modelTestTemplateFiles().clear();
+        codegenConfig.modelDocTemplateFiles().clear();
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODELS, "true");
+        generator.opts(clientOptInput);
+
+        assertEquals(generator.generate(), Collections.emptyList());
+        return modelNames;
+    }
+
     @Test
     public void testGenerateUniqueOperationIds() {
         final File output = folder.getRoot();
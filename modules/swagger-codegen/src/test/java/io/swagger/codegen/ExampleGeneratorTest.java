@@ -5,6 +5,8 @@ import io.swagger.models.Model;
 import io.swagger.models.ModelImpl;
 import io.swagger.models.Xml;
 import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.DoubleProperty;
+import io.swagger.models.properties.Property;
 import io.swagger.models.properties.RefProperty;
 import io.swagger.models.properties.StringProperty;
 
@@ -13,6 +15,7 @@ import com.google.common.collect.Sets;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -70,4 +73,37 @@ public class ExampleGeneratorTest {
         Assert.assertEqualsNoOrder(types.toArray(new String[types.size()]),
                 expectedTypes.toArray(new String[expectedTypes.size()]));
     }
+
+    @Test(description = "a generator reused for several operations renders the examples of new generators")
+    public void reusedGeneratorTest() {
+        final List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+        final List<Property> responses = Arrays.asList(new RefProperty("Pair"), new DoubleProperty(),
+                new RefProperty("Node"), new ArrayProperty(new RefProperty("Pair")), new RefProperty("Pair"));
+
+        final ExampleGenerator reused = new ExampleGenerator(models());
+        final Map<String, Model> definitions = models();
+        final List<Object> expected = new ArrayList<Object>();
+        final List<Object> actual = new ArrayList<Object>();
+        for (Property response : responses) {
+            expected.add(new ExampleGenerator(definitions).generate(null, mediaTypes, response));
+            actual.add(reused.generate(null, mediaTypes, response));
+        }
+        expected.add(new ExampleGenerator(definitions).generate(null, mediaTypes, "Node"));
+        actual.add(reused.generate(null, mediaTypes, "Node"));
+
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(reused.generate(null, mediaTypes, new RefProperty("Pair")).get(0).get("example"),
+                reused.generate(null, mediaTypes, "Pair").get(0).get("example"));
+    }
+
+    private static Map<String, Model> models() {
+        final RefProperty ref = new RefProperty("Node");
+        final Model node = new ModelImpl().name("Node").property("weight", new DoubleProperty())
+                .property("parent", ref)
+                .property("children", new ArrayProperty(ref));
+        final Model pair = new ModelImpl().name("Pair").property("first", new RefProperty("Node"))
+                .property("second", new RefProperty("Node"))
+                .property("score", new DoubleProperty());
+        return ImmutableMap.of("Node", node, "Pair", pair);
+    }
 }
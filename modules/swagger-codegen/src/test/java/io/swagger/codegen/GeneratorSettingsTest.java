@@ -0,0 +1,42 @@
+package io.swagger.codegen;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class GeneratorSettingsTest {
+
+    @AfterMethod
+    public void tearDown() {
+        System.clearProperty(CodegenConstants.MODELS);
+    }
+
+    @Test
+    public void testFallsBackToSystemProperty() {
+        final GeneratorSettings settings = new GeneratorSettings();
+        assertFalse(settings.isSet(CodegenConstants.MODELS));
+
+        System.setProperty(CodegenConstants.MODELS, "Pet");
+        assertEquals(settings.get(CodegenConstants.MODELS), "Pet");
+    }
+
+    @Test
+    public void testSetAndDisabledSettingsShadowSystemProperty() {
+        System.setProperty(CodegenConstants.MODELS, "Pet");
+
+        final GeneratorSettings settings = new GeneratorSettings().set(CodegenConstants.MODELS, "Order");
+        assertEquals(settings.get(CodegenConstants.MODELS), "Order");
+
+        settings.disable(CodegenConstants.MODELS);
+        assertNull(settings.get(CodegenConstants.MODELS));
+        assertFalse(settings.isSet(CodegenConstants.MODELS));
+        assertTrue(settings.asMap().isEmpty());
+
+        settings.set(CodegenConstants.MODELS, null);
+        assertEquals(settings.get(CodegenConstants.MODELS), "");
+    }
+}
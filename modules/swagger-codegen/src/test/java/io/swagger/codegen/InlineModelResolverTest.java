@@ -988,5 +988,48 @@ public class InlineModelResolverTest {
         assertTrue(inlineProp instanceof ObjectProperty);
         ObjectProperty op = (ObjectProperty) inlineProp;
         assertNull(op.getProperties());
-    }    
+    }
+
+    @Test
+    public void testUniqueNameSkipsTakenNames() {
+        Swagger swagger = new Swagger();
+        swagger.addDefinition("Order", new ModelImpl());
+        swagger.addDefinition("Order_1", new ModelImpl());
+
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.flatten(swagger);
+
+        assertEquals("Order_2", resolver.uniqueName("Order"));
+        assertEquals("Order_2", resolver.uniqueName("Or-der!"));
+
+        swagger.addDefinition("Order_2", new ModelImpl());
+        assertEquals("Order_3", resolver.uniqueName("Order"));
+        assertEquals("Pet", resolver.uniqueName("Pet"));
+    }
+
+    @Test
+    public void testMatchGeneratedComparesWholeModels() {
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.addGenerated("Named", new ModelImpl().property("id", new LongProperty()).property("name", new StringProperty()));
+
+        // the same property names, but not the same model
+        assertNull(resolver.matchGenerated(new ModelImpl().property("id", new StringProperty()).property("name", new StringProperty())));
+        assertNull(resolver.matchGenerated(new ModelImpl().property("name", new StringProperty()).property("id", new LongProperty())));
+        assertEquals("Named", resolver.matchGenerated(new ModelImpl().property("id", new LongProperty()).property("name", new StringProperty())));
+
+        resolver.addGenerated("Renamed", new ModelImpl().property("id", new LongProperty()).property("name", new StringProperty()));
+        assertEquals("Renamed", resolver.matchGenerated(new ModelImpl().property("id", new LongProperty()).property("name", new StringProperty())));
+    }
+
+    @Test
+    public void testMatchGeneratedByJsonRepresentation() {
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.addGenerated("Identified", new ModelImpl().description("identified").property("id", new UUIDProperty()));
+
+        // different classes, but the same JSON representation
+        StringProperty uuid = new StringProperty();
+        uuid.setFormat("uuid");
+        assertEquals("Identified", resolver.matchGenerated(new ModelImpl().description("identified").property("id", uuid)));
+        assertNull(resolver.matchGenerated(new ModelImpl().description("other").property("id", new UUIDProperty())));
+    }
 }
@@ -0,0 +1,58 @@
+package io.swagger.codegen;
+
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+public class ModificationCountingMapTest {
+
+    @Test
+    public void testReadsAreNotCounted() {
+        final ModificationCountingMap<String, Object> map = new ModificationCountingMap<String, Object>();
+        map.put("a", "1");
+        final long count = map.getModificationCount();
+
+        assertEquals(map.get("a"), "1");
+        assertEquals(map.size(), 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            assertEquals(entry.getValue(), "1");
+        }
+        assertEquals(map.getModificationCount(), count);
+    }
+
+    @Test
+    public void testChangesThroughViewsAreCounted() {
+        final ModificationCountingMap<String, Object> map = new ModificationCountingMap<String, Object>();
+        long count = map.getModificationCount();
+
+        map.putAll(Collections.singletonMap("a", "1"));
+        count = assertChanged(map, count);
+        map.put("a", "1");
+        count = assertChanged(map, count);
+        map.entrySet().iterator().next().setValue("2");
+        assertEquals(map.get("a"), "2");
+        count = assertChanged(map, count);
+        map.putIfAbsent("b", "3");
+        count = assertChanged(map, count);
+        map.keySet().remove("b");
+        count = assertChanged(map, count);
+        final Iterator<Object> values = map.values().iterator();
+        values.next();
+        values.remove();
+        count = assertChanged(map, count);
+        map.put("c", "4");
+        map.clear();
+        assertChanged(map, count);
+        assertEquals(map.size(), 0);
+    }
+
+    private static long assertChanged(ModificationCountingMap<String, Object> map, long count) {
+        assertNotEquals(map.getModificationCount(), count);
+        return map.getModificationCount();
+    }
+}
@@ -0,0 +1,96 @@
+package io.swagger.codegen;
+
+import com.samskivert.mustache.Mustache;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TemplateContextTest {
+
+    @Test
+    public void testLookupOrder() {
+        final Map<String, Object> shared = map("a", "shared", "b", "shared");
+        final Map<String, Object> defaults = map("a", "default", "b", "default", "c", "default");
+        final TemplateContext context = new TemplateContext(shared, defaults);
+        context.put("a", "own");
+
+        assertEquals(context.get("a"), "own");
+        assertEquals(context.get("b"), "shared");
+        assertEquals(context.get("c"), "default");
+        assertNull(context.get("d"));
+        assertTrue(context.containsKey("c"));
+        assertFalse(context.containsKey("d"));
+        assertEquals(context.size(), 3);
+        assertEquals(context, map("a", "own", "b", "shared", "c", "default"));
+    }
+
+    @Test
+    public void testLayersAreNotModified() {
+        final Map<String, Object> shared = map("a", "shared", "b", "shared");
+        final TemplateContext context = new TemplateContext(shared);
+
+        assertEquals(context.put("a", "own"), "shared");
+        assertEquals(context.remove("b"), "shared");
+        assertFalse(context.containsKey("b"));
+        assertEquals(context, map("a", "own"));
+        assertEquals(shared, map("a", "shared", "b", "shared"));
+
+        context.put("b", "own");
+        assertEquals(context.get("b"), "own");
+        context.clear();
+        assertTrue(context.isEmpty());
+        assertEquals(shared, map("a", "shared", "b", "shared"));
+    }
+
+    @Test
+    public void testLayersAreReadThrough() {
+        final Map<String, Object> shared = map("a", "shared");
+        final TemplateContext context = new TemplateContext(shared);
+        shared.put("b", "added later");
+
+        assertEquals(context.get("b"), "added later");
+    }
+
+    @Test
+    public void testEntrySetWritesThrough() {
+        final Map<String, Object> shared = map("a", "shared", "b", "shared");
+        final TemplateContext context = new TemplateContext(shared);
+
+        final Iterator<Map.Entry<String, Object>> entries = context.entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<String, Object> entry = entries.next();
+            if (entry.getKey().equals("a")) {
+                entry.setValue("own");
+            } else {
+                entries.remove();
+            }
+        }
+        assertEquals(context, map("a", "own"));
+        assertEquals(shared, map("a", "shared", "b", "shared"));
+    }
+
+    @Test
+    public void testRenderWithMustache() {
+        final TemplateContext context = new TemplateContext(map("appName", "Petstore", "items", Arrays.asList("x", "y")));
+        context.put("classname", "PetApi");
+
+        final String rendered = Mustache.compiler().compile("{{classname}} of {{appName}}:{{#items}} {{.}}{{/items}}").execute(context);
+        assertEquals(rendered, "PetApi of Petstore: x y");
+    }
+
+    private static Map<String, Object> map(Object... keysAndValues) {
+        final Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+}
@@ -24,6 +24,8 @@ import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("static-method")
@@ -47,24 +49,30 @@ public class CodegenConfiguratorTest {
     @Tested
     CodegenConfigurator configurator;
 
-    @SuppressWarnings("unused")
     @Test
     public void testVerbose() throws Exception {
 
         configurator.setVerbose(true);
 
-        new StrictExpectations(System.class) {{
-            System.setProperty("debugSwagger", "");
-            times = 1;
-            System.setProperty("debugModels", "");
-            times = 1;
-            System.setProperty("debugOperations", "");
-            times = 1;
-            System.setProperty("debugSupportingFiles", "");
-            times = 1;
-        }};
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
 
-        setupAndRunGenericTest(configurator);
+        final Map<String, String> settings = clientOptInput.getSettings().asMap();
+        assertValueInMap(settings, "debugSwagger", "");
+        assertValueInMap(settings, "debugModels", "");
+        assertValueInMap(settings, "debugOperations", "");
+        assertValueInMap(settings, "debugSupportingFiles", "");
+        assertNull(System.getProperty("debugSwagger"));
+        assertNotNull(clientOptInput.getMetrics());
+    }
+
+    @Test
+    public void testMetricsAreRecordedOnRequest() throws Exception {
+
+        assertNull(setupAndRunGenericTest(new CodegenConfigurator()).getMetrics());
+
+        configurator.setRecordMetrics(true);
+
+        assertNotNull(setupAndRunGenericTest(configurator).getMetrics());
     }
 
     @Test
@@ -95,6 +103,35 @@ public class CodegenConfiguratorTest {
         setupAndRunGenericTest(configurator);
     }
 
+    @Test
+    public void testRunSettingsAreNotSetAsSystemProperties() throws Exception {
+
+        configurator.addSystemProperty(CodegenConstants.MODELS, "Pet")
+                .addSystemProperty(CodegenConstants.API_TESTS, "false");
+
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
+
+        assertEquals(clientOptInput.getSettings().get(CodegenConstants.MODELS), "Pet");
+        assertEquals(clientOptInput.getSettings().get(CodegenConstants.API_TESTS), "false");
+        assertNull(System.getProperty(CodegenConstants.MODELS));
+        assertNull(System.getProperty(CodegenConstants.API_TESTS));
+    }
+
+    @Test
+    public void testDisabledSettingHidesSystemProperty() throws Exception {
+
+        System.setProperty(CodegenConstants.MODELS, "Pet");
+        try {
+            configurator.disableSetting(CodegenConstants.MODELS);
+
+            final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
+
+            assertNull(clientOptInput.getSettings().get(CodegenConstants.MODELS));
+        } finally {
+            System.clearProperty(CodegenConstants.MODELS);
+        }
+    }
+
     @Test
     public void testSkipOverwrite() throws Exception {
         CodegenConfigurator configurator1 = new CodegenConfigurator();
@@ -0,0 +1,152 @@
+package io.swagger.codegen.ignore;
+
+import io.swagger.codegen.ignore.rules.DirectoryRule;
+import io.swagger.codegen.ignore.rules.Rule;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class IgnoreRuleMatcherTest {
+
+    private static final List<String> DEFINITIONS = Arrays.asList(
+            "pom.xml",
+            "/build.sh",
+            "/*.md",
+            "*.sh",
+            "README.md",
+            "docs/**",
+            "docs/**/README.md",
+            "docs/*.md",
+            "**/*.java",
+            "**/Api*.java",
+            "**/model/",
+            "src/main/java/io/swagger/client/model/",
+            "src/test/",
+            "**/*.{java,md}",
+            "**/*[0-9]*",
+            "**/improperly\\ escaped.txt",
+            "!docs/UserApi.md",
+            "!README.md",
+            "!**/Pet.java",
+            "!src/main/java/io/swagger/client/model/Order.java",
+            "!model/",
+            "!src/test/java/",
+            "!/build.sh",
+            "!*.sh"
+    );
+
+    private static final List<String> SEGMENTS = Arrays.asList(
+            "docs", "src", "main", "test", "java", "io", "swagger", "client", "model", "api", "Users", "1");
+
+    private static final List<String> NAMES = Arrays.asList(
+            "pom.xml", "build.sh", "README.md", "readme.md", "UserApi.md", "Pet.java", "Order.java", "ApiClient.java",
+            "Some99File.md", "foo.c", "build.gradle", "improperly escaped.txt", "model", "docs");
+
+    @Test
+    public void testMatchesSequentialEvaluation() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            final List<Rule> exclusionRules = new ArrayList<>();
+            final List<Rule> inclusionRules = new ArrayList<>();
+            for (int j = random.nextInt(8); j >= 0; j--) {
+                final Rule rule = Rule.create(DEFINITIONS.get(random.nextInt(DEFINITIONS.size())));
+                if (Boolean.TRUE.equals(rule.getNegated())) {
+                    inclusionRules.add(rule);
+                } else {
+                    exclusionRules.add(rule);
+                }
+            }
+
+            final IgnoreRuleMatcher matcher = new IgnoreRuleMatcher(exclusionRules, inclusionRules);
+            for (int j = 0; j < 50; j++) {
+                final String path = randomPath(random);
+                assertEquals(matcher.allows(path), allowsSequentially(exclusionRules, inclusionRules, path),
+                        path + " with exclusions " + definitions(exclusionRules) + " and inclusions " + definitions(inclusionRules));
+                assertEquals(matcher.allows(path), allowsSequentially(exclusionRules, inclusionRules, path), "memoized " + path);
+            }
+        }
+    }
+
+    @Test
+    public void testNegatedFileWithinExcludedDirectory() {
+        final IgnoreRuleMatcher matcher = new IgnoreRuleMatcher(
+                Arrays.asList(Rule.create("docs/"), Rule.create("**/*.md")),
+                Arrays.asList(Rule.create("!docs/README.md"), Rule.create("!CHANGELOG.md")));
+
+        assertFalse(matcher.allows("docs/README.md"));
+        assertTrue(matcher.allows("CHANGELOG.md"));
+        assertFalse(matcher.allows("src/README.md"));
+        assertTrue(matcher.allows("src/Pet.java"));
+    }
+
+    private static String randomPath(Random random) {
+        final StringBuilder path = new StringBuilder();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            path.append(SEGMENTS.get(random.nextInt(SEGMENTS.size()))).append('/');
+        }
+        return path.append(NAMES.get(random.nextInt(NAMES.size()))).toString();
+    }
+
+    private static List<String> definitions(List<Rule> rules) {
+        final List<String> definitions = new ArrayList<>();
+        for (Rule rule : rules) {
+            definitions.add(rule.getDefinition());
+        }
+        return definitions;
+    }
+
+    /**
+     * Evaluates all rules in order, as {@link CodegenIgnoreProcessor#allowsFile} did before the rules were compiled.
+     */
+    private static boolean allowsSequentially(List<Rule> exclusionRules, List<Rule> inclusionRules, String path) {
+        Boolean directoryExcluded = false;
+        Boolean exclude = false;
+        if (exclusionRules.size() == 0 && inclusionRules.size() == 0) {
+            return true;
+        }
+
+        for (int i = 0; i < exclusionRules.size(); i++) {
+            Rule current = exclusionRules.get(i);
+            Rule.Operation op = current.evaluate(path);
+
+            switch (op) {
+                case EXCLUDE:
+                    exclude = true;
+                    if (current instanceof DirectoryRule) {
+                        directoryExcluded = true;
+                    }
+                    break;
+                case INCLUDE:
+                case NOOP:
+                    break;
+                case EXCLUDE_AND_TERMINATE:
+                    i = exclusionRules.size();
+                    break;
+            }
+        }
+
+        if (exclude) {
+            for (int i = 0; exclude && i < inclusionRules.size(); i++) {
+                Rule current = inclusionRules.get(i);
+                Rule.Operation op = current.evaluate(path);
+
+                if (op.equals(Rule.Operation.INCLUDE)) {
+                    if (current instanceof DirectoryRule && directoryExcluded) {
+                        exclude = false;
+                    } else if (!directoryExcluded) {
+                        exclude = false;
+                    }
+                }
+            }
+        }
+
+        return Boolean.FALSE.equals(exclude);
+    }
+}
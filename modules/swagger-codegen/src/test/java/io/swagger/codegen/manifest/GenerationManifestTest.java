@@ -0,0 +1,112 @@
+package io.swagger.codegen.manifest;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class GenerationManifestTest {
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testUpToDateAfterSave() throws Exception {
+        final File file = writeFile("model/Pet.java", "class Pet {}");
+        final Map<String, Object> data = Collections.<String, Object>singletonMap("name", "Pet");
+
+        final GenerationManifest first = load("run");
+        final String inputHash = first.hashInputs("model.mustache", data);
+        assertFalse(first.isUpToDate(file, inputHash));
+        first.record(file, inputHash);
+        first.save();
+
+        final GenerationManifest second = load("run");
+        assertTrue(second.isUpToDate(file, second.hashInputs("model.mustache", data)));
+        assertFalse(second.isUpToDate(file, second.hashInputs("model.mustache", Collections.<String, Object>singletonMap("name", "Dog"))));
+        assertFalse(second.isUpToDate(file, second.hashInputs("other.mustache", data)));
+
+        final GenerationManifest otherRun = load("other run");
+        assertFalse(otherRun.isUpToDate(file, otherRun.hashInputs("model.mustache", data)));
+    }
+
+    @Test
+    public void testModifiedFileIsNotUpToDate() throws Exception {
+        final File file = writeFile("model/Pet.java", "class Pet {}");
+        final GenerationManifest first = load("run");
+        final String inputHash = first.hashInputs("model.mustache", Collections.<String, Object>emptyMap());
+        first.record(file, inputHash);
+        first.save();
+
+        FileUtils.writeStringToFile(file, "class Pet { int edited; }", UTF_8);
+        assertFalse(load("run").isUpToDate(file, inputHash));
+    }
+
+    @Test
+    public void testStaleFiles() throws Exception {
+        final File pet = writeFile("model/Pet.java", "class Pet {}");
+        final File dog = writeFile("model/Dog.java", "class Dog {}");
+        final File cat = writeFile("model/Cat.java", "class Cat {}");
+        final GenerationManifest first = load("run");
+        for (File file : Arrays.asList(pet, dog, cat)) {
+            first.record(file, "hash");
+        }
+        first.save();
+
+        // Dog is no longer generated, Cat is no longer generated and was removed
+        assertTrue(cat.delete());
+        final GenerationManifest second = load("run");
+        second.record(pet, "hash");
+        assertEquals(second.getStaleFiles(), Collections.singletonList("model/Dog.java"));
+        second.save();
+
+        // stale files which still exist are kept, so they are reported again
+        assertEquals(load("run").getStaleFiles(), Arrays.asList("model/Dog.java", "model/Pet.java"));
+    }
+
+    @Test
+    public void testVolatileKeysAreIgnored() throws Exception {
+        final GenerationManifest manifest = load("run");
+        final Map<String, Object> data = new HashMap<>();
+        data.put("name", "Pet");
+        data.put("generatedDate", "2017-01-01T00:00:00.000Z");
+        final String inputHash = manifest.hashInputs("model.mustache", data);
+
+        data.put("generatedDate", "2017-01-02T00:00:00.000Z");
+        assertEquals(manifest.hashInputs("model.mustache", data), inputHash);
+        data.put("name", "Dog");
+        assertNotEquals(manifest.hashInputs("model.mustache", data), inputHash);
+    }
+
+    private GenerationManifest load(String runFingerprint) {
+        return GenerationManifest.load(folder.getRoot().getAbsolutePath(), runFingerprint);
+    }
+
+    private File writeFile(String path, String content) throws Exception {
+        final File file = new File(folder.getRoot(), path);
+        FileUtils.writeStringToFile(file, content, UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,122 @@
+package io.swagger.codegen.manifest;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+public class InputFingerprintTest {
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testClasspathDirectoryContent() throws Exception {
+        final File templates = folder.newFolder("templates");
+        FileUtils.writeStringToFile(new File(templates, "Lang/model.mustache"), "class {{classname}} {}", UTF_8);
+        final String hash = hashClasspathDirectory(templates, "Lang");
+        assertEquals(hashClasspathDirectory(templates, "Lang"), hash);
+
+        FileUtils.writeStringToFile(new File(templates, "Lang/model.mustache"), "class {{classname}} { }", UTF_8);
+        assertNotEquals(hashClasspathDirectory(templates, "Lang"), hash);
+    }
+
+    @Test
+    public void testClasspathDirectoryContentInJar() throws Exception {
+        final File jar = new File(folder.getRoot(), "templates.jar");
+        writeJar(jar, "class {{classname}} {}");
+        final String hash = hashClasspathDirectory(jar, "Lang");
+        assertEquals(hashClasspathDirectory(jar, "Lang"), hash);
+        assertEquals(hashClasspathDirectory(jar, "Lang/"), hash);
+
+        writeJar(jar, "class {{classname}} { }");
+        assertNotEquals(hashClasspathDirectory(jar, "Lang"), hash);
+    }
+
+    @Test
+    public void testObjectsWithoutToStringAreSerialized() {
+        final CRC32 checksum = new CRC32();
+        final String hash = new InputFingerprint().add(checksum).toHex();
+
+        checksum.update(42);
+        assertNotEquals(new InputFingerprint().add(checksum).toHex(), hash);
+    }
+
+    @Test
+    public void testSharedValues() {
+        final List<String> shared = Arrays.asList("a", "b");
+        final InputFingerprint.SharedValues sharedValues = new InputFingerprint.SharedValues();
+        sharedValues.addAll(Collections.singletonList(shared));
+
+        final Map<String, Object> data = new HashMap<>();
+        data.put("shared", shared);
+        data.put("name", "Pet");
+        final String hash = hash(data, sharedValues);
+        assertEquals(hash(data, sharedValues), hash);
+
+        data.put("name", "Dog");
+        assertNotEquals(hash(data, sharedValues), hash);
+
+        // an equal value registered by another run results in the same hash
+        final List<String> sharedAgain = Arrays.asList("a", "b");
+        final InputFingerprint.SharedValues otherRun = new InputFingerprint.SharedValues();
+        otherRun.addAll(Collections.singletonList(sharedAgain));
+        data.put("shared", sharedAgain);
+        assertEquals(hash(data, otherRun), hash(data, sharedValues));
+        data.put("name", "Pet");
+        assertEquals(hash(data, otherRun), hash);
+
+        final List<String> changed = Arrays.asList("a", "c");
+        final InputFingerprint.SharedValues changedRun = new InputFingerprint.SharedValues();
+        changedRun.addAll(Collections.singletonList(changed));
+        data.put("shared", changed);
+        assertNotEquals(hash(data, changedRun), hash);
+    }
+
+    private static String hash(Map<String, Object> data, InputFingerprint.SharedValues sharedValues) {
+        return new InputFingerprint(Collections.<String>emptySet(), sharedValues).add(data).toHex();
+    }
+
+    private static String hashClasspathDirectory(File classpathEntry, String directory) throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classpathEntry.toURI().toURL()}, null)) {
+            return new InputFingerprint().addClasspathDirectory(classLoader, directory).toHex();
+        }
+    }
+
+    private static void writeJar(File jar, String template) throws Exception {
+        try (JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(jar))) {
+            outputStream.putNextEntry(new JarEntry("Lang/"));
+            outputStream.closeEntry();
+            outputStream.putNextEntry(new JarEntry("Lang/model.mustache"));
+            outputStream.write(template.getBytes(UTF_8));
+            outputStream.closeEntry();
+        }
+    }
+}
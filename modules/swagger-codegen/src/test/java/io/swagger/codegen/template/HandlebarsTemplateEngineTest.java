@@ -0,0 +1,62 @@
+package io.swagger.codegen.template;
+
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.ModelImpl;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+
+public class HandlebarsTemplateEngineTest {
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+    private JavaClientCodegen config;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+        config = new JavaClientCodegen();
+        config.setTemplateDir(folder.getRoot().getAbsolutePath());
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testLazyModelJson() throws Exception {
+        FileUtils.writeStringToFile(new File(folder.getRoot(), "model.hbs"), "{{#model}}{{{modelJson}}}{{/model}}", UTF_8);
+
+        final ModelImpl source = new ModelImpl();
+        source.setType("object");
+        source.setDescription("a model");
+        final CodegenModel model = new CodegenModel();
+        model.setModelJsonSource(source);
+
+        final Map<String, Object> data = Collections.<String, Object>singletonMap("model", model);
+        assertEquals(new HandlebarsTemplateEngine(config).renderTemplate("model", data), Json.pretty(source));
+    }
+
+    @Test
+    public void testRenderToWriter() throws Exception {
+        FileUtils.writeStringToFile(new File(folder.getRoot(), "model.hbs"), "Hello {{name}}", UTF_8);
+
+        final HandlebarsTemplateEngine engine = new HandlebarsTemplateEngine(config);
+        final Map<String, Object> data = Collections.<String, Object>singletonMap("name", "World");
+        final StringWriter writer = new StringWriter();
+        engine.renderTemplate("model", data, writer);
+        assertEquals(writer.toString(), "Hello World");
+    }
+}
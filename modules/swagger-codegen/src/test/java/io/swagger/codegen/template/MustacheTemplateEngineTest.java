@@ -0,0 +1,110 @@
+package io.swagger.codegen.template;
+
+import io.swagger.codegen.CodegenProperty;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.properties.StringProperty;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+
+public class MustacheTemplateEngineTest {
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+    private JavaClientCodegen config;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+        config = new JavaClientCodegen();
+        config.setTemplateDir(folder.getRoot().getAbsolutePath());
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testCompiledTemplatesAreCached() throws Exception {
+        writeTemplate("model.mustache", "Hello {{name}}{{>partial}}");
+        writeTemplate("partial.mustache", "!");
+
+        final MustacheTemplateEngine engine = new MustacheTemplateEngine(config);
+        final Map<String, Object> data = Collections.<String, Object>singletonMap("name", "World");
+        assertEquals(engine.renderTemplate("model.mustache", data), "Hello World!");
+
+        writeTemplate("model.mustache", "Goodbye {{name}}{{>partial}}");
+        writeTemplate("partial.mustache", "?");
+        assertEquals(engine.renderTemplate("model.mustache", data), "Hello World!");
+
+        // a fresh engine, as created for every generator run, picks up the changed templates
+        assertEquals(new MustacheTemplateEngine(config).renderTemplate("model.mustache", data), "Goodbye World?");
+    }
+
+    @Test
+    public void testClearCache() throws Exception {
+        writeTemplate("model.mustache", "{{>partial}}");
+        writeTemplate("partial.mustache", "first");
+
+        final MustacheTemplateEngine engine = new MustacheTemplateEngine(config);
+        assertEquals(engine.renderTemplate("model", Collections.<String, Object>emptyMap()), "first");
+
+        writeTemplate("partial.mustache", "second");
+        engine.clearCache();
+        assertEquals(engine.renderTemplate("model", Collections.<String, Object>emptyMap()), "second");
+    }
+
+    @Test
+    public void testLazyJsonSchema() throws Exception {
+        writeTemplate("property.mustache", "{{#property}}{{{jsonSchema}}}{{/property}}");
+
+        final StringProperty source = new StringProperty();
+        source.setExample("example");
+        final CodegenProperty property = new CodegenProperty();
+        property.setJsonSchemaSource(source);
+
+        final Map<String, Object> data = Collections.<String, Object>singletonMap("property", property);
+        assertEquals(new MustacheTemplateEngine(config).renderTemplate("property", data), Json.pretty(source));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testAssignedJsonSchema() throws Exception {
+        writeTemplate("property.mustache", "{{#property}}{{{jsonSchema}}}{{/property}}");
+
+        final CodegenProperty property = new CodegenProperty();
+        property.setJsonSchemaSource(new StringProperty());
+        property.jsonSchema = "{}";
+
+        final Map<String, Object> data = Collections.<String, Object>singletonMap("property", property);
+        assertEquals(new MustacheTemplateEngine(config).renderTemplate("property", data), "{}");
+    }
+
+    @Test
+    public void testRenderToWriter() throws Exception {
+        writeTemplate("model.mustache", "Hello {{name}}{{>partial}}");
+        writeTemplate("partial.mustache", "!");
+
+        final MustacheTemplateEngine engine = new MustacheTemplateEngine(config);
+        final Map<String, Object> data = Collections.<String, Object>singletonMap("name", "World");
+        final StringWriter writer = new StringWriter();
+        engine.renderTemplate("model", data, writer);
+        assertEquals(writer.toString(), engine.renderTemplate("model", data));
+    }
+
+    private void writeTemplate(String name, String content) throws IOException {
+        FileUtils.writeStringToFile(new File(folder.getRoot(), name), content, UTF_8);
+    }
+}
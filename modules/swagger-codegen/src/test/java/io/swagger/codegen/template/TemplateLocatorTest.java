@@ -0,0 +1,72 @@
+package io.swagger.codegen.template;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.*;
+
+public class TemplateLocatorTest {
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+    private JavaClientCodegen config;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+        config = new JavaClientCodegen();
+        config.setTemplateDir(folder.getRoot().getAbsolutePath());
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testResolutionIsMemoized() throws Exception {
+        final File custom = new File(folder.getRoot(), "custom.mustache");
+        FileUtils.writeStringToFile(custom, "{{custom}}", UTF_8);
+
+        final TemplateLocator locator = new TemplateLocator("mustache");
+        final TemplatePath found = locator.findTemplateFile(config, "custom");
+        assertNotNull(found);
+        assertEquals(found.getPath(), custom.getPath());
+
+        assertTrue(custom.delete());
+        assertEquals(locator.findTemplateFile(config, "custom.mustache"), found);
+
+        locator.clearCache();
+        assertNull(locator.findTemplateFile(config, "custom"));
+    }
+
+    @Test
+    public void testLibraryIsPartOfCacheKey() throws Exception {
+        FileUtils.writeStringToFile(new File(folder.getRoot(), "api.mustache"), "main", UTF_8);
+        FileUtils.writeStringToFile(new File(folder.getRoot(), "libraries/feign/api.mustache"), "feign", UTF_8);
+
+        final TemplateLocator locator = new TemplateLocator("mustache");
+        config.setLibrary("jersey2");
+        final TemplatePath main = locator.findTemplateFile(config, "api");
+        config.setLibrary("feign");
+        final TemplatePath feign = locator.findTemplateFile(config, "api");
+
+        assertTrue(main.getPath().endsWith("api.mustache"));
+        assertNotEquals(main, feign);
+        assertTrue(feign.getPath().contains("feign"));
+    }
+
+    @Test
+    public void testEmbeddedTemplates() throws Exception {
+        final TemplateLocator locator = new TemplateLocator("mustache");
+        final TemplatePath embedded = locator.findTemplateFile(config, "model");
+        assertNotNull(embedded);
+        assertSame(locator.findTemplateFile(config, "model"), embedded);
+    }
+}
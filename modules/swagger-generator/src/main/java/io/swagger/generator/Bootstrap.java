@@ -14,6 +14,8 @@
 
 package io.swagger.generator;
 
+import io.swagger.codegen.CodegenConfigRegistry;
+import io.swagger.generator.online.GenerationJobs;
 import org.apache.commons.io.IOUtils;
 
 import javax.servlet.ServletConfig;
@@ -50,5 +52,13 @@ public class Bootstrap extends HttpServlet {
         bc.setLicenseUrl("http://www.apache.org/licenses/LICENSE-2.0.html");
         bc.setResourcePackage("io.swagger.generator.resource");
         bc.setScan(true);
+
+        // have a config of each language ready before the first request
+        CodegenConfigRegistry.getInstance().warmUp();
+    }
+
+    @Override
+    public void destroy() {
+        GenerationJobs.getInstance().shutdown();
     }
 }
@@ -0,0 +1,9 @@
+package io.swagger.generator.exception;
+
+public class TooManyRequestsException extends ApiException {
+    private static final long serialVersionUID = 4301279465519186253L;
+
+    public TooManyRequestsException(String msg) {
+        super(429, msg);
+    }
+}
@@ -0,0 +1,101 @@
+package io.swagger.generator.model;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class JobStatus {
+    public enum State {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    private String id;
+    private String language;
+    private String type;
+    private State state;
+    private long submittedAt;
+    private Long queuedMillis;
+    private Long generationMillis;
+    private String error;
+    private String link;
+
+    @ApiModelProperty(value = "Job id", example = "d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @ApiModelProperty(value = "The target language or framework", example = "java")
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    @ApiModelProperty(value = "Whether a client or server is generated", allowableValues = "client,server")
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    @ApiModelProperty(value = "When the job was submitted, in milliseconds since the epoch")
+    public long getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(long submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    @ApiModelProperty(value = "How long the job waited for a worker, so far if it is still queued")
+    public Long getQueuedMillis() {
+        return queuedMillis;
+    }
+
+    public void setQueuedMillis(Long queuedMillis) {
+        this.queuedMillis = queuedMillis;
+    }
+
+    @ApiModelProperty(value = "How long the generation took, so far if it is still running")
+    public Long getGenerationMillis() {
+        return generationMillis;
+    }
+
+    public void setGenerationMillis(Long generationMillis) {
+        this.generationMillis = generationMillis;
+    }
+
+    @ApiModelProperty(value = "Why the job failed")
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @ApiModelProperty(
+            value = "URL for fetching the generated code, once the job succeeded",
+            example = "http://generator.swagger.io:80/api/gen/jobs/d40029be-eda6-4d62-b1ef-d05e2e91a72a/download")
+    public String getLink() {
+        return link;
+    }
+
+    public void setLink(String link) {
+        this.link = link;
+    }
+}
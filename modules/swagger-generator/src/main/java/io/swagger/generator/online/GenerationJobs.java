@@ -0,0 +1,308 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.exception.TooManyRequestsException;
+import io.swagger.generator.model.GeneratorInput;
+import io.swagger.generator.model.JobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates clients and servers in the background, so that requests don't wait for the generation.
+ *
+ * <p>Jobs are run by a fixed number of workers. Jobs waiting for a worker are queued up to a limit, beyond which new jobs
+ * are rejected, so that a burst of requests can't pile up work without bounds. The generated ZIP file of a job is kept
+ * for a while after it finished, then the job is forgotten. A result which is being downloaded is deleted once the
+ * download is complete.
+ */
+public class GenerationJobs {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationJobs.class);
+
+    private static volatile GenerationJobs instance;
+
+    private final ThreadPoolExecutor executor;
+    private final long retentionMillis;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<String, Job>();
+    private boolean shutDown;
+
+    /**
+     * @param executor runs the jobs, rejecting them when it is busy
+     * @param retentionMillis how long a finished job and its result are kept
+     */
+    GenerationJobs(ThreadPoolExecutor executor, long retentionMillis) {
+        this.executor = executor;
+        this.retentionMillis = retentionMillis;
+    }
+
+    /**
+     * Returns the jobs of this server, configured by environment variables: {@code GENERATOR_JOB_THREADS} sets the
+     * number of workers (the number of processors by default), {@code GENERATOR_JOB_QUEUE_SIZE} the number of jobs
+     * waiting for a worker (50 by default), and {@code GENERATOR_JOB_RETENTION} the number of seconds a finished job is
+     * kept (3600 by default).
+     *
+     * @return the jobs
+     */
+    public static GenerationJobs getInstance() {
+        if (instance == null) {
+            synchronized (GenerationJobs.class) {
+                if (instance == null) {
+                    int threads = (int) Generator.getLongFromEnvironment("GENERATOR_JOB_THREADS",
+                            Runtime.getRuntime().availableProcessors());
+                    int queueSize = (int) Generator.getLongFromEnvironment("GENERATOR_JOB_QUEUE_SIZE", 50);
+                    long retention = Generator.getLongFromEnvironment("GENERATOR_JOB_RETENTION", 3600);
+                    instance = new GenerationJobs(newExecutor(threads, queueSize), TimeUnit.SECONDS.toMillis(retention));
+                }
+            }
+        }
+        return instance;
+    }
+
+    static ThreadPoolExecutor newExecutor(int threads, int queueSize) {
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(Math.max(1, queueSize)), runnable -> {
+                    Thread thread = new Thread(runnable, "generator-job-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Submits a job, which validates the input when it runs.
+     *
+     * @param language the target language or framework
+     * @param opts the spec and options
+     * @param type whether to generate a client or server
+     * @return the status of the new job
+     * @throws TooManyRequestsException if too many jobs are waiting for a worker
+     */
+    public JobStatus submit(String language, GeneratorInput opts, Generator.Type type) throws TooManyRequestsException {
+        removeExpiredJobs();
+        final Job job = new Job(language, type);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, opts));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new TooManyRequestsException("Too many generation jobs are waiting, please try again later");
+        }
+        return job.getStatus();
+    }
+
+    /**
+     * @param id the id of a job
+     * @return the status of the job, or null if there is no such job
+     */
+    public JobStatus getStatus(String id) {
+        removeExpiredJobs();
+        Job job = jobs.get(id);
+        return job == null ? null : job.getStatus();
+    }
+
+    /**
+     * Returns the result of a job. The file is deleted when the job expires, use {@link #openResult(String)} to read it.
+     *
+     * @param id the id of a job
+     * @return the ZIP file generated by the job, or null if there is no such job or it didn't succeed
+     */
+    public File getResult(String id) {
+        Job job = jobs.get(id);
+        return job == null || job.state != JobStatus.State.SUCCEEDED ? null : job.result;
+    }
+
+    /**
+     * Opens the result of a job for reading. The result is kept until the stream is closed, even if the job expires in
+     * the meantime.
+     *
+     * @param id the id of a job
+     * @return the ZIP file generated by the job, or null if there is no such job or it didn't succeed
+     * @throws IOException if the file cannot be opened
+     */
+    public InputStream openResult(String id) throws IOException {
+        final Job job = jobs.get(id);
+        if (job == null || !job.acquireResult()) {
+            return null;
+        }
+        try {
+            return new FilterInputStream(new FileInputStream(job.result)) {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        if (!closed) {
+                            closed = true;
+                            job.releaseResult();
+                        }
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            job.releaseResult();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the workers, and deletes the results of all jobs once they are no longer read. Jobs still running delete
+     * their results when they finish.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            shutDown = true;
+        }
+        executor.shutdownNow();
+        for (Iterator<Job> it = jobs.values().iterator(); it.hasNext(); ) {
+            Job job = it.next();
+            it.remove();
+            job.expire();
+        }
+    }
+
+    private void run(Job job, GeneratorInput opts) {
+        job.startedAt = System.currentTimeMillis();
+        job.state = JobStatus.State.RUNNING;
+        File result = null;
+        try {
+            Generator.ZipGeneration generation = job.type == Generator.Type.CLIENT
+                    ? Generator.streamClient(job.language, opts)
+                    : Generator.streamServer(job.language, opts);
+            result = File.createTempFile("codegen-job-" + job.id, ".zip");
+            try (OutputStream out = new FileOutputStream(result)) {
+                generation.writeTo(out);
+            }
+            synchronized (this) {
+                if (!shutDown) {
+                    job.result = result;
+                    job.finish(JobStatus.State.SUCCEEDED, null);
+                    return;
+                }
+            }
+            // nobody is going to delete the result
+            delete(result);
+            job.finish(JobStatus.State.FAILED, "The generator was shut down");
+        } catch (ApiException e) {
+            delete(result);
+            job.finish(JobStatus.State.FAILED, e.getMessage());
+        } catch (Throwable e) {
+            // errors, too, must not leave the job running forever
+            LOGGER.error("Job " + job.id + " failed", e);
+            delete(result);
+            job.finish(JobStatus.State.FAILED, "Unable to build target: " + e.getMessage());
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+        }
+    }
+
+    private static void delete(File result) {
+        if (result != null && result.exists() && !result.delete()) {
+            LOGGER.warn("Unable to delete " + result);
+        }
+    }
+
+    private void removeExpiredJobs() {
+        final long expired = System.currentTimeMillis() - retentionMillis;
+        for (Iterator<Job> it = jobs.values().iterator(); it.hasNext(); ) {
+            Job job = it.next();
+            if (job.finishedAt != 0 && job.finishedAt < expired) {
+                it.remove();
+                job.expire();
+            }
+        }
+    }
+
+    private static class Job {
+        final String id = UUID.randomUUID().toString();
+        final String language;
+        final Generator.Type type;
+        final long submittedAt = System.currentTimeMillis();
+        volatile long startedAt;
+        volatile long finishedAt;
+        volatile JobStatus.State state = JobStatus.State.QUEUED;
+        volatile String error;
+        volatile File result;
+        private int readers;
+        private boolean expired;
+
+        Job(String language, Generator.Type type) {
+            this.language = language;
+            this.type = type;
+        }
+
+        void finish(JobStatus.State state, String error) {
+            this.error = error;
+            this.finishedAt = System.currentTimeMillis();
+            this.state = state;
+        }
+
+        /**
+         * Keeps the result from being deleted until {@link #releaseResult()} is called.
+         *
+         * @return false if the job has no result (any more)
+         */
+        synchronized boolean acquireResult() {
+            if (expired || state != JobStatus.State.SUCCEEDED || result == null) {
+                return false;
+            }
+            readers++;
+            return true;
+        }
+
+        synchronized void releaseResult() {
+            if (--readers == 0 && expired) {
+                delete(result);
+            }
+        }
+
+        /**
+         * Deletes the result, or lets the last reader delete it.
+         */
+        synchronized void expire() {
+            expired = true;
+            if (readers == 0) {
+                delete(result);
+            }
+        }
+
+        JobStatus getStatus() {
+            // the timestamps are written before the state changes
+            final JobStatus.State current = state;
+            final long now = System.currentTimeMillis();
+            final long started = startedAt;
+            final long finished = finishedAt;
+            final JobStatus status = new JobStatus();
+            status.setId(id);
+            status.setLanguage(language);
+            status.setType(type.getTypeName());
+            status.setState(current);
+            status.setSubmittedAt(submittedAt);
+            status.setQueuedMillis((started == 0 ? now : started) - submittedAt);
+            if (started != 0) {
+                status.setGenerationMillis((finished == 0 ? now : finished) - started);
+            }
+            status.setError(error);
+            return status;
+        }
+    }
+}
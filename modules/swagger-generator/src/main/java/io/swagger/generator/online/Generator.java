@@ -6,33 +6,45 @@ import io.swagger.generator.exception.ApiException;
 import io.swagger.generator.exception.BadRequestException;
 import io.swagger.generator.model.GeneratorInput;
 import io.swagger.generator.model.InputOption;
+import io.swagger.generator.util.ZipOutputSink;
 import io.swagger.generator.util.ZipUtil;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 import io.swagger.parser.SwaggerParser;
 import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 public class Generator {
     static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
+    private static final SwaggerCache SWAGGER_CACHE = SwaggerCache.fromEnvironment();
 
     public static Map<String, CliOption> getOptions(String language) throws ApiException {
-        CodegenConfig config = null;
-        try {
-            config = CodegenConfigLoader.forName(language);
-        } catch (Exception e) {
-            throw new BadRequestException(String.format("Unsupported target %s supplied. %s",
-                    language, e));
+        List<CliOption> options;
+        CodegenConfigRegistry.Entry entry = CodegenConfigRegistry.getInstance().getEntry(language);
+        if (entry != null) {
+            // the options of registered configs are known without creating one
+            options = entry.getCliOptions();
+        } else {
+            try {
+                options = CodegenConfigLoader.forName(language).cliOptions();
+            } catch (Exception e) {
+                throw new BadRequestException(String.format("Unsupported target %s supplied. %s",
+                        language, e));
+            }
         }
         Map<String, CliOption> map = new LinkedHashMap<String, CliOption>();
-        for (CliOption option : config.cliOptions()) {
+        for (CliOption option : options) {
             map.put(option.getOpt(), option);
         }
         return map;
@@ -60,8 +72,128 @@ public class Generator {
         return generate(language, opts, Type.SERVER);
     }
 
+    /**
+     * Validates the input for generating a client, which is only generated when the ZIP file is written.
+     *
+     * @param language the client language
+     * @param opts the spec and options
+     * @return the generation, to be written to a stream
+     * @throws ApiException if the input is not valid
+     */
+    public static ZipGeneration streamClient(String language, GeneratorInput opts) throws ApiException {
+        return stream(language, opts, Type.CLIENT);
+    }
+
+    /**
+     * Validates the input for generating a server, which is only generated when the ZIP file is written.
+     *
+     * @param language the server framework
+     * @param opts the spec and options
+     * @return the generation, to be written to a stream
+     * @throws ApiException if the input is not valid
+     */
+    public static ZipGeneration streamServer(String language, GeneratorInput opts) throws ApiException {
+        return stream(language, opts, Type.SERVER);
+    }
+
     private static String generate(String language, GeneratorInput opts, Type type)
             throws ApiException {
+        String destPath = getDestPath(language, opts, type);
+        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
+        String outputFilename = outputFolder + "-bundle.zip";
+
+        ClientOptInput clientOptInput = prepare(language, opts, type, outputFolder);
+
+        try {
+            List<File> files = new Codegen().opts(clientOptInput).generate();
+            if (files.size() > 0) {
+                List<File> filesToAdd = new ArrayList<File>();
+                LOGGER.debug("adding to " + outputFolder);
+                filesToAdd.add(new File(outputFolder));
+                ZipUtil zip = new ZipUtil();
+                zip.compressFiles(filesToAdd, outputFilename);
+            } else {
+                throw new BadRequestException(
+                        "A target generation was attempted, but no files were created!");
+            }
+            for (File file : files) {
+                try {
+                    file.delete();
+                } catch (Exception e) {
+                    LOGGER.error("unable to delete file " + file.getAbsolutePath());
+                }
+            }
+            try {
+                new File(outputFolder).delete();
+            } catch (Exception e) {
+                LOGGER.error("unable to delete output folder " + outputFolder);
+            }
+        } catch (Exception e) {
+            throw new BadRequestException("Unable to build target: " + e.getMessage());
+        }
+        return outputFilename;
+    }
+
+    private static ZipGeneration stream(String language, GeneratorInput opts, Type type)
+            throws ApiException {
+        String destPath = getDestPath(language, opts, type);
+        // never created, unless a generator writes files itself
+        File outputFolder = new File(new File(System.getProperty("java.io.tmpdir"),
+                "codegen-" + UUID.randomUUID() + "-tmp"), destPath);
+
+        ClientOptInput clientOptInput = prepare(language, opts, type, outputFolder.getAbsolutePath());
+        return new ZipGeneration(clientOptInput, outputFolder, destPath);
+    }
+
+    private static String getDestPath(String language, GeneratorInput opts, Type type) {
+        String destPath = null;
+
+        if (opts != null && opts.getOptions() != null) {
+            destPath = opts.getOptions().get("outputFolder");
+        }
+        if (destPath == null) {
+            destPath = language + "-" + type.getTypeName();
+        }
+        return destPath;
+    }
+
+    /**
+     * @param name the name of an environment variable
+     * @param defaultValue the value if the variable isn't set or invalid
+     * @return the value of the variable as number
+     */
+    static long getLongFromEnvironment(String name, long defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring invalid value of " + name + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    private static Swagger parse(JsonNode node, GeneratorInput opts) {
+        List<AuthorizationValue> authorizationValues = null;
+        if (opts.getAuthorizationValue() != null) {
+            authorizationValues = new ArrayList<AuthorizationValue>();
+            authorizationValues.add(opts.getAuthorizationValue());
+        }
+        if (node == null) {
+            if (authorizationValues != null) {
+                return new SwaggerParser().read(opts.getSwaggerUrl(), authorizationValues, true);
+            }
+            return new SwaggerParser().read(opts.getSwaggerUrl());
+        } else if (authorizationValues != null) {
+            return new SwaggerParser().read(node, authorizationValues, true);
+        }
+        return new SwaggerParser().read(node, true);
+    }
+
+    private static ClientOptInput prepare(String language, GeneratorInput opts, Type type, String outputFolder)
+            throws ApiException {
         LOGGER.debug(String.format("generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new BadRequestException("No options were supplied");
@@ -71,47 +203,19 @@ public class Generator {
             LOGGER.debug("ignoring empty spec");
             node = null;
         }
-        Swagger swagger;
-        if (node == null) {
-            if (opts.getSwaggerUrl() != null) {
-                if (opts.getAuthorizationValue() != null) {
-                    List<AuthorizationValue> authorizationValues =
-                            new ArrayList<AuthorizationValue>();
-                    authorizationValues.add(opts.getAuthorizationValue());
-
-                    swagger =
-                            new SwaggerParser().read(opts.getSwaggerUrl(), authorizationValues,
-                                    true);
-                } else {
-                    swagger = new SwaggerParser().read(opts.getSwaggerUrl());
-                }
-            } else {
-                throw new BadRequestException("No swagger specification was supplied");
-            }
-        } else if (opts.getAuthorizationValue() != null) {
-            List<AuthorizationValue> authorizationValues = new ArrayList<AuthorizationValue>();
-            authorizationValues.add(opts.getAuthorizationValue());
-            swagger = new SwaggerParser().read(node, authorizationValues, true);
-        } else {
-            swagger = new SwaggerParser().read(node, true);
+        if (node == null && opts.getSwaggerUrl() == null) {
+            throw new BadRequestException("No swagger specification was supplied");
         }
+        final JsonNode spec = node;
+        Swagger swagger = SWAGGER_CACHE.get(
+                SwaggerCache.key(spec, spec == null ? opts.getSwaggerUrl() : null, opts.getAuthorizationValue()),
+                () -> parse(spec, opts));
         if (swagger == null) {
             throw new BadRequestException("The swagger specification supplied was not valid");
         }
 
-        String destPath = null;
-
-        if (opts != null && opts.getOptions() != null) {
-            destPath = opts.getOptions().get("outputFolder");
-        }
-        if (destPath == null) {
-            destPath = language + "-" + type.getTypeName();
-        }
-
         ClientOptInput clientOptInput = new ClientOptInput();
         ClientOpts clientOpts = new ClientOpts();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
 
         clientOptInput.opts(clientOpts).swagger(swagger);
 
@@ -132,35 +236,54 @@ public class Generator {
         LOGGER.debug(Json.pretty(clientOpts));
 
         clientOptInput.setConfig(codegenConfig);
+        return clientOptInput;
+    }
 
-        try {
-            List<File> files = new Codegen().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<File>();
-                LOGGER.debug("adding to " + outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
-                throw new BadRequestException(
-                        "A target generation was attempted, but no files were created!");
-            }
-            for (File file : files) {
+    /**
+     * A validated generation, which renders each file straight into a ZIP stream when it is written.
+     */
+    public static class ZipGeneration {
+        private final ClientOptInput clientOptInput;
+        private final File outputFolder;
+        private final String rootFolder;
+
+        ZipGeneration(ClientOptInput clientOptInput, File outputFolder, String rootFolder) {
+            this.clientOptInput = clientOptInput;
+            this.outputFolder = outputFolder;
+            this.rootFolder = rootFolder;
+        }
+
+        /**
+         * Generates the files into a ZIP file. Can only be called once. If the generation fails, the ZIP file is left
+         * incomplete and {@code out} open, so that a reader of what was written so far can tell it is truncated.
+         *
+         * @param out receives the ZIP file, it is closed when done
+         * @throws ApiException if the generation fails or creates no files
+         * @throws IOException when writing fails
+         */
+        public void writeTo(OutputStream out) throws ApiException, IOException {
+            // not closed on failure, which would complete the ZIP file
+            ZipOutputSink sink = new ZipOutputSink(out, outputFolder, rootFolder);
+            try {
+                Codegen generator = new Codegen();
+                generator.setOutputSink(sink);
                 try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath());
+                    generator.opts(clientOptInput).generate();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Unable to build target " + rootFolder, e);
+                    throw new BadRequestException("Unable to build target: " + e.getMessage());
                 }
+                sink.addOutputDirectory();
+                if (sink.getEntryCount() == 0) {
+                    throw new BadRequestException("A target generation was attempted, but no files were created!");
+                }
+                sink.close();
+                LOGGER.debug("streamed " + sink.getEntryCount() + " files of " + rootFolder);
+            } finally {
+                // remove the files of generators which failed after writing files themselves
+                FileUtils.deleteQuietly(outputFolder.getParentFile());
             }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder);
-            }
-        } catch (Exception e) {
-            throw new BadRequestException("Unable to build target: " + e.getMessage());
         }
-        return outputFilename;
     }
 
     public static InputOption clientOptions(@SuppressWarnings("unused") String language) {
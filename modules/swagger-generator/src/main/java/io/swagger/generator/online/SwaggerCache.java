@@ -0,0 +1,122 @@
+package io.swagger.generator.online;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.swagger.codegen.manifest.InputFingerprint;
+import io.swagger.codegen.utils.SwaggerCopier;
+import io.swagger.models.Swagger;
+import io.swagger.models.auth.AuthorizationValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsed specs, so that generating several languages for the same spec parses and resolves it only once.
+ *
+ * <p>Specs are kept as parsed, and looked up by a hash of the spec, or its URL, and the authorization used to fetch it
+ * and its references. The least recently used spec is evicted when the cache is full, and every spec after a while, so
+ * that changes to remote specs are picked up. Each caller receives its own copy of the spec, as generating modifies it.
+ * Inline models are not flattened here: the generator flattens its copy after the language has preprocessed the spec,
+ * as it does for any other spec.
+ */
+final class SwaggerCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SwaggerCache.class);
+
+    private final Cache<String, Swagger> specs;
+
+    /**
+     * @param maximumSize the number of specs to keep, 0 to parse every spec
+     * @param expireAfterSeconds the number of seconds to keep a spec after parsing it
+     */
+    SwaggerCache(long maximumSize, long expireAfterSeconds) {
+        this.specs = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Creates a cache configured by the {@code GENERATOR_SPEC_CACHE_SIZE} and {@code GENERATOR_SPEC_CACHE_TTL}
+     * environment variables, which default to 32 specs and 300 seconds.
+     */
+    static SwaggerCache fromEnvironment() {
+        return new SwaggerCache(Generator.getLongFromEnvironment("GENERATOR_SPEC_CACHE_SIZE", 32),
+                Generator.getLongFromEnvironment("GENERATOR_SPEC_CACHE_TTL", 300));
+    }
+
+    /**
+     * @param spec the spec, or null if it is read from {@code url}
+     * @param url the URL of the spec, or null
+     * @param authorizationValue the authorization to fetch the spec and its references, or null
+     * @return the key of the spec
+     */
+    static String key(JsonNode spec, String url, AuthorizationValue authorizationValue) {
+        return new InputFingerprint()
+                .add(spec == null ? null : spec.toString())
+                .add(url)
+                .add(authorizationValue)
+                .toHex();
+    }
+
+    /**
+     * Returns a copy of the spec, parsing it first if it isn't cached.
+     *
+     * @param key the key of the spec, see {@link #key}
+     * @param parser parses the spec, returning null if it isn't valid
+     * @return a copy of the spec, or null if it isn't valid
+     */
+    Swagger get(String key, final Callable<Swagger> parser) {
+        final Swagger swagger;
+        try {
+            swagger = specs.get(key, new Callable<Swagger>() {
+                @Override
+                public Swagger call() throws Exception {
+                    Swagger parsed = parser.call();
+                    if (parsed == null) {
+                        throw new InvalidSpecException();
+                    }
+                    return parsed;
+                }
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof InvalidSpecException) {
+                return null;
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+
+        try {
+            return SwaggerCopier.copy(swagger);
+        } catch (IllegalArgumentException e) {
+            // every caller would modify the same spec
+            LOGGER.debug("Not caching spec: " + e.getMessage());
+            specs.invalidate(key);
+            try {
+                return parser.call();
+            } catch (RuntimeException re) {
+                throw re;
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+    }
+
+    /**
+     * @return the number of cached specs
+     */
+    long size() {
+        return specs.size();
+    }
+
+    private static class InvalidSpecException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -3,6 +3,7 @@ package io.swagger.generator.resource;
 import io.swagger.generator.exception.ApiException;
 import io.swagger.generator.exception.BadRequestException;
 import io.swagger.generator.exception.NotFoundException;
+import io.swagger.generator.exception.TooManyRequestsException;
 import io.swagger.generator.model.ApiResponse;
 import io.swagger.generator.util.ValidationException;
 
@@ -31,6 +32,9 @@ public class ExceptionWriter implements ExceptionMapper<Exception> {
         } else if (exception instanceof BadRequestException) {
             return Response.status(Status.BAD_REQUEST)
                     .entity(new ApiResponse(ApiResponse.ERROR, exception.getMessage())).build();
+        } else if (exception instanceof TooManyRequestsException) {
+            return Response.status(429)
+                    .entity(new ApiResponse(ApiResponse.TOO_BUSY, exception.getMessage())).build();
         } else if (exception instanceof ApiException) {
             return Response.status(Status.BAD_REQUEST)
                     .entity(new ApiResponse(ApiResponse.ERROR, exception.getMessage())).build();
@@ -0,0 +1,123 @@
+package io.swagger.generator.resource;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.generator.exception.NotFoundException;
+import io.swagger.generator.model.ApiResponse;
+import io.swagger.generator.model.GeneratorInput;
+import io.swagger.generator.model.JobStatus;
+import io.swagger.generator.online.GenerationJobs;
+import io.swagger.generator.online.Generator;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.InputStream;
+import java.net.URI;
+
+@Path("/gen/jobs")
+@Api(value = "/gen/jobs", description = "Resource for generating swagger components in the background")
+@SuppressWarnings("static-method")
+public class JobResource {
+
+    @POST
+    @Path("/clients/{language}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(
+            value = "Submits a job generating a client library",
+            notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The job is "
+                    + "queued, and its status can be polled with the returned id. Responds with status 429 if too "
+                    + "many jobs are waiting.",
+            response = JobStatus.class, code = 202, tags = "jobs")
+    public Response submitClientJob(
+            @Context HttpServletRequest request,
+            @ApiParam(value = "The target language for the client library", required = true) @PathParam("language") String language,
+            @ApiParam(value = "Configuration for building the client library", required = true) GeneratorInput opts)
+            throws Exception {
+
+        return accepted(request, GenerationJobs.getInstance().submit(language, opts, Generator.Type.CLIENT));
+    }
+
+    @POST
+    @Path("/servers/{framework}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(
+            value = "Submits a job generating a server library",
+            notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The job is "
+                    + "queued, and its status can be polled with the returned id. Responds with status 429 if too "
+                    + "many jobs are waiting.",
+            response = JobStatus.class, code = 202, tags = "jobs")
+    public Response submitServerJob(
+            @Context HttpServletRequest request,
+            @ApiParam(value = "framework", required = true) @PathParam("framework") String framework,
+            @ApiParam(value = "parameters", required = true) GeneratorInput opts) throws Exception {
+
+        return accepted(request, GenerationJobs.getInstance().submit(framework, opts, Generator.Type.SERVER));
+    }
+
+    @GET
+    @Path("/{jobId}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Returns the status of a job", notes = "Includes how long the job was queued and running.",
+            response = JobStatus.class, tags = "jobs")
+    public Response getJobStatus(
+            @Context HttpServletRequest request,
+            @ApiParam(value = "The id of the job", required = true) @PathParam("jobId") String jobId)
+            throws Exception {
+
+        return Response.ok().entity(withLink(request, getStatus(jobId))).build();
+    }
+
+    @GET
+    @Path("/{jobId}/download")
+    @Produces({"application/zip"})
+    @ApiOperation(value = "Downloads the code generated by a job",
+            notes = "Responds with status 409 if the job didn't succeed (yet).", response = String.class, tags = "jobs")
+    public Response downloadJobResult(
+            @ApiParam(value = "The id of the job", required = true) @PathParam("jobId") String jobId)
+            throws Exception {
+
+        JobStatus status = getStatus(jobId);
+        // the result is kept until the entity provider closes the stream
+        InputStream result = GenerationJobs.getInstance().openResult(jobId);
+        if (result == null) {
+            return Response.status(Response.Status.CONFLICT)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(new ApiResponse(ApiResponse.ERROR, "Job " + jobId + " is " + status.getState()))
+                    .build();
+        }
+        return Response
+                .ok(result, "application/zip")
+                .header("Content-Disposition",
+                        "attachment; filename=\"" + status.getLanguage() + "-" + status.getType() + "-generated.zip\"")
+                .build();
+    }
+
+    private static JobStatus getStatus(String jobId) throws NotFoundException {
+        JobStatus status = GenerationJobs.getInstance().getStatus(jobId);
+        if (status == null) {
+            throw new NotFoundException("Job " + jobId + " not found");
+        }
+        return status;
+    }
+
+    private static Response accepted(HttpServletRequest request, JobStatus status) {
+        return Response.accepted(status)
+                .location(URI.create(SwaggerResource.getHost(request) + "/api/gen/jobs/" + status.getId()))
+                .build();
+    }
+
+    private static JobStatus withLink(HttpServletRequest request, JobStatus status) {
+        if (status.getState() == JobStatus.State.SUCCEEDED) {
+            status.setLink(SwaggerResource.getHost(request) + "/api/gen/jobs/" + status.getId() + "/download");
+        }
+        return status;
+    }
+}
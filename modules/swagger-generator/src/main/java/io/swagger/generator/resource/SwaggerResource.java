@@ -4,9 +4,9 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.codegen.CliOption;
-import io.swagger.codegen.Codegen;
-import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigRegistry;
 import io.swagger.codegen.CodegenType;
+import io.swagger.generator.exception.ApiException;
 import io.swagger.generator.exception.BadRequestException;
 import io.swagger.generator.model.Generated;
 import io.swagger.generator.model.GeneratorInput;
@@ -20,6 +20,7 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import java.io.File;
 import java.util.*;
 
@@ -32,8 +33,7 @@ public class SwaggerResource {
     private static Map<String, Generated> fileMap = new HashMap<String, Generated>();
 
     static {
-        List<CodegenConfig> extensions = Codegen.getExtensions();
-        for (CodegenConfig config : extensions) {
+        for (CodegenConfigRegistry.Entry config : CodegenConfigRegistry.getInstance().getEntries()) {
             if (config.getTag().equals(CodegenType.CLIENT)
                     || config.getTag().equals(CodegenType.DOCUMENTATION)) {
                 clients.add(config.getName());
@@ -91,19 +91,7 @@ public class SwaggerResource {
             throws Exception {
 
         String filename = Generator.generateClient(language, opts);
-        String host = System.getenv("GENERATOR_HOST");
-
-        if (StringUtils.isBlank(host)) {
-            String scheme = request.getHeader("X-SSL");
-            String port = "";
-            if ("1".equals(scheme)) {
-                scheme = "https";
-            } else {
-                scheme = request.getScheme();
-                port = ":" + request.getServerPort();
-            }
-            host = scheme + "://" + request.getServerName() + port;
-        }
+        String host = getHost(request);
 
         if (filename != null) {
             String code = String.valueOf(UUID.randomUUID().toString());
@@ -119,6 +107,24 @@ public class SwaggerResource {
         }
     }
 
+    @POST
+    @Path("/clients/{language}/download")
+    @Produces({"application/zip"})
+    @ApiOperation(
+            value = "Generates a client library and downloads it right away",
+            notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The zip file "
+                    + "is streamed while the files are generated, without being kept for a later download. If the "
+                    + "generation fails after files were sent, the response is cut off.",
+            response = String.class, tags = "clients")
+    public Response downloadClient(
+            @ApiParam(value = "The target language for the client library", required = true) @PathParam("language") String language,
+            @ApiParam(value = "Configuration for building the client library", required = true) GeneratorInput opts)
+            throws Exception {
+
+        Generator.ZipGeneration generation = Generator.streamClient(language, opts);
+        return streamZip(generation, language + "-client");
+    }
+
     @GET
     @Path("/clients/{language}")
     @Produces({MediaType.APPLICATION_JSON})
@@ -177,6 +183,25 @@ public class SwaggerResource {
         return Response.ok().entity(languages).build();
     }
 
+    @POST
+    @Path("/servers/{framework}/download")
+    @Produces({"application/zip"})
+    @ApiOperation(
+            value = "Generates a server library and downloads it right away",
+            notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The zip file "
+                    + "is streamed while the files are generated, without being kept for a later download. If the "
+                    + "generation fails after files were sent, the response is cut off.",
+            response = String.class, tags = "servers")
+    public Response downloadServer(
+            @ApiParam(value = "framework", required = true) @PathParam("framework") String framework,
+            @ApiParam(value = "parameters", required = true) GeneratorInput opts) throws Exception {
+        if (framework == null) {
+            throw new BadRequestException("Framework is required");
+        }
+        Generator.ZipGeneration generation = Generator.streamServer(framework, opts);
+        return streamZip(generation, framework + "-server");
+    }
+
     @POST
     @Path("/servers/{framework}")
     @ApiOperation(
@@ -209,4 +234,38 @@ public class SwaggerResource {
             return Response.status(500).build();
         }
     }
+
+    static String getHost(HttpServletRequest request) {
+        String host = System.getenv("GENERATOR_HOST");
+
+        if (StringUtils.isBlank(host)) {
+            String scheme = request.getHeader("X-SSL");
+            String port = "";
+            if ("1".equals(scheme)) {
+                scheme = "https";
+            } else {
+                scheme = request.getScheme();
+                port = ":" + request.getServerPort();
+            }
+            host = scheme + "://" + request.getServerName() + port;
+        }
+        return host;
+    }
+
+    private static Response streamZip(final Generator.ZipGeneration generation, String friendlyName) {
+        // the input is validated already, each file is written to the response as soon as it is generated
+        StreamingOutput zip = output -> {
+            try {
+                generation.writeTo(output);
+            } catch (ApiException e) {
+                // still reported if nothing was sent yet, otherwise the response is cut off
+                throw new WebApplicationException(e.getMessage(), e, e.getCode());
+            }
+        };
+        return Response
+                .ok(zip, "application/zip")
+                .header("Content-Disposition",
+                        "attachment; filename=\"" + friendlyName + "-generated.zip\"")
+                .build();
+    }
 }
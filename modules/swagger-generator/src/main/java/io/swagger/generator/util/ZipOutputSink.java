@@ -0,0 +1,118 @@
+package io.swagger.generator.util;
+
+import io.swagger.codegen.AbstractGenerator;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes generated files straight into a ZIP stream, without any temporary files. The entries are named like the files
+ * relative to the output directory, within a root folder, as {@link ZipUtil} names them.
+ *
+ * <p>The content of each file is streamed into its entry while it is rendered. Files rendered concurrently are written
+ * one after the other.
+ */
+public class ZipOutputSink implements AbstractGenerator.OutputSink, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipOutputSink.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ZipOutputStream zip;
+    private final Path outputDirectory;
+    private final String rootFolder;
+    private final Set<String> entryNames = new HashSet<String>();
+
+    /**
+     * @param out receives the ZIP file, it is closed along with the sink
+     * @param outputDirectory the output directory of the generator
+     * @param rootFolder the folder containing all entries
+     */
+    public ZipOutputSink(OutputStream out, File outputDirectory, String rootFolder) {
+        this.zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        this.outputDirectory = outputDirectory.toPath().toAbsolutePath().normalize();
+        this.rootFolder = rootFolder;
+    }
+
+    @Override
+    public synchronized void write(File file, AbstractGenerator.FileContent contents) throws IOException {
+        if (!putNextEntry(file)) {
+            return;
+        }
+        final Writer writer = new OutputStreamWriter(new CloseShieldOutputStream(zip), StandardCharsets.UTF_8);
+        contents.writeTo(writer);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    /**
+     * Adds the files which were written to the output directory, bypassing the sink, and deletes them. Some generators
+     * write files themselves, like the spec in {@link io.swagger.codegen.CodegenConfig#processSwagger}.
+     *
+     * @throws IOException when reading or deleting the files fails
+     */
+    public synchronized void addOutputDirectory() throws IOException {
+        final File directory = outputDirectory.toFile();
+        if (!directory.isDirectory()) {
+            return;
+        }
+        for (File file : FileUtils.listFiles(directory, null, true)) {
+            // copied as is, since the files may be binary
+            if (putNextEntry(file)) {
+                Files.copy(file.toPath(), zip);
+                zip.closeEntry();
+            }
+        }
+        FileUtils.deleteDirectory(directory);
+    }
+
+    /**
+     * @return the number of entries written so far
+     */
+    public synchronized int getEntryCount() {
+        return entryNames.size();
+    }
+
+    /**
+     * @return false if there already is an entry for the file
+     */
+    private boolean putNextEntry(File file) throws IOException {
+        final String entryName = entryName(file);
+        if (!entryNames.add(entryName)) {
+            // entries can't be replaced, so the first version of a file wins
+            LOGGER.warn("Skipped writing " + entryName + " again");
+            return false;
+        }
+        zip.putNextEntry(new ZipEntry(entryName));
+        return true;
+    }
+
+    private String entryName(File file) {
+        final Path path = file.toPath().toAbsolutePath().normalize();
+        if (!path.startsWith(outputDirectory)) {
+            return rootFolder + "/" + file.getName();
+        }
+        return rootFolder + "/" + outputDirectory.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        zip.close();
+    }
+}
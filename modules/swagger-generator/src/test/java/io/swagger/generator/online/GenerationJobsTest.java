@@ -0,0 +1,148 @@
+package io.swagger.generator.online;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.generator.exception.TooManyRequestsException;
+import io.swagger.generator.model.GeneratorInput;
+import io.swagger.generator.model.JobStatus;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class GenerationJobsTest {
+
+    private ThreadPoolExecutor executor;
+    private GenerationJobs jobs;
+
+    @BeforeMethod
+    public void setUp() {
+        executor = GenerationJobs.newExecutor(1, 1);
+        jobs = new GenerationJobs(executor, TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        jobs.shutdown();
+    }
+
+    @Test
+    public void testJobGeneratesClient() throws Exception {
+        final JobStatus submitted = jobs.submit("java", petstoreInput(), Generator.Type.CLIENT);
+        assertEquals(submitted.getType(), "client");
+
+        final JobStatus status = await(submitted.getId());
+
+        assertEquals(status.getState(), JobStatus.State.SUCCEEDED, status.getError());
+        assertNotNull(status.getQueuedMillis());
+        assertNotNull(status.getGenerationMillis());
+        final File result = jobs.getResult(submitted.getId());
+        assertTrue(entries(result).contains("java-client/pom.xml"));
+
+        jobs.shutdown();
+        assertFalse(result.exists());
+    }
+
+    @Test
+    public void testResultIsKeptWhileItIsRead() throws Exception {
+        final String id = await(jobs.submit("java", petstoreInput(), Generator.Type.CLIENT).getId()).getId();
+        final File result = jobs.getResult(id);
+
+        try (ZipInputStream in = new ZipInputStream(jobs.openResult(id))) {
+            jobs.shutdown();
+            assertNull(jobs.openResult(id));
+            assertTrue(result.exists());
+            assertNotNull(in.getNextEntry());
+        }
+        assertFalse(result.exists());
+    }
+
+    @Test
+    public void testJobReportsInvalidInput() throws Exception {
+        final JobStatus status = await(jobs.submit("unknown", petstoreInput(), Generator.Type.SERVER).getId());
+
+        assertEquals(status.getState(), JobStatus.State.FAILED);
+        assertEquals(status.getError(), "Unsupported target unknown supplied");
+        assertNull(jobs.getResult(status.getId()));
+    }
+
+    @Test
+    public void testJobsAreRejectedWhenQueueIsFull() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final JobStatus queued = jobs.submit("java", petstoreInput(), Generator.Type.CLIENT);
+        assertEquals(jobs.getStatus(queued.getId()).getState(), JobStatus.State.QUEUED);
+
+        try {
+            jobs.submit("java", petstoreInput(), Generator.Type.CLIENT);
+            fail("the queue is full");
+        } catch (TooManyRequestsException e) {
+            assertEquals(e.getCode(), 429);
+        }
+
+        release.countDown();
+        assertEquals(await(queued.getId()).getState(), JobStatus.State.SUCCEEDED);
+    }
+
+    @Test
+    public void testUnknownJob() throws Exception {
+        assertNull(jobs.getStatus("unknown"));
+        assertNull(jobs.getResult("unknown"));
+        assertNull(jobs.openResult("unknown"));
+    }
+
+    private JobStatus await(String id) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2);
+        JobStatus status = jobs.getStatus(id);
+        while (status.getState() == JobStatus.State.QUEUED || status.getState() == JobStatus.State.RUNNING) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("job " + id + " didn't finish");
+            }
+            Thread.sleep(50);
+            status = jobs.getStatus(id);
+        }
+        return status;
+    }
+
+    private static Set<String> entries(File zip) throws IOException {
+        final Set<String> entries = new HashSet<String>();
+        try (ZipInputStream in = new ZipInputStream(new FileInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.add(entry.getName());
+            }
+        }
+        return entries;
+    }
+
+    private static GeneratorInput petstoreInput() throws IOException {
+        final GeneratorInput input = new GeneratorInput();
+        try (InputStream in = GenerationJobsTest.class.getClassLoader().getResourceAsStream("petstore.json")) {
+            input.setSpec(new ObjectMapper().readTree(in));
+        }
+        return input;
+    }
+}
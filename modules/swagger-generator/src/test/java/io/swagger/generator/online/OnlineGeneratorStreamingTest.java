@@ -0,0 +1,156 @@
+package io.swagger.generator.online;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigLoader;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.exception.BadRequestException;
+import io.swagger.generator.model.GeneratorInput;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class OnlineGeneratorStreamingTest {
+
+    @Test
+    public void streamClientTest() throws Exception {
+        final Map<String, String> entries = streamClient("java");
+
+        assertTrue(entries.containsKey("java-client/pom.xml"), entries.keySet().toString());
+        assertTrue(entries.containsKey("java-client/src/main/java/io/swagger/client/model/Pet.java"), entries.keySet().toString());
+        assertTrue(entries.get("java-client/src/main/java/io/swagger/client/model/Pet.java").contains("public class Pet"));
+    }
+
+    @Test
+    public void streamFilesWrittenByGeneratorTest() throws Exception {
+        // the swagger generator writes the spec itself, bypassing the generator's output
+        final Map<String, String> entries = streamClient("swagger");
+
+        assertTrue(entries.containsKey("swagger-client/swagger.json"), entries.keySet().toString());
+        assertTrue(entries.get("swagger-client/swagger.json").contains("Swagger Petstore"));
+    }
+
+    @Test
+    public void streamIsTruncatedOnFailureTest() throws Exception {
+        final File outputFolder = new File(Files.createTempDirectory("codegen-failure").toFile(), "java-client");
+        final CodegenConfig config = new JavaClientCodegen() {
+            @Override
+            public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+                // after the models and apis were written
+                throw new IllegalStateException("broken");
+            }
+        };
+        config.setOutputDir(outputFolder.getAbsolutePath());
+        final Generator.ZipGeneration generation = new Generator.ZipGeneration(new ClientOptInput()
+                .opts(new ClientOpts()).config(config).swagger(new SwaggerParser().read(petstoreInput().getSpec(), true)),
+                outputFolder, "java-client");
+
+        final File zip = File.createTempFile("codegen-failure", ".zip");
+        try {
+            try (OutputStream out = new FileOutputStream(zip)) {
+                generation.writeTo(out);
+                fail("the generation should fail");
+            } catch (BadRequestException e) {
+                assertEquals(e.getMessage(), "Unable to build target: broken");
+            }
+            // not completed, so it can't be mistaken for a valid ZIP file
+            try {
+                new ZipFile(zip).close();
+                fail("the ZIP file should be incomplete");
+            } catch (ZipException expected) {
+            }
+            assertFalse(outputFolder.getParentFile().exists());
+        } finally {
+            FileUtils.deleteQuietly(zip);
+            FileUtils.deleteQuietly(outputFolder.getParentFile());
+        }
+    }
+
+    @Test
+    public void streamMatchesDirectGenerationTest() throws Exception {
+        // jaxrs-spec writes the spec while preprocessing it, before its inline models are flattened
+        final JsonNode spec = new ObjectMapper().readTree("{\"swagger\": \"2.0\","
+                + " \"info\": {\"title\": \"Inline\", \"version\": \"1.0\"},"
+                + " \"paths\": {\"/pets\": {\"get\": {\"operationId\": \"listPets\","
+                + " \"responses\": {\"200\": {\"description\": \"ok\", \"schema\": {\"$ref\": \"#/definitions/Pet\"}}}}}},"
+                + " \"definitions\": {\"Pet\": {\"type\": \"object\", \"properties\": {"
+                + " \"owner\": {\"type\": \"object\", \"properties\": {\"name\": {\"type\": \"string\"}}}}}}}");
+        final GeneratorInput input = new GeneratorInput();
+        input.setSpec(spec);
+
+        final File outputFolder = Files.createTempDirectory("codegen-direct").toFile();
+        try {
+            final CodegenConfig config = CodegenConfigLoader.forName("jaxrs-spec");
+            config.setOutputDir(outputFolder.getAbsolutePath());
+            new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).config(config)
+                    .swagger(new SwaggerParser().read(spec, true))).generate();
+            final String expected = FileUtils.readFileToString(new File(outputFolder, "swagger.json"), "UTF-8");
+
+            // the second generation uses the cached spec
+            for (int i = 0; i < 2; i++) {
+                final Map<String, String> entries = entries(Generator.streamServer("jaxrs-spec", input));
+                assertEquals(entries.get("jaxrs-spec-server/swagger.json"), expected);
+            }
+        } finally {
+            FileUtils.deleteQuietly(outputFolder);
+        }
+    }
+
+    @Test(expectedExceptions = BadRequestException.class)
+    public void streamUnsupportedLanguageTest() throws Exception {
+        Generator.streamClient("unknown", petstoreInput());
+    }
+
+    private static Map<String, String> streamClient(String language) throws ApiException, IOException {
+        return entries(Generator.streamClient(language, petstoreInput()));
+    }
+
+    private static Map<String, String> entries(Generator.ZipGeneration generation) throws ApiException, IOException {
+        final ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        generation.writeTo(zip);
+
+        final Map<String, String> entries = new HashMap<String, String>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), IOUtils.toString(in, "UTF-8"));
+            }
+        }
+        assertEquals(entries.isEmpty(), false);
+        return entries;
+    }
+
+    private static GeneratorInput petstoreInput() throws IOException {
+        final GeneratorInput input = new GeneratorInput();
+        try (InputStream in = OnlineGeneratorStreamingTest.class.getClassLoader().getResourceAsStream("petstore.json")) {
+            input.setSpec(new ObjectMapper().readTree(in));
+        }
+        return input;
+    }
+}
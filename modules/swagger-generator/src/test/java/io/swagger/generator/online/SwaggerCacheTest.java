@@ -0,0 +1,131 @@
+package io.swagger.generator.online;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.codegen.utils.SwaggerCopier;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.RefModel;
+import io.swagger.models.Swagger;
+import io.swagger.models.auth.AuthorizationValue;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class SwaggerCacheTest {
+
+    @Test
+    public void testSpecIsParsedOnce() throws Exception {
+        final SwaggerCache cache = new SwaggerCache(4, 60);
+        final JsonNode spec = petstore();
+        final AtomicInteger parsed = new AtomicInteger();
+        final Callable<Swagger> parser = () -> {
+            parsed.incrementAndGet();
+            return new SwaggerParser().read(spec, true);
+        };
+
+        final Swagger first = cache.get(SwaggerCache.key(spec, null, null), parser);
+        first.getDefinitions().remove("Pet");
+        first.getInfo().setTitle("Modified");
+        final Swagger second = cache.get(SwaggerCache.key(petstore(), null, null), parser);
+
+        assertEquals(parsed.get(), 1);
+        assertNotSame(second, first);
+        assertTrue(second.getDefinitions().containsKey("Pet"));
+        assertEquals(second.getInfo().getTitle(), "Swagger Petstore");
+    }
+
+    @Test
+    public void testInvalidSpecIsNotCached() {
+        final SwaggerCache cache = new SwaggerCache(4, 60);
+        final AtomicInteger parsed = new AtomicInteger();
+        final Callable<Swagger> parser = () -> {
+            parsed.incrementAndGet();
+            return null;
+        };
+
+        assertNull(cache.get("invalid", parser));
+        assertNull(cache.get("invalid", parser));
+        assertEquals(parsed.get(), 2);
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testKeyDependsOnAuthorization() throws IOException {
+        final String url = "http://petstore.swagger.io/v2/swagger.json";
+        final AuthorizationValue header = new AuthorizationValue("Authorization", "Bearer a", "header");
+
+        assertEquals(SwaggerCache.key(null, url, header),
+                SwaggerCache.key(null, url, new AuthorizationValue("Authorization", "Bearer a", "header")));
+        assertNotEquals(SwaggerCache.key(null, url, header), SwaggerCache.key(null, url, null));
+        assertNotEquals(SwaggerCache.key(null, url, header),
+                SwaggerCache.key(null, url, new AuthorizationValue("Authorization", "Bearer b", "header")));
+        assertNotEquals(SwaggerCache.key(petstore(), null, null), SwaggerCache.key(null, url, null));
+    }
+
+    @Test
+    public void testCopyKeepsComposedModels() {
+        final Swagger swagger = composedSpec();
+        final Swagger copy = SwaggerCopier.copy(swagger);
+
+        assertEquals(Json.pretty(copy), Json.pretty(swagger));
+        final ComposedModel model = (ComposedModel) swagger.getDefinitions().get("Dog");
+        final ComposedModel copied = (ComposedModel) copy.getDefinitions().get("Dog");
+        assertNotSame(copied, model);
+        assertNotSame(copied.getChild(), model.getChild());
+        // not part of the JSON of a composed model
+        assertEquals(structure(copied), structure(model));
+    }
+
+    @Test
+    public void testCopyKeepsSharedReferences() {
+        final Swagger swagger = composedSpec();
+        swagger.getDefinitions().put("Pet", swagger.getDefinitions().get("Animal"));
+
+        final Swagger copy = SwaggerCopier.copy(swagger);
+
+        assertNotSame(copy.getDefinitions().get("Animal"), swagger.getDefinitions().get("Animal"));
+        assertSame(copy.getDefinitions().get("Pet"), copy.getDefinitions().get("Animal"));
+    }
+
+    private static String structure(ComposedModel model) {
+        final StringBuilder structure = new StringBuilder();
+        structure.append("parent=").append(model.getParent() == null ? null : model.getParent().getReference());
+        structure.append(" interfaces=");
+        if (model.getInterfaces() != null) {
+            for (RefModel ref : model.getInterfaces()) {
+                structure.append(ref.getSimpleRef()).append(',');
+            }
+        }
+        structure.append(" child=").append(model.getChild().getProperties().keySet());
+        return structure.toString();
+    }
+
+    private static Swagger composedSpec() {
+        return new SwaggerParser().parse("swagger: '2.0'\n"
+                + "info:\n  title: Composed\n  version: '1.0'\n"
+                + "paths: {}\n"
+                + "definitions:\n"
+                + "  Animal:\n    type: object\n    properties:\n      name:\n        type: string\n"
+                + "  Dog:\n    allOf:\n"
+                + "      - $ref: '#/definitions/Animal'\n"
+                + "      - type: object\n        properties:\n          bark:\n            type: boolean\n");
+    }
+
+    private static JsonNode petstore() throws IOException {
+        try (InputStream in = SwaggerCacheTest.class.getClassLoader().getResourceAsStream("petstore.json")) {
+            return new ObjectMapper().readTree(in);
+        }
+    }
+}
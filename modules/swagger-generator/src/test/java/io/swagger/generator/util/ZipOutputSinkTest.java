@@ -0,0 +1,60 @@
+package io.swagger.generator.util;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class ZipOutputSinkTest {
+
+    private File root;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("zip-output-sink").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        FileUtils.deleteQuietly(root);
+    }
+
+    @Test
+    public void testFilesWrittenByGeneratorAreCopiedAsIs() throws Exception {
+        final File outputDirectory = new File(root, "java-client");
+        // not valid UTF-8
+        final byte[] binary = {(byte) 0xff, (byte) 0xfe, 0, (byte) 0xc3, 0x28};
+        FileUtils.writeByteArrayToFile(new File(outputDirectory, "gradle/wrapper/gradle-wrapper.jar"), binary);
+
+        final ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputSink sink = new ZipOutputSink(zip, outputDirectory, "java-client")) {
+            sink.write(new File(outputDirectory, "README.md"), writer -> writer.write("# ä"));
+            sink.addOutputDirectory();
+            assertEquals(sink.getEntryCount(), 2);
+        }
+
+        final Map<String, byte[]> entries = new HashMap<String, byte[]>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), IOUtils.toByteArray(in));
+            }
+        }
+        assertEquals(entries.get("java-client/gradle/wrapper/gradle-wrapper.jar"), binary);
+        assertEquals(entries.get("java-client/README.md"), "# ä".getBytes("UTF-8"));
+        assertFalse(outputDirectory.exists());
+    }
+}